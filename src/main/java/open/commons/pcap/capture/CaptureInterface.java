@@ -0,0 +1,551 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 9:05:17
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.capture;
+
+import java.sql.Timestamp;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.pcap4j.core.NotOpenException;
+import org.pcap4j.core.PcapHandle;
+import org.pcap4j.core.PcapNativeException;
+import org.pcap4j.core.PcapStat;
+import org.pcap4j.core.RawPacketListener;
+import org.pcap4j.packet.IllegalRawDataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.pcap.dhcp.DhcpPacket;
+import open.commons.pcap.listener.DHCPPipelineListener;
+import open.commons.pcap.listener.DHCPRawListener;
+import open.commons.pcap.listener.Dispatcher;
+
+/**
+ * {@link DhcpCaptureManager}가 관리하는 하나의 네트워크 인터페이스.<br>
+ * 인터페이스마다 전용 캡처 Thread 와 큐({@link Dispatcher})를 가진다. 캡처 Thread 는 프레임에서 DHCP 메시지를 찾아 해석한 후 자신의 큐에 넣기만 하므로,
+ * 하나의 인터페이스에서 패킷이 몰리거나 큐가 가득 차더라도 다른 인터페이스의 캡처에는 영향을 주지 않는다.<br>
+ * 캡처 루프가 오류로 종료된 경우 그 원인을 {@link #getFailure()}로 확인할 수 있다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class CaptureInterface implements RawPacketListener {
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final int index;
+    private final String name;
+
+    private volatile PcapHandle handle;
+    private volatile Dispatcher<DhcpPacketEvent> dispatcher;
+    private volatile Thread thread;
+    /** 캡처 루프를 종료시킨 오류. 정상 동작 중이거나 {@link #stop(long)}으로 중단한 경우 <code>null</code> */
+    private volatile Exception failure;
+
+    /** 수신한 프레임 수 */
+    private final LongAdder received = new LongAdder();
+    /** DHCP 포트로 확인된 프레임 수 */
+    private final LongAdder matched = new LongAdder();
+    /** DHCP 포트로 확인되었으나 해석하지 못한 프레임 수 */
+    private final LongAdder malformed = new LongAdder();
+
+    /**
+     *
+     * @param index
+     *            인터페이스 번호
+     * @param name
+     *            인터페이스 이름
+     *
+     * @since 2026. 10. 17.
+     */
+    CaptureInterface(int index, String name) {
+        this.index = index;
+        this.name = name;
+    }
+
+    /**
+     * 리스너에게 전달한 패킷 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDeliveredCount() {
+        Dispatcher<DhcpPacketEvent> dispatcher = this.dispatcher;
+        return dispatcher != null ? dispatcher.getDeliveredCount() : 0;
+    }
+
+    /**
+     * 패킷을 리스너에게 전달하는 Dispatcher 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 시작하기 전에는 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public Dispatcher<DhcpPacketEvent> getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * 큐가 가득 차서 버린 패킷 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDroppedCount() {
+        Dispatcher<DhcpPacketEvent> dispatcher = this.dispatcher;
+        return dispatcher != null ? dispatcher.getDroppedCount() : 0;
+    }
+
+    /**
+     * 캡처 루프를 종료시킨 오류를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 캡처 중이거나 {@link #stop(long)}으로 중단한 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public Exception getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * 인터페이스 번호를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return {@link DhcpCaptureManager}에 추가된 순서. 0부터 시작한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * DHCP 포트로 확인되었으나 해석하지 못한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMalformedCount() {
+        return this.malformed.sum();
+    }
+
+    /**
+     * DHCP 포트로 확인된 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMatchedCount() {
+        return this.matched.sum();
+    }
+
+    /**
+     * 인터페이스 이름을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * 수신한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getReceivedCount() {
+        return this.received.sum();
+    }
+
+    /**
+     * 커널(libpcap)의 수신 통계를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 커널이 수신한 패킷 수, 버퍼가 부족하여 버린 패킷 수 등
+     * @throws PcapNativeException
+     * @throws NotOpenException
+     *             시작하기 전이거나 종료한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public PcapStat getStats() throws PcapNativeException, NotOpenException {
+        PcapHandle handle = this.handle;
+        if (handle == null) {
+            throw new NotOpenException("The capture has not been started.");
+        }
+        return handle.getStats();
+    }
+
+    /**
+     * 프레임에서 DHCP 메시지를 찾아 해석한 후 큐에 넣는다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link DHCPRawListener#decodeFrame(byte[], LongAdder)}로 지연 해석(lazy)
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임. pcap4j 가 패킷마다 새로 생성한 배열이므로 복사하지 않고 공유한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see org.pcap4j.core.RawPacketListener#gotPacket(byte[])
+     */
+    @Override
+    public void gotPacket(byte[] frame) {
+        this.received.increment();
+
+        try {
+            DhcpPacket packet = DHCPRawListener.decodeFrame(frame, this.matched);
+            if (packet == null) {
+                return;
+            }
+            this.dispatcher.dispatch(new DhcpPacketEvent(this.index, this.name, timestamp(), DHCPRawListener.outerVlanId(frame, frame.length),
+                    DHCPRawListener.innerVlanId(frame, frame.length), packet));
+        } catch (IllegalRawDataException e) {
+            this.malformed.increment();
+            logger.warn("Failed to decode a DHCP packet. interface={}, cause={}", this.name, e.getMessage());
+        }
+    }
+
+    /**
+     * 캡처 Thread 가 동작 중인지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 캡처 Thread 를 시작했고, 아직 종료하지 않은 경우 <code>true</code>. 오류로 종료한 경우 {@link #getFailure()}로 원인을 확인한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isCapturing() {
+        Thread thread = this.thread;
+        return thread != null && thread.isAlive();
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("CaptureInterface [index=");
+        builder.append(this.index);
+        builder.append(", name=");
+        builder.append(this.name);
+        builder.append(", received=");
+        builder.append(getReceivedCount());
+        builder.append(", matched=");
+        builder.append(getMatchedCount());
+        builder.append(", malformed=");
+        builder.append(getMalformedCount());
+        builder.append(", delivered=");
+        builder.append(getDeliveredCount());
+        builder.append(", dropped=");
+        builder.append(getDroppedCount());
+        builder.append(", failure=");
+        builder.append(this.failure);
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 캡처 루프를 실행한다. 캡처 Thread 에서 호출되며, {@link #stop(long)}이 호출되거나 오류가 발생할 때까지 반환하지 않는다. <br>
+     * 오류로 종료한 경우 {@link #getFailure()}로 원인을 제공한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			오류로 종료한 경우 원인 기록
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void capture() {
+        try {
+            this.handle.loop(-1, this);
+        } catch (InterruptedException e) {
+            // PcapHandle#breakLoop()
+            logger.info("Capture stopped. interface={}", this.name);
+        } catch (PcapNativeException | NotOpenException | RuntimeException e) {
+            this.failure = e;
+            logger.error("Capture failed. interface={}, cause={}", this.name, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 패킷을 수신한 시각을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link DHCPPipelineListener#toEpochNanos(Timestamp)} 사용
+     * </pre>
+     *
+     * @return epoch 기준 ns
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private long timestamp() {
+        return DHCPPipelineListener.toEpochNanos(this.handle.getTimestamp());
+    }
+
+    /**
+     * 장치를 닫는다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void close() {
+        PcapHandle handle = this.handle;
+        if (handle != null) {
+            handle.close();
+        }
+    }
+
+    /**
+     * 장치와 큐를 연결한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param handle
+     *            BPF 필터가 설치된 장치
+     * @param dispatcher
+     *            해석한 패킷을 넣을 큐
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void open(PcapHandle handle, Dispatcher<DhcpPacketEvent> dispatcher) {
+        this.handle = handle;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 캡처 Thread 를 시작한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param factory
+     *            캡처 Thread 를 생성할 {@link ThreadFactory}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void start(ThreadFactory factory) {
+        this.thread = factory.newThread(this::capture);
+        this.thread.start();
+    }
+
+    /**
+     * 캡처 루프를 중단하고 캡처 Thread 가 종료할 때까지 대기한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timeoutNanos
+     *            최대 대기 시간 (ns)
+     * @return 캡처 Thread 가 종료한 경우 <code>true</code>
+     * @throws InterruptedException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    boolean stop(long timeoutNanos) throws InterruptedException {
+        if (this.thread == null) {
+            return true;
+        }
+
+        try {
+            this.handle.breakLoop();
+        } catch (NotOpenException e) {
+            logger.warn("The device is already closed. interface={}", this.name);
+        }
+
+        TimeUnit.NANOSECONDS.timedJoin(this.thread, Math.max(timeoutNanos, 1L));
+        return !this.thread.isAlive();
+    }
+}
@@ -0,0 +1,664 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 9:20:36
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.capture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import org.pcap4j.core.NotOpenException;
+import org.pcap4j.core.PcapHandle;
+import org.pcap4j.core.PcapNativeException;
+import org.pcap4j.core.PcapNetworkInterface;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.concurrent.DefaultThreadFactory;
+import open.commons.core.concurrent.FixedThreadPoolService;
+import open.commons.core.utils.ExceptionUtils;
+import open.commons.pcap.listener.BoundedDispatcher;
+import open.commons.pcap.listener.ListenerRegistry;
+import open.commons.pcap.listener.OverflowPolicy;
+
+/**
+ * 여러 네트워크 인터페이스에서 DHCP 패킷을 동시에 캡처하여 하나의 리스너 목록에게 전달하는 관리자.<br>
+ * 인터페이스마다 {@link DhcpCaptureProfile}로 연 {@link PcapHandle}, 전용 캡처 Thread, 전용 큐({@link BoundedDispatcher})를 가지며, 모든 큐의 작업자는
+ * 같은 리스너 목록에게 {@link DhcpPacketEvent}를 전달한다.<br>
+ * 큐가 인터페이스별로 나뉘어 있으므로, 하나의 인터페이스에 패킷이 몰려 큐가 가득 차더라도 그 인터페이스의 패킷만 {@link OverflowPolicy}에 따라 처리되고, 다른
+ * 인터페이스의 캡처와 전달은 영향을 받지 않는다.<br>
+ * 리스너는 인터페이스마다 작업자 Thread 에서 동시에 호출되므로 thread-safe 해야 한다. 예외를 발생시킨 리스너는 해당 인터페이스의
+ * {@link BoundedDispatcher#getFailedCount()}에 포함된다.<br>
+ * 캡처 Thread 가 오류로 종료된 인터페이스는 {@link #getFailedInterfaces()}로 확인할 수 있다.
+ *
+ * <pre>
+ * DhcpCaptureManager manager = new DhcpCaptureManager(DhcpCaptureProfile.DEFAULT);
+ * manager.addInterface("eth1");
+ * manager.addInterface("eth2");
+ * manager.addListener(event -&gt; ...);
+ * manager.start();
+ * ...
+ * manager.shutdown(5, TimeUnit.SECONDS);
+ * </pre>
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see CaptureInterface
+ */
+public class DhcpCaptureManager {
+
+    /** 인터페이스별 기본 작업자 수 */
+    public static final int DEFAULT_WORKERS = 1;
+
+    /** 기본 처리 방식. 캡처 Thread 가 대기하지 않도록 새 패킷을 버린다. */
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP_NEWEST;
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final DhcpCaptureProfile profile;
+    /** 인터페이스별 작업자 수 */
+    private final int workers;
+    /** 인터페이스별 큐 크기 */
+    private final int queueCapacity;
+    private final OverflowPolicy policy;
+
+    /** 추가된 순서대로 관리하는 인터페이스 목록 */
+    private final List<CaptureInterface> interfaces = new ArrayList<>();
+
+    /** 등록된 리스너. 패킷을 전달할 때 잠금 없이 순회한다. */
+    private final ListenerRegistry<Consumer<DhcpPacketEvent>> listeners = new ListenerRegistry<>();
+
+    /** 모든 인터페이스의 큐 작업자를 실행하는 ThreadPool. 시작할 때 생성한다. */
+    private FixedThreadPoolService executor;
+
+    private volatile boolean started;
+    private volatile boolean running;
+
+    /**
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpCaptureManager() {
+        this(DhcpCaptureProfile.DEFAULT);
+    }
+
+    /**
+     *
+     * @param profile
+     *            인터페이스를 열 때 사용할 설정
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpCaptureManager(DhcpCaptureProfile profile) {
+        this(profile, DEFAULT_WORKERS, BoundedDispatcher.DEFAULT_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+    }
+
+    /**
+     *
+     * @param profile
+     *            인터페이스를 열 때 사용할 설정
+     * @param workers
+     *            인터페이스별 작업자 수
+     * @param queueCapacity
+     *            인터페이스별 큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식. {@link OverflowPolicy#BLOCK}인 경우 해당 인터페이스의 캡처 Thread 만 대기한다.
+     * @throws IllegalArgumentException
+     *             <code>workers</code> 또는 <code>queueCapacity</code> 가 1보다 작은 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpCaptureManager(DhcpCaptureProfile profile, int workers, int queueCapacity, OverflowPolicy policy) {
+        if (workers < 1 || queueCapacity < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "workers and queueCapacity MUST be greater than 0. workers=%,d, queueCapacity=%,d", workers,
+                    queueCapacity);
+        }
+
+        this.profile = profile;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.policy = policy;
+    }
+
+    /**
+     * 캡처할 인터페이스를 추가한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param nif
+     *            네트워크 인터페이스
+     * @return 인터페이스 번호. {@link DhcpPacketEvent#getInterfaceIndex()}로 전달된다.
+     * @throws IllegalStateException
+     *             이미 시작한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int addInterface(PcapNetworkInterface nif) {
+        return addInterface(nif.getName());
+    }
+
+    /**
+     * 캡처할 인터페이스를 추가한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param device
+     *            네트워크 인터페이스 이름
+     * @return 인터페이스 번호. {@link DhcpPacketEvent#getInterfaceIndex()}로 전달된다.
+     * @throws IllegalStateException
+     *             이미 시작한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public synchronized int addInterface(String device) {
+        if (this.started) {
+            throw new IllegalStateException("An interface can not be added after the capture has been started. device=" + device);
+        }
+
+        int index = this.interfaces.size();
+        this.interfaces.add(new CaptureInterface(index, device));
+        return index;
+    }
+
+    /**
+     * 리스너를 추가한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     *            리스너. 여러 인터페이스의 작업자 Thread 에서 동시에 호출되므로 thread-safe 해야 한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addListener(Consumer<DhcpPacketEvent> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * 모든 인터페이스에서 리스너에게 전달한 패킷 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDeliveredCount() {
+        return sum(CaptureInterface::getDeliveredCount);
+    }
+
+    /**
+     * 모든 인터페이스에서 큐가 가득 차서 버린 패킷 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDroppedCount() {
+        return sum(CaptureInterface::getDroppedCount);
+    }
+
+    /**
+     * 캡처 Thread 가 오류로 종료된 인터페이스 목록을 반환한다. 반환된 목록은 변경할 수 없다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 오류는 {@link CaptureInterface#getFailure()}로 확인한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public List<CaptureInterface> getFailedInterfaces() {
+        List<CaptureInterface> failed = new ArrayList<>();
+        for (CaptureInterface nif : getInterfaces()) {
+            if (nif.getFailure() != null) {
+                failed.add(nif);
+            }
+        }
+        return Collections.unmodifiableList(failed);
+    }
+
+    /**
+     * 인터페이스를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param index
+     *            인터페이스 번호
+     * @return
+     * @throws IndexOutOfBoundsException
+     *             <code>index</code> 에 해당하는 인터페이스가 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public synchronized CaptureInterface getInterface(int index) {
+        return this.interfaces.get(index);
+    }
+
+    /**
+     * 추가된 인터페이스 개수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public synchronized int getInterfaceCount() {
+        return this.interfaces.size();
+    }
+
+    /**
+     * 추가된 순서대로 인터페이스 목록을 반환한다. 반환된 목록은 변경할 수 없다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public synchronized List<CaptureInterface> getInterfaces() {
+        return Collections.unmodifiableList(new ArrayList<>(this.interfaces));
+    }
+
+    /**
+     * 모든 인터페이스에서 DHCP 포트로 확인된 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMatchedCount() {
+        return sum(CaptureInterface::getMatchedCount);
+    }
+
+    /**
+     * 인터페이스를 열 때 사용하는 설정을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpCaptureProfile getProfile() {
+        return this.profile;
+    }
+
+    /**
+     * 모든 인터페이스에서 수신한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getReceivedCount() {
+        return sum(CaptureInterface::getReceivedCount);
+    }
+
+    /**
+     * 캡처 중인지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			캡처 Thread 가 오류로 종료된 인터페이스가 있는 경우 false
+     * </pre>
+     *
+     * @return 시작한 후 종료하지 않았고, 모든 인터페이스의 캡처 Thread 가 동작 중인 경우 <code>true</code>. 오류로 종료된 인터페이스는
+     *         {@link #getFailedInterfaces()}로 확인한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isRunning() {
+        if (!this.running) {
+            return false;
+        }
+        for (CaptureInterface nif : getInterfaces()) {
+            if (nif.getFailure() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 리스너를 삭제한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     * @return 삭제한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean remove(Consumer<DhcpPacketEvent> listener) {
+        return this.listeners.remove(listener);
+    }
+
+    /**
+     * 모든 인터페이스의 캡처를 중단하고, 큐에 남은 패킷을 전달한 후 장치를 닫는다. <br>
+     * 주어진 시간 안에 캡처 Thread 가 종료되지 않은 인터페이스의 장치는 닫지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			캡처 Thread 가 종료되지 않은 장치는 닫지 않음
+     * </pre>
+     *
+     * @param timeout
+     *            전체 최대 대기 시간
+     * @param unit
+     *            시간 단위
+     * @return 주어진 시간 안에 모든 캡처 Thread 와 작업자가 종료된 경우 <code>true</code>
+     * @throws InterruptedException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public synchronized boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!this.running) {
+            return true;
+        }
+        this.running = false;
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean terminated = true;
+        boolean[] stopped = new boolean[this.interfaces.size()];
+        for (int i = 0; i < stopped.length; i++) {
+            stopped[i] = this.interfaces.get(i).stop(deadline - System.nanoTime());
+            terminated &= stopped[i];
+        }
+
+        for (CaptureInterface nif : this.interfaces) {
+            nif.getDispatcher().shutdown();
+        }
+        for (int i = 0; i < stopped.length; i++) {
+            CaptureInterface nif = this.interfaces.get(i);
+            terminated &= nif.getDispatcher().awaitTermination(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            // 캡처 Thread 가 아직 loop 안에 있는 경우 장치를 닫으면 native 자원을 해제한 후 접근할 수 있으므로 닫지 않는다.
+            if (stopped[i]) {
+                nif.close();
+            } else {
+                logger.warn("The capture thread did not exit in time. The handle is left open. interface={}", nif.getName());
+            }
+        }
+        this.executor.shutdown();
+
+        return terminated;
+    }
+
+    /**
+     * 모든 인터페이스를 열고 캡처를 시작한다. <br>
+     * 하나의 인터페이스라도 열 수 없는 경우, 이미 연 인터페이스를 모두 닫고 예외를 발생시킨다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			리스너 실패 횟수를 큐의 실패 통계에 반영
+     * </pre>
+     *
+     * @throws PcapNativeException
+     *             인터페이스를 열 수 없거나 BPF 필터를 설치할 수 없는 경우
+     * @throws NotOpenException
+     * @throws IllegalStateException
+     *             이미 시작했거나 추가된 인터페이스가 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public synchronized void start() throws PcapNativeException, NotOpenException {
+        if (this.started) {
+            throw new IllegalStateException("The capture has already been started.");
+        }
+        if (this.interfaces.isEmpty()) {
+            throw new IllegalStateException("No interface has been added.");
+        }
+
+        List<PcapHandle> handles = new ArrayList<>();
+        try {
+            for (CaptureInterface nif : this.interfaces) {
+                handles.add(this.profile.open(nif.getName()));
+            }
+        } catch (PcapNativeException | NotOpenException | RuntimeException e) {
+            handles.forEach(PcapHandle::close);
+            throw e;
+        }
+        this.started = true;
+
+        this.executor = new FixedThreadPoolService(this.interfaces.size() * this.workers, new DefaultThreadFactory("dhcp-capture-worker"));
+        // 리스너가 발생시킨 예외는 ListenerRegistry 가 처리하므로, 실패 횟수를 반환하여 큐의 실패 통계에 포함시킨다.
+        for (CaptureInterface nif : this.interfaces) {
+            BoundedDispatcher<DhcpPacketEvent> dispatcher = BoundedDispatcher.withHandler(this.executor, this.workers, this.queueCapacity, this.policy, this::fire);
+            dispatcher.start();
+            nif.open(handles.get(nif.getIndex()), dispatcher);
+        }
+
+        ThreadFactory captureThreads = new DefaultThreadFactory("dhcp-capture");
+        for (CaptureInterface nif : this.interfaces) {
+            nif.start(captureThreads);
+            logger.info("Capture started. interface={}, profile={}", nif.getName(), this.profile);
+        }
+        this.running = true;
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpCaptureManager [profile=");
+        builder.append(this.profile);
+        builder.append(", workers=");
+        builder.append(this.workers);
+        builder.append(", queueCapacity=");
+        builder.append(this.queueCapacity);
+        builder.append(", policy=");
+        builder.append(this.policy);
+        builder.append(", running=");
+        builder.append(this.running);
+        builder.append(", interfaces=");
+        builder.append(getInterfaces());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 등록된 모든 리스너에게 패킷을 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			예외를 발생시킨 리스너 개수 반환
+     * </pre>
+     *
+     * @param event
+     * @return 예외를 발생시킨 리스너 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private int fire(DhcpPacketEvent event) {
+        return this.listeners.fire(event, Consumer::accept);
+    }
+
+    /**
+     * 모든 인터페이스의 통계를 더한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param counter
+     *            인터페이스의 통계를 반환하는 함수
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private long sum(ToLongFunction<CaptureInterface> counter) {
+        long sum = 0;
+        for (CaptureInterface nif : getInterfaces()) {
+            sum += counter.applyAsLong(nif);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,679 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 8:38:15
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.capture;
+
+import org.pcap4j.core.BpfProgram.BpfCompileMode;
+import org.pcap4j.core.NotOpenException;
+import org.pcap4j.core.PcapHandle;
+import org.pcap4j.core.PcapHandle.TimestampPrecision;
+import org.pcap4j.core.PcapNativeException;
+import org.pcap4j.core.PcapNetworkInterface;
+import org.pcap4j.core.PcapNetworkInterface.PromiscuousMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * DHCP 패킷 캡처에 맞춘 {@link PcapHandle} 설정.<br>
+ * BPF 필터를 커널에 설치하여 DHCP 가 아닌 프레임은 JVM 으로 전달되지 않도록 하고, DHCP 메시지에 맞는 snaplen, 큰 커널 버퍼, immediate mode, ns 단위 timestamp
+ * 를 설정한다.
+ *
+ * <pre>
+ * PcapHandle handle = DhcpCaptureProfile.DEFAULT.open(nif);
+ * handle.loop(-1, new DHCPRawListener());
+ *
+  * // 802.1Q, QinQ VLAN 태그가 있는 미러 포트
+ * PcapHandle handle = new DhcpCaptureProfile.Builder().vlan(true).bufferSize(64 * 1024 * 1024).build().open(nif);
+ * </pre>
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpCaptureProfile {
+
+    /** DHCP(BOOTP) 패킷만 받는 BPF 필터 */
+    public static final String FILTER = "udp and (port 67 or port 68)";
+    /**
+     * VLAN 태그가 없거나 2개(QinQ)까지 있는 프레임의 DHCP(BOOTP) 패킷을 받는 BPF 필터.<br>
+     * libpcap 에서 'vlan' 이후의 표현식은 VLAN 태그 다음 위치를 기준으로 해석되므로, 태그가 적은 경우의 표현식을 먼저 작성한다.
+     */
+    public static final String VLAN_FILTER = FILTER + " or (vlan and (" + FILTER + " or (vlan and " + FILTER + ")))";
+
+    /** 기본 snaplen. Ethernet 헤더, VLAN 태그 2개, MTU 1500 bytes 의 IP 패킷을 모두 담을 수 있는 크기 */
+    public static final int DEFAULT_SNAPLEN = 1536;
+    /** 기본 커널 버퍼 크기 (16 MiB) */
+    public static final int DEFAULT_BUFFER_SIZE = 16 * 1024 * 1024;
+    /** 기본 읽기 대기 시간 (ms). immediate mode 를 사용하지 않는 경우에 적용된다. */
+    public static final int DEFAULT_TIMEOUT_MILLIS = 10;
+
+    /** VLAN 태그를 고려하지 않는 기본 설정 */
+    public static final DhcpCaptureProfile DEFAULT = new Builder().build();
+    /** VLAN 태그가 2개(QinQ)까지 있는 프레임도 받는 설정 */
+    public static final DhcpCaptureProfile VLAN = new Builder().vlan(true).build();
+
+    private static final Logger logger = LoggerFactory.getLogger(DhcpCaptureProfile.class);
+
+    /** libpcap <code>PCAP_ERROR_TSTAMP_PRECISION_NOTSUP</code>: 장치가 요청한 timestamp 정밀도를 지원하지 않음. */
+    private static final int PCAP_ERROR_TSTAMP_PRECISION_NOTSUP = -12;
+
+    private final int snaplen;
+    private final int bufferSize;
+    private final int timeoutMillis;
+    private final boolean promiscuous;
+    private final boolean immediateMode;
+    private final TimestampPrecision timestampPrecision;
+    private final boolean vlan;
+    /** 사용자가 지정한 BPF 필터. <code>null</code> 인 경우 {@link #vlan}에 따라 {@link #FILTER} 또는 {@link #VLAN_FILTER} */
+    private final String filter;
+
+    private DhcpCaptureProfile(Builder builder) {
+        this.snaplen = builder.snaplen;
+        this.bufferSize = builder.bufferSize;
+        this.timeoutMillis = builder.timeoutMillis;
+        this.promiscuous = builder.promiscuous;
+        this.immediateMode = builder.immediateMode;
+        this.timestampPrecision = builder.timestampPrecision;
+        this.vlan = builder.vlan;
+        this.filter = builder.filter;
+    }
+
+    /**
+     * 커널 버퍼 크기 (bytes)를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * 설치할 BPF 필터를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String getFilter() {
+        if (this.filter != null) {
+            return this.filter;
+        }
+        return this.vlan ? VLAN_FILTER : FILTER;
+    }
+
+    /**
+     * snaplen 을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getSnaplen() {
+        return this.snaplen;
+    }
+
+    /**
+     * 읽기 대기 시간 (ms)을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * timestamp 정밀도를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public TimestampPrecision getTimestampPrecision() {
+        return this.timestampPrecision;
+    }
+
+    /**
+     * immediate mode 사용 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isImmediateMode() {
+        return this.immediateMode;
+    }
+
+    /**
+     * promiscuous mode 사용 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isPromiscuous() {
+        return this.promiscuous;
+    }
+
+    /**
+     * VLAN 태그가 있는 프레임도 받는지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isVlan() {
+        return this.vlan;
+    }
+
+    /**
+     * 주어진 네트워크 인터페이스를 이 설정으로 열고 BPF 필터를 설치한다. <br>
+     * ns 단위 timestamp 를 지원하지 않는 장치인 경우에만 μs 단위로 다시 연다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param nif
+     *            네트워크 인터페이스
+     * @return BPF 필터가 설치된 {@link PcapHandle}
+     * @throws PcapNativeException
+     *             장치를 열 수 없거나 필터를 설치할 수 없는 경우
+     * @throws NotOpenException
+     *             필터를 설치하기 전에 장치가 닫힌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public PcapHandle open(PcapNetworkInterface nif) throws PcapNativeException, NotOpenException {
+        return open(nif.getName());
+    }
+
+    /**
+     * 주어진 이름의 네트워크 인터페이스를 이 설정으로 열고 BPF 필터를 설치한다. <br>
+     * ns 단위 timestamp 를 지원하지 않는 장치인 경우에만 μs 단위로 다시 열고, 그 밖의 오류(장치 없음, 권한 없음 등)는 그대로 전달한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			timestamp 정밀도 오류인 경우에만 μs 로 다시 열도록 수정
+     * </pre>
+     *
+     * @param device
+     *            네트워크 인터페이스 이름
+     * @return BPF 필터가 설치된 {@link PcapHandle}
+     * @throws PcapNativeException
+     *             장치를 열 수 없거나 필터를 설치할 수 없는 경우
+     * @throws NotOpenException
+     *             필터를 설치하기 전에 장치가 닫힌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public PcapHandle open(String device) throws PcapNativeException, NotOpenException {
+        PcapHandle handle;
+        try {
+            handle = newBuilder(device, this.timestampPrecision).build();
+        } catch (PcapNativeException e) {
+            if (this.timestampPrecision != TimestampPrecision.NANO || !isTimestampPrecisionNotSupported(e)) {
+                throw e;
+            }
+            logger.warn("The device does not support nanosecond timestamps. Falling back to microseconds. device={}, cause={}", device, e.getMessage());
+            handle = newBuilder(device, TimestampPrecision.MICRO).build();
+        }
+
+        try {
+            handle.setFilter(getFilter(), BpfCompileMode.OPTIMIZE);
+        } catch (PcapNativeException | NotOpenException | RuntimeException e) {
+            handle.close();
+            throw e;
+        }
+        return handle;
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpCaptureProfile [filter=");
+        builder.append(getFilter());
+        builder.append(", snaplen=");
+        builder.append(this.snaplen);
+        builder.append(", bufferSize=");
+        builder.append(this.bufferSize);
+        builder.append(", timeoutMillis=");
+        builder.append(this.timeoutMillis);
+        builder.append(", promiscuous=");
+        builder.append(this.promiscuous);
+        builder.append(", immediateMode=");
+        builder.append(this.immediateMode);
+        builder.append(", timestampPrecision=");
+        builder.append(this.timestampPrecision);
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * pcap4j 의 {@link PcapHandle.Builder}를 생성한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param device
+     * @param precision
+     *            timestamp 정밀도
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private PcapHandle.Builder newBuilder(String device, TimestampPrecision precision) {
+        return new PcapHandle.Builder(device) //
+                .snaplen(this.snaplen) //
+                .bufferSize(this.bufferSize) //
+                .timeoutMillis(this.timeoutMillis) //
+                .promiscuousMode(this.promiscuous ? PromiscuousMode.PROMISCUOUS : PromiscuousMode.NONPROMISCUOUS) //
+                .immediateMode(this.immediateMode) //
+                .timestampPrecision(precision);
+    }
+
+    /**
+     * 장치를 여는 중 발생한 오류가 timestamp 정밀도를 지원하지 않아서 발생한 것인지 여부를 반환한다. <br>
+     * libpcap 반환코드(<code>PCAP_ERROR_TSTAMP_PRECISION_NOTSUP</code>)를 우선 확인하고, 반환코드가 없는 경우 오류 메시지로 판단한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param e
+     *            장치를 여는 중 발생한 오류
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static boolean isTimestampPrecisionNotSupported(PcapNativeException e) {
+        Integer rc = e.getReturnCode();
+        if (rc != null) {
+            return rc == PCAP_ERROR_TSTAMP_PRECISION_NOTSUP;
+        }
+
+        String msg = e.getMessage();
+        if (msg == null) {
+            return false;
+        }
+        msg = msg.toLowerCase();
+        return msg.contains("time stamp precision") || msg.contains("timestamp precision");
+    }
+
+    /**
+     * {@link DhcpCaptureProfile}을 생성한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static final class Builder {
+
+        private int snaplen = DEFAULT_SNAPLEN;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private int timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        private boolean promiscuous = true;
+        private boolean immediateMode = true;
+        private TimestampPrecision timestampPrecision = TimestampPrecision.NANO;
+        private boolean vlan;
+        private String filter;
+
+        /**
+         *
+         * @since 2026. 10. 17.
+         */
+        public Builder() {
+        }
+
+        /**
+         * 설정을 생성한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         * @throws IllegalArgumentException
+         *             snaplen, bufferSize 가 1보다 작거나 timeoutMillis 가 0보다 작은 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public DhcpCaptureProfile build() {
+            if (this.snaplen < 1 || this.bufferSize < 1 || this.timeoutMillis < 0) {
+                throw ExceptionUtils.newException(IllegalArgumentException.class, "Invalid capture profile. snaplen=%,d, bufferSize=%,d, timeoutMillis=%,d", this.snaplen,
+                        this.bufferSize, this.timeoutMillis);
+            }
+            return new DhcpCaptureProfile(this);
+        }
+
+        /**
+         * 커널 버퍼 크기 (bytes)를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param bufferSize
+         *            커널 버퍼 크기. 캡처 Thread 가 잠시 지연되는 동안 도착한 패킷을 보관한다.
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * 기본 필터 대신 사용할 BPF 필터를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param filter
+         *            BPF 필터. <code>null</code> 인 경우 {@link DhcpCaptureProfile#FILTER} 또는 {@link DhcpCaptureProfile#VLAN_FILTER}
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder filter(String filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        /**
+         * immediate mode 사용 여부를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param immediateMode
+         *            <code>true</code> 인 경우 커널 버퍼가 차거나 대기 시간이 지나기를 기다리지 않고 패킷이 도착하는 즉시 전달한다.
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder immediateMode(boolean immediateMode) {
+            this.immediateMode = immediateMode;
+            return this;
+        }
+
+        /**
+         * promiscuous mode 사용 여부를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param promiscuous
+         *            미러 포트에서는 <code>true</code> 이어야 한다.
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder promiscuous(boolean promiscuous) {
+            this.promiscuous = promiscuous;
+            return this;
+        }
+
+        /**
+         * 캡처할 최대 프레임 길이를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param snaplen
+         *            snaplen
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder snaplen(int snaplen) {
+            this.snaplen = snaplen;
+            return this;
+        }
+
+        /**
+         * 읽기 대기 시간 (ms)을 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param timeoutMillis
+         *            읽기 대기 시간. immediate mode 를 사용하지 않는 경우에 적용된다.
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder timeoutMillis(int timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+            return this;
+        }
+
+        /**
+         * timestamp 정밀도를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param timestampPrecision
+         *            timestamp 정밀도
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder timestampPrecision(TimestampPrecision timestampPrecision) {
+            this.timestampPrecision = timestampPrecision;
+            return this;
+        }
+
+        /**
+         * VLAN 태그가 있는 프레임도 받는지 여부를 설정한다. <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param vlan
+         *            <code>true</code> 인 경우 {@link DhcpCaptureProfile#VLAN_FILTER}를 사용한다.
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public Builder vlan(boolean vlan) {
+            this.vlan = vlan;
+            return this;
+        }
+    }
+}
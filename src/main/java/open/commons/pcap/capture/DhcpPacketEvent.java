@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 8:52:41
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.capture;
+
+import open.commons.pcap.dhcp.DhcpPacket;
+import open.commons.pcap.listener.DHCPRawListener;
+
+/**
+ * 여러 네트워크 인터페이스에서 수신한 DHCP 패킷을 하나의 리스너에게 전달할 때 사용하는 이벤트.<br>
+ * 해석한 {@link DhcpPacket}과 함께 수신한 인터페이스의 번호, 이름, 수신 시각, VLAN ID 를 가진다. VLAN ID 는 primitive 값이므로 VLAN 별 통계를 낼 때 패킷을
+ * 다시 해석하지 않아도 된다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see DhcpCaptureManager
+ */
+public final class DhcpPacketEvent {
+
+    /** {@link DhcpCaptureManager}에 추가된 순서. 0부터 시작한다. */
+    private final int interfaceIndex;
+    private final String interfaceName;
+    /** epoch 기준 ns */
+    private final long timestamp;
+    /** 바깥쪽(첫번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN} */
+    private final int outerVlanId;
+    /** 안쪽(두번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN} */
+    private final int innerVlanId;
+    private final DhcpPacket packet;
+
+    /**
+     *
+     * @param interfaceIndex
+     *            인터페이스 번호
+     * @param interfaceName
+     *            인터페이스 이름
+     * @param timestamp
+     *            수신 시각 (epoch 기준 ns)
+     * @param packet
+     *            DHCP 패킷
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpPacketEvent(int interfaceIndex, String interfaceName, long timestamp, DhcpPacket packet) {
+        this(interfaceIndex, interfaceName, timestamp, DHCPRawListener.NO_VLAN, DHCPRawListener.NO_VLAN, packet);
+    }
+
+    /**
+     *
+     * @param interfaceIndex
+     *            인터페이스 번호
+     * @param interfaceName
+     *            인터페이스 이름
+     * @param timestamp
+     *            수신 시각 (epoch 기준 ns)
+     * @param outerVlanId
+     *            바깥쪽(첫번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     * @param innerVlanId
+     *            안쪽(두번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     * @param packet
+     *            DHCP 패킷
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpPacketEvent(int interfaceIndex, String interfaceName, long timestamp, int outerVlanId, int innerVlanId, DhcpPacket packet) {
+        this.interfaceIndex = interfaceIndex;
+        this.interfaceName = interfaceName;
+        this.timestamp = timestamp;
+        this.outerVlanId = outerVlanId;
+        this.innerVlanId = innerVlanId;
+        this.packet = packet;
+    }
+
+    /**
+     * 패킷을 수신한 인터페이스 번호를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return {@link DhcpCaptureManager}에 추가된 순서. 0부터 시작한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getInterfaceIndex() {
+        return this.interfaceIndex;
+    }
+
+    /**
+     * 패킷을 수신한 인터페이스 이름을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String getInterfaceName() {
+        return this.interfaceName;
+    }
+
+    /**
+     * 바깥쪽(첫번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOuterVlanId() {
+        return this.outerVlanId;
+    }
+
+    /**
+     * 안쪽(두번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 2개가 아닌 경우 {@link DHCPRawListener#NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getInnerVlanId() {
+        return this.innerVlanId;
+    }
+
+    /**
+     * DHCP 패킷을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacket getPacket() {
+        return this.packet;
+    }
+
+    /**
+     * 패킷을 수신한 시각을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return epoch 기준 ns
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpPacketEvent [interfaceIndex=");
+        builder.append(this.interfaceIndex);
+        builder.append(", interfaceName=");
+        builder.append(this.interfaceName);
+        builder.append(", timestamp=");
+        builder.append(this.timestamp);
+        builder.append(", outerVlanId=");
+        builder.append(this.outerVlanId);
+        builder.append(", innerVlanId=");
+        builder.append(this.innerVlanId);
+        builder.append(", packet=");
+        builder.append(this.packet);
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+package open.commons.pcap.capture;
\ No newline at end of file
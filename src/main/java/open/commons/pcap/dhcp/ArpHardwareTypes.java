@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 2:03:51
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import org.pcap4j.packet.namednumber.ArpHardwareType;
+
+/**
+ * DHCP 'htype' 필드(1 byte)의 모든 값에 해당하는 {@link ArpHardwareType}을 미리 찾아 두는 테이블.<br>
+ * {@link ArpHardwareType#getInstance(Short)}는 조회할 때마다 {@link Short}로 boxing 하여 Map 을 조회하고, 등록되지 않은 값은 매번 새로운 객체를 생성한다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class ArpHardwareTypes {
+
+    private static final ArpHardwareType[] table = new ArpHardwareType[256];
+    static {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = ArpHardwareType.getInstance((short) i);
+        }
+    }
+
+    private ArpHardwareTypes() {
+    }
+
+    /**
+     * 주어진 'htype' 값에 해당하는 객체를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param value
+     *            'htype' 필드 값 (부호 없는 1 byte)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static ArpHardwareType getInstance(byte value) {
+        return table[value & 0xFF];
+    }
+}
@@ -26,9 +26,6 @@
 
 package open.commons.pcap.dhcp;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.pcap4j.packet.namednumber.NamedNumber;
 
 import open.commons.core.utils.IntegerUtils;
@@ -46,10 +43,15 @@ public class DhcpHardwareLength extends NamedNumber<Byte, DhcpHardwareLength> {
 
     public static final DhcpHardwareLength ETHERNET_10MB = new DhcpHardwareLength((byte) 6, "10mb ethernet");
 
-    private static final Map<Byte, DhcpHardwareLength> registry = new HashMap<>();
-
+    /** byte 값 (0 ~ 255) 으로 찾는 등록된 객체. 등록되지 않은 경우 <code>null</code> */
+    private static final DhcpHardwareLength[] registry = new DhcpHardwareLength[256];
+    /** 등록되지 않은 byte 값에 해당하는 객체. 조회할 때마다 객체를 생성하지 않도록 미리 생성한다. */
+    private static final DhcpHardwareLength[] unknowns = new DhcpHardwareLength[256];
     static {
-        registry.put(ETHERNET_10MB.value(), ETHERNET_10MB);
+        for (int i = 0; i < unknowns.length; i++) {
+            unknowns[i] = new DhcpHardwareLength((byte) i, NumberUtils.hex(IntegerUtils.toHexString(i, 2)));
+        }
+        register(ETHERNET_10MB);
     }
 
     /**
@@ -125,11 +127,30 @@ public class DhcpHardwareLength extends NamedNumber<Byte, DhcpHardwareLength> {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
     public static DhcpHardwareLength getInstance(Byte value) {
-        if (registry.containsKey(value)) {
-            return registry.get(value);
-        } else {
-            return new DhcpHardwareLength(value, NumberUtils.hex(IntegerUtils.toHexString(value, 2)));
-        }
+        return getInstance(value.byteValue());
+    }
+
+    /**
+     * 주어진 값에 해당하는 객체를 반환한다. <br>
+     * 등록되지 않은 값도 미리 생성한 객체를 반환하므로, boxing 이나 객체 생성이 없다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param value
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpHardwareLength getInstance(byte value) {
+        DhcpHardwareLength registered = registry[value & 0xFF];
+        return registered != null ? registered : unknowns[value & 0xFF];
     }
 
     /**
@@ -151,7 +172,10 @@ public class DhcpHardwareLength extends NamedNumber<Byte, DhcpHardwareLength> {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
     public static DhcpHardwareLength register(DhcpHardwareLength opcode) {
-        return registry.put(opcode.value(), opcode);
+        int idx = opcode.value() & 0xFF;
+        DhcpHardwareLength prev = registry[idx];
+        registry[idx] = opcode;
+        return prev;
     }
 
 }
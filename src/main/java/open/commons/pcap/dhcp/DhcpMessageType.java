@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 2:03:51
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import org.pcap4j.packet.namednumber.NamedNumber;
+
+import open.commons.core.utils.IntegerUtils;
+import open.commons.core.utils.NumberUtils;
+
+/**
+ * DHCP Message Type (Option 53)
+ * 
+ * <pre>
+ * DhcpMessageType type = view.getOptions().getDhcpMessageType();
+ * </pre>
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * @see <a href="https://tools.ietf.org/html/rfc2132#section-9.6">RFC 2132</a>
+ * @see DhcpOptionCode#MESSAGE_TYPE
+ */
+public class DhcpMessageType extends NamedNumber<Byte, DhcpMessageType> {
+
+    private static final long serialVersionUID = -3917622650930761851L;
+
+    /** DHCPDISCOVER: 1 (RFC 2132) */
+    public static final DhcpMessageType DISCOVER = new DhcpMessageType((byte) 1, "DHCPDISCOVER");
+    /** DHCPOFFER: 2 (RFC 2132) */
+    public static final DhcpMessageType OFFER = new DhcpMessageType((byte) 2, "DHCPOFFER");
+    /** DHCPREQUEST: 3 (RFC 2132) */
+    public static final DhcpMessageType REQUEST = new DhcpMessageType((byte) 3, "DHCPREQUEST");
+    /** DHCPDECLINE: 4 (RFC 2132) */
+    public static final DhcpMessageType DECLINE = new DhcpMessageType((byte) 4, "DHCPDECLINE");
+    /** DHCPACK: 5 (RFC 2132) */
+    public static final DhcpMessageType ACK = new DhcpMessageType((byte) 5, "DHCPACK");
+    /** DHCPNAK: 6 (RFC 2132) */
+    public static final DhcpMessageType NAK = new DhcpMessageType((byte) 6, "DHCPNAK");
+    /** DHCPRELEASE: 7 (RFC 2132) */
+    public static final DhcpMessageType RELEASE = new DhcpMessageType((byte) 7, "DHCPRELEASE");
+    /** DHCPINFORM: 8 (RFC 2132) */
+    public static final DhcpMessageType INFORM = new DhcpMessageType((byte) 8, "DHCPINFORM");
+    /** DHCPFORCERENEW: 9 (RFC 3203) */
+    public static final DhcpMessageType FORCERENEW = new DhcpMessageType((byte) 9, "DHCPFORCERENEW");
+    /** DHCPLEASEQUERY: 10 (RFC 4388) */
+    public static final DhcpMessageType LEASEQUERY = new DhcpMessageType((byte) 10, "DHCPLEASEQUERY");
+    /** DHCPLEASEUNASSIGNED: 11 (RFC 4388) */
+    public static final DhcpMessageType LEASEUNASSIGNED = new DhcpMessageType((byte) 11, "DHCPLEASEUNASSIGNED");
+    /** DHCPLEASEUNKNOWN: 12 (RFC 4388) */
+    public static final DhcpMessageType LEASEUNKNOWN = new DhcpMessageType((byte) 12, "DHCPLEASEUNKNOWN");
+    /** DHCPLEASEACTIVE: 13 (RFC 4388) */
+    public static final DhcpMessageType LEASEACTIVE = new DhcpMessageType((byte) 13, "DHCPLEASEACTIVE");
+    /** DHCPBULKLEASEQUERY: 14 (RFC 6926) */
+    public static final DhcpMessageType BULKLEASEQUERY = new DhcpMessageType((byte) 14, "DHCPBULKLEASEQUERY");
+    /** DHCPLEASEQUERYDONE: 15 (RFC 6926) */
+    public static final DhcpMessageType LEASEQUERYDONE = new DhcpMessageType((byte) 15, "DHCPLEASEQUERYDONE");
+    /** DHCPACTIVELEASEQUERY: 16 (RFC 7724) */
+    public static final DhcpMessageType ACTIVELEASEQUERY = new DhcpMessageType((byte) 16, "DHCPACTIVELEASEQUERY");
+    /** DHCPLEASEQUERYSTATUS: 17 (RFC 7724) */
+    public static final DhcpMessageType LEASEQUERYSTATUS = new DhcpMessageType((byte) 17, "DHCPLEASEQUERYSTATUS");
+    /** DHCPTLS: 18 (RFC 7724) */
+    public static final DhcpMessageType TLS = new DhcpMessageType((byte) 18, "DHCPTLS");
+
+    /** byte 값 (0 ~ 255) 으로 찾는 등록된 객체. 등록되지 않은 경우 <code>null</code> */
+    private static final DhcpMessageType[] registry = new DhcpMessageType[256];
+    /** 등록되지 않은 byte 값에 해당하는 객체. 조회할 때마다 객체를 생성하지 않도록 미리 생성한다. */
+    private static final DhcpMessageType[] unknowns = new DhcpMessageType[256];
+    static {
+        for (int i = 0; i < unknowns.length; i++) {
+            unknowns[i] = new DhcpMessageType((byte) i, NumberUtils.hex(IntegerUtils.toHexString(i, 2)));
+        }
+        register(DISCOVER);
+        register(OFFER);
+        register(REQUEST);
+        register(DECLINE);
+        register(ACK);
+        register(NAK);
+        register(RELEASE);
+        register(INFORM);
+        register(FORCERENEW);
+        register(LEASEQUERY);
+        register(LEASEUNASSIGNED);
+        register(LEASEUNKNOWN);
+        register(LEASEACTIVE);
+        register(BULKLEASEQUERY);
+        register(LEASEQUERYDONE);
+        register(ACTIVELEASEQUERY);
+        register(LEASEQUERYSTATUS);
+        register(TLS);
+    }
+
+    /**
+     * @param value
+     * @param name
+     * @since 2026. 10. 17.
+     */
+    public DhcpMessageType(Byte value, String name) {
+        super(value, name);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param o
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see org.pcap4j.packet.namednumber.NamedNumber#compareTo(org.pcap4j.packet.namednumber.NamedNumber)
+     */
+    @Override
+    public int compareTo(DhcpMessageType o) {
+        return value().compareTo(o.value());
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see org.pcap4j.packet.namednumber.NamedNumber#valueAsString()
+     */
+    @Override
+    public String valueAsString() {
+        return String.valueOf(value() & 0xFF);
+    }
+
+    /**
+     * 주어진 값에 해당하는 객체를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param value
+     *            옵션 값 (부호 없는 1 byte)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * 
+     * @see #getInstance(byte)
+     */
+    public static DhcpMessageType getInstance(Byte value) {
+        return getInstance(value.byteValue());
+    }
+
+    /**
+     * 주어진 값에 해당하는 객체를 반환한다. <br>
+     * 등록되지 않은 값도 미리 생성한 객체를 반환하므로, boxing 이나 객체 생성이 없다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param value
+     *            옵션 값 (부호 없는 1 byte)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpMessageType getInstance(byte value) {
+        DhcpMessageType registered = registry[value & 0xFF];
+        return registered != null ? registered : unknowns[value & 0xFF];
+    }
+
+    /**
+     * 주어진 값에 해당하는 객체를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param value
+     *            옵션 값 (0 ~ 255). 예) {@link DhcpOptionIndex#getMessageType()}
+     * @return 옵션이 없는 경우(-1) 등 범위를 벗어나는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpMessageType getInstance(int value) {
+        return value >= 0 && value <= 0xFF ? getInstance((byte) value) : null;
+    }
+
+    /**
+     * 새로운 Message Type 을 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param type
+     * @return 이전에 등록된 객체. 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpMessageType register(DhcpMessageType type) {
+        int idx = type.value() & 0xFF;
+        DhcpMessageType prev = registry[idx];
+        registry[idx] = type;
+        return prev;
+    }
+}
@@ -26,9 +26,6 @@
 
 package open.commons.pcap.dhcp;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.pcap4j.packet.namednumber.NamedNumber;
 
 import open.commons.core.utils.IntegerUtils;
@@ -51,10 +48,16 @@ public class DhcpOpCode extends NamedNumber<Byte, DhcpOpCode> {
     /** REPLY: 2 */
     public static final DhcpOpCode REPLY = new DhcpOpCode((byte) 2, "BOOTREPLY");
 
-    private static final Map<Byte, DhcpOpCode> registry = new HashMap<>();
+    /** byte 값 (0 ~ 255) 으로 찾는 등록된 객체. 등록되지 않은 경우 <code>null</code> */
+    private static final DhcpOpCode[] registry = new DhcpOpCode[256];
+    /** 등록되지 않은 byte 값에 해당하는 객체. 조회할 때마다 객체를 생성하지 않도록 미리 생성한다. */
+    private static final DhcpOpCode[] unknowns = new DhcpOpCode[256];
     static {
-        registry.put(REQUEST.value(), REQUEST);
-        registry.put(REPLY.value(), REPLY);
+        for (int i = 0; i < unknowns.length; i++) {
+            unknowns[i] = new DhcpOpCode((byte) i, NumberUtils.hex(IntegerUtils.toHexString(i, 2)));
+        }
+        register(REQUEST);
+        register(REPLY);
     }
 
     /**
@@ -130,11 +133,30 @@ public class DhcpOpCode extends NamedNumber<Byte, DhcpOpCode> {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
     public static DhcpOpCode getInstance(Byte value) {
-        if (registry.containsKey(value)) {
-            return registry.get(value);
-        } else {
-            return new DhcpOpCode(value, NumberUtils.hex(IntegerUtils.toHexString(value, 2)));
-        }
+        return getInstance(value.byteValue());
+    }
+
+    /**
+     * 주어진 값에 해당하는 객체를 반환한다. <br>
+     * 등록되지 않은 값도 미리 생성한 객체를 반환하므로, boxing 이나 객체 생성이 없다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param value
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpOpCode getInstance(byte value) {
+        DhcpOpCode registered = registry[value & 0xFF];
+        return registered != null ? registered : unknowns[value & 0xFF];
     }
 
     /**
@@ -156,7 +178,10 @@ public class DhcpOpCode extends NamedNumber<Byte, DhcpOpCode> {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
     public static DhcpOpCode register(DhcpOpCode opcode) {
-        return registry.put(opcode.value(), opcode);
+        int idx = opcode.value() & 0xFF;
+        DhcpOpCode prev = registry[idx];
+        registry[idx] = opcode;
+        return prev;
     }
 
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 2:14:09
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+/**
+ * DHCP Option Code.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * @see <a href="https://tools.ietf.org/html/rfc2132">RFC 2132</a>
+ * @see <a href="https://www.iana.org/assignments/bootp-dhcp-parameters">BOOTP Vendor Extensions and DHCP Options</a>
+ */
+public class DhcpOptionCode {
+
+    /** Pad: 0 */
+    public static final int PAD = 0;
+    /** Subnet Mask: 1 */
+    public static final int SUBNET_MASK = 1;
+    /** Router: 3 */
+    public static final int ROUTER = 3;
+    /** Domain Name Server: 6 */
+    public static final int DOMAIN_NAME_SERVER = 6;
+    /** Host Name: 12 */
+    public static final int HOST_NAME = 12;
+    /** Domain Name: 15 */
+    public static final int DOMAIN_NAME = 15;
+    /** Broadcast Address: 28 */
+    public static final int BROADCAST_ADDRESS = 28;
+    /** Requested IP Address: 50 */
+    public static final int REQUESTED_IP_ADDRESS = 50;
+    /** IP Address Lease Time: 51 */
+    public static final int LEASE_TIME = 51;
+    /** Option Overload: 52 */
+    public static final int OPTION_OVERLOAD = 52;
+    /** DHCP Message Type: 53 */
+    public static final int MESSAGE_TYPE = 53;
+    /** Server Identifier: 54 */
+    public static final int SERVER_IDENTIFIER = 54;
+    /** Parameter Request List: 55 */
+    public static final int PARAMETER_REQUEST_LIST = 55;
+    /** Renewal (T1) Time Value: 58 */
+    public static final int RENEWAL_TIME = 58;
+    /** Rebinding (T2) Time Value: 59 */
+    public static final int REBINDING_TIME = 59;
+    /** Vendor class identifier: 60 */
+    public static final int VENDOR_CLASS_IDENTIFIER = 60;
+    /** Client-identifier: 61 */
+    public static final int CLIENT_IDENTIFIER = 61;
+    /** Relay Agent Information: 82 */
+    public static final int RELAY_AGENT_INFORMATION = 82;
+    /** End: 255 */
+    public static final int END = 255;
+
+    private DhcpOptionCode() {
+    }
+}
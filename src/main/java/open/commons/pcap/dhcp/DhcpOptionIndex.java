@@ -0,0 +1,1025 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 1:05:47
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.pcap4j.packet.IllegalRawDataException;
+
+import open.commons.pcap.dhcp.DhcpPacket.DhcpHeader;
+import open.commons.pcap.raw.ByteBufferUtils;
+import open.commons.pcap.raw.NulTerminatedStringUtils;
+
+/**
+ * DHCP Options 영역의 TLV(Code-Length-Value)를 한 번에 훑어서 각 옵션의 위치와 길이를 256개 슬롯의 배열에 기록하는 색인(index).<br>
+ * 색인 이후 {@link #hasOption(int)}, {@link #getOffset(int)}, {@link #getLength(int)}는 옵션 개수와 관계없이 상수 시간에 동작하며, Map
+ * 이나 옵션별 객체를 생성하지 않는다.
+ * 
+ * <pre>
+ * Options 영역의 구조 (RFC 2131 3. / RFC 2132 2.)
+ * +-----------------------+------+-----+-----------+------+-----+-----------+-----+-----+
+ * | magic cookie (4)      | code | len | value ... | code | len | value ... | ... | END |
+ * | 99 . 130 . 83 . 99    |      |     |           |      |     |           |     | 255 |
+ * +-----------------------+------+-----+-----------+------+-----+-----------+-----+-----+
+ * </pre>
+ * 
+ * {@link #indexMessage(ByteBuffer, int, int)}로 DHCP 메시지 전체를 색인하는 경우 Option Overload (52) 에 따라서 'file', 'sname' 필드의 옵션도
+ * 복사 없이 같은 순서(options, file, sname)로 색인한다.<br>
+ * 같은 옵션이 여러 번 나타나는 경우(RFC 3396) 처음 나타난 옵션만 기록한다.<br>
+ * 이 객체는 재사용을 전제로 하며 thread-safe 하지 않다. 색인한 버퍼의 내용이 변경되면 색인은 더 이상 유효하지 않다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ * @see <a href="https://tools.ietf.org/html/rfc2132">RFC 2132</a>
+ */
+public final class DhcpOptionIndex {
+
+    /** Magic Cookie: 99.130.83.99 */
+    public static final int MAGIC_COOKIE = 0x63825363;
+    /** Magic Cookie 길이 */
+    public static final int MAGIC_COOKIE_LENGTH = 4;
+
+    /** Option Overload (52): 'file' 필드에 옵션이 있음 */
+    public static final int OVERLOAD_FILE = 1;
+    /** Option Overload (52): 'sname' 필드에 옵션이 있음 */
+    public static final int OVERLOAD_SNAME = 2;
+    /** Option Overload (52): 'file', 'sname' 필드 모두 옵션이 있음 */
+    public static final int OVERLOAD_BOTH = OVERLOAD_FILE | OVERLOAD_SNAME;
+
+    private static final int SLOTS = 256;
+
+    /** 기록한 색인의 고정 영역 크기: flags(1), overload(1), count(1) */
+    private static final int ENCODED_HEADER_LENGTH = 3;
+    /** 기록한 색인의 옵션별 크기: code(1), offset(2), length(1) */
+    private static final int ENCODED_ENTRY_LENGTH = 4;
+    private static final int ENCODED_FLAG_VALID = 0x01;
+    private static final int ENCODED_FLAG_TRUNCATED = 0x02;
+
+    /** 옵션 값(value)의 버퍼 내 절대 위치 */
+    private final int[] offsets = new int[SLOTS];
+    /** 옵션 값(value)의 길이 */
+    private final int[] lengths = new int[SLOTS];
+    /** 슬롯이 유효한 색인 세대(generation). 슬롯을 매번 초기화하지 않기 위해서 사용한다. */
+    private final int[] generations = new int[SLOTS];
+    /** 나타난 순서대로 기록한 옵션 코드 */
+    private final int[] codes = new int[SLOTS];
+
+    /** 현재 색인 세대 */
+    private int generation;
+    /** 색인한 옵션 개수 */
+    private int count;
+    /** 색인한 버퍼 */
+    private ByteBuffer buffer;
+    /** Magic Cookie 가 올바른지 여부 */
+    private boolean valid;
+    /** 옵션의 길이가 영역을 벗어나서 색인을 중단했는지 여부 */
+    private boolean truncated;
+    /** Option Overload (52) 에 의해서 색인한 영역 */
+    private int overload;
+
+    /**
+     * @since 2026. 10. 17.
+     */
+    public DhcpOptionIndex() {
+    }
+
+    /**
+     * 색인한 옵션 중 <code>index</code> 번째 옵션 코드를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param index
+     *            0 ~ {@link #size()} - 1
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int codeAt(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + this.count);
+        }
+        return this.codes[index];
+    }
+
+    /**
+     * 색인한 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public ByteBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * DHCP Message Type (53) 을 {@link DhcpMessageType}으로 반환한다. <br>
+     * 등록되지 않은 값도 미리 생성한 객체를 반환하므로 객체를 생성하지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #getMessageType()
+     * @see DhcpMessageType#getInstance(byte)
+     */
+    public DhcpMessageType getDhcpMessageType() {
+        int type = getMessageType();
+        return type < 0 ? null : DhcpMessageType.getInstance((byte) type);
+    }
+
+    /**
+     * Host Name (12) 을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#HOST_NAME
+     */
+    public String getHostName() {
+        return getString(DhcpOptionCode.HOST_NAME, null);
+    }
+
+    /**
+     * 옵션 값(value) 앞 4 bytes 를 Big-Endian 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @param defaultValue
+     *            옵션이 없거나 길이가 맞지 않는 경우 반환할 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getInt(int code, int defaultValue) {
+        return hasOption(code) && this.lengths[code] >= 4 ? ByteBufferUtils.getInt(this.buffer, this.offsets[code]) : defaultValue;
+    }
+
+    /**
+     * IP Address Lease Time (51) 을 초 단위로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#LEASE_TIME
+     */
+    public long getLeaseTime() {
+        return getUnsignedInt(DhcpOptionCode.LEASE_TIME, -1L);
+    }
+
+    /**
+     * 옵션 값(value)의 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getLength(int code) {
+        return hasOption(code) ? this.lengths[code] : -1;
+    }
+
+    /**
+     * DHCP Message Type (53) 을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#MESSAGE_TYPE
+     */
+    public int getMessageType() {
+        return getUnsignedByte(DhcpOptionCode.MESSAGE_TYPE, -1);
+    }
+
+    /**
+     * 옵션 값(value)의 버퍼 내 절대 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOffset(int code) {
+        return hasOption(code) ? this.offsets[code] : -1;
+    }
+
+    /**
+     * Option Overload (52) 에 의해서 색인한 영역을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 0 또는 {@link #OVERLOAD_FILE}, {@link #OVERLOAD_SNAME}, {@link #OVERLOAD_BOTH}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #indexMessage(ByteBuffer, int, int)
+     */
+    public int getOverload() {
+        return this.overload;
+    }
+
+    /**
+     * Rebinding (T2) Time Value (59) 를 초 단위로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#REBINDING_TIME
+     */
+    public long getRebindingTime() {
+        return getUnsignedInt(DhcpOptionCode.REBINDING_TIME, -1L);
+    }
+
+    /**
+     * Renewal (T1) Time Value (58) 을 초 단위로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#RENEWAL_TIME
+     */
+    public long getRenewalTime() {
+        return getUnsignedInt(DhcpOptionCode.RENEWAL_TIME, -1L);
+    }
+
+    /**
+     * Requested IP Address (50) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 0 (0.0.0.0)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#REQUESTED_IP_ADDRESS
+     */
+    public int getRequestedIpAddress() {
+        return getInt(DhcpOptionCode.REQUESTED_IP_ADDRESS, 0);
+    }
+
+    /**
+     * Server Identifier (54) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 0 (0.0.0.0)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#SERVER_IDENTIFIER
+     */
+    public int getServerIdentifier() {
+        return getInt(DhcpOptionCode.SERVER_IDENTIFIER, 0);
+    }
+
+    /**
+     * 옵션 값을 NUL(0x00) 로 끝날 수 있는 UTF-8 문자열로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @param defaultValue
+     *            옵션이 없는 경우 반환할 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see NulTerminatedStringUtils#decode(ByteBuffer, int, int)
+     */
+    public String getString(int code, String defaultValue) {
+        return hasOption(code) ? NulTerminatedStringUtils.decode(this.buffer, this.offsets[code], this.lengths[code]) : defaultValue;
+    }
+
+    /**
+     * Subnet Mask (1) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 0 (0.0.0.0)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#SUBNET_MASK
+     */
+    public int getSubnetMask() {
+        return getInt(DhcpOptionCode.SUBNET_MASK, 0);
+    }
+
+    /**
+     * 옵션 값(value) 첫번째 바이트를 부호 없는 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @param defaultValue
+     *            옵션이 없거나 길이가 맞지 않는 경우 반환할 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getUnsignedByte(int code, int defaultValue) {
+        return hasOption(code) && this.lengths[code] >= 1 ? ByteBufferUtils.getUnsignedByte(this.buffer, this.offsets[code]) : defaultValue;
+    }
+
+    /**
+     * 옵션 값(value) 앞 4 bytes 를 Big-Endian, 부호 없는 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @param defaultValue
+     *            옵션이 없거나 길이가 맞지 않는 경우 반환할 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getUnsignedInt(int code, long defaultValue) {
+        return hasOption(code) && this.lengths[code] >= 4 ? ByteBufferUtils.getUnsignedInt(this.buffer, this.offsets[code]) : defaultValue;
+    }
+
+    /**
+     * 옵션 값(value) 앞 2 bytes 를 Big-Endian, 부호 없는 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @param defaultValue
+     *            옵션이 없거나 길이가 맞지 않는 경우 반환할 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getUnsignedShort(int code, int defaultValue) {
+        return hasOption(code) && this.lengths[code] >= 2 ? ByteBufferUtils.getUnsignedShort(this.buffer, this.offsets[code]) : defaultValue;
+    }
+
+    /**
+     * 옵션 존재 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean hasOption(int code) {
+        return code >= 0 && code < SLOTS && this.generation != 0 && this.generations[code] == this.generation;
+    }
+
+    /**
+     * Options 영역을 색인한다. <br>
+     * 이전 색인 결과는 모두 폐기된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼 (heap, direct 모두 가능)
+     * @param offset
+     *            Options 영역 시작 위치 (Magic Cookie 위치, 절대 위치)
+     * @param length
+     *            Options 영역 길이
+     * @return Magic Cookie 가 올바른지 여부. <code>false</code> 인 경우 아무 옵션도 색인되지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean index(ByteBuffer buffer, int offset, int length) {
+        clear();
+
+        this.buffer = buffer;
+
+        if (length < MAGIC_COOKIE_LENGTH || ByteBufferUtils.getInt(buffer, offset) != MAGIC_COOKIE) {
+            return false;
+        }
+        this.valid = true;
+
+        scan(buffer, offset + MAGIC_COOKIE_LENGTH, offset + length);
+
+        return true;
+    }
+
+    /**
+     * DHCP 메시지 전체를 색인한다. <br>
+     * Options 영역을 색인한 후, Option Overload (52) 가 있는 경우 'file', 'sname' 필드를 차례로 옵션 영역으로 색인한다. 이전 색인 결과는 모두 폐기된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼 (heap, direct 모두 가능)
+     * @param offset
+     *            DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @return Magic Cookie 가 올바른지 여부. <code>false</code> 인 경우 아무 옵션도 색인되지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see <a href="https://tools.ietf.org/html/rfc2131#section-4.1">RFC 2131 4.1</a>
+     */
+    public boolean indexMessage(ByteBuffer buffer, int offset, int length) {
+        if (length < DhcpHeader.OPTIONS_OFFSET) {
+            clear();
+            return false;
+        }
+
+        if (!index(buffer, offset + DhcpHeader.OPTIONS_OFFSET, length - DhcpHeader.OPTIONS_OFFSET)) {
+            return false;
+        }
+
+        int overload = getUnsignedByte(DhcpOptionCode.OPTION_OVERLOAD, 0) & OVERLOAD_BOTH;
+        // 'file' 필드를 먼저 해석한다.
+        if ((overload & OVERLOAD_FILE) != 0) {
+            scan(buffer, offset + DhcpHeader.BOOT_FILE_NAME_OFFSET, offset + DhcpHeader.BOOT_FILE_NAME_OFFSET + DhcpHeader.BOOT_FILE_NAME_HEADER_SIZE);
+        }
+        if ((overload & OVERLOAD_SNAME) != 0) {
+            scan(buffer, offset + DhcpHeader.SERVER_NAME_OFFSET, offset + DhcpHeader.SERVER_NAME_OFFSET + DhcpHeader.SERVER_NAME_HEADER_SIZE);
+        }
+        this.overload = overload;
+
+        return true;
+    }
+
+    /**
+     * Magic Cookie 가 올바른지 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isValid() {
+        return this.valid;
+    }
+
+    /**
+     * 옵션의 길이가 영역을 벗어나서 색인을 중단했는지 여부를 반환한다. 중단 이전의 옵션은 정상적으로 색인되어 있다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isTruncated() {
+        return this.truncated;
+    }
+
+    /**
+     * 옵션 값(value) 영역을 공유하는 읽기 전용 {@link ByteBuffer}를 반환한다. <br>
+     * 데이터를 복사하지 않지만 {@link ByteBuffer} 객체를 생성하므로, 할당이 없어야 하는 경우에는 {@link #getOffset(int)}, {@link #getLength(int)}를
+     * 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public ByteBuffer optionSlice(int code) {
+        if (!hasOption(code)) {
+            return null;
+        }
+
+        return ByteBufferUtils.slice(this.buffer, this.offsets[code], this.lengths[code]);
+    }
+
+    /**
+     * 색인한 옵션의 개수를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpOptionIndex [valid=");
+        builder.append(this.valid);
+        builder.append(", truncated=");
+        builder.append(this.truncated);
+        builder.append(", options=");
+        for (int i = 0; i < this.count; i++) {
+            int code = this.codes[i];
+            builder.append(i == 0 ? "" : ", ");
+            builder.append(code);
+            builder.append("(");
+            builder.append(this.lengths[code]);
+            builder.append(")");
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 이전 색인 결과를 폐기한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void clear() {
+        if (++this.generation == 0) {
+            // 세대 값이 한 바퀴 돈 경우에만 슬롯을 초기화한다.
+            Arrays.fill(this.generations, 0);
+            this.generation = 1;
+        }
+        this.count = 0;
+        this.buffer = null;
+        this.valid = false;
+        this.truncated = false;
+        this.overload = 0;
+    }
+
+    /**
+     * 옵션을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드
+     * @param offset
+     *            값(value)의 절대 위치
+     * @param length
+     *            값(value)의 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void put(int code, int offset, int length) {
+        if (this.generations[code] == this.generation) {
+            return;
+        }
+        this.generations[code] = this.generation;
+        this.offsets[code] = offset;
+        this.lengths[code] = length;
+        this.codes[this.count++] = code;
+    }
+
+    /**
+     * TLV 를 차례로 읽어서 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param pos
+     *            첫번째 옵션 위치
+     * @param end
+     *            영역의 끝 (exclusive)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void scan(ByteBuffer buffer, int pos, int end) {
+        while (pos < end) {
+            int code = buffer.get(pos) & 0xFF;
+            if (code == DhcpOptionCode.PAD) {
+                pos++;
+                continue;
+            }
+            if (code == DhcpOptionCode.END) {
+                return;
+            }
+            if (pos + 1 >= end) {
+                this.truncated = true;
+                return;
+            }
+            int len = buffer.get(pos + 1) & 0xFF;
+            int valueOffset = pos + 2;
+            if (valueOffset + len > end) {
+                this.truncated = true;
+                return;
+            }
+            put(code, valueOffset, len);
+            pos = valueOffset + len;
+        }
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer, int, int)}로 기록하는 색인의 크기를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    int encodedLength() {
+        return ENCODED_HEADER_LENGTH + this.count * ENCODED_ENTRY_LENGTH;
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer, int, int)}로 기록한 색인을 읽어서 다시 검색하지 않고 색인을 복원한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			색인 영역의 끝과 메시지 길이를 받아서 범위를 검사하고, PAD/END 항목을 거부함.
+     * </pre>
+     *
+     * @param src
+     *            색인을 기록한 버퍼
+     * @param index
+     *            색인 위치 (절대 위치)
+     * @param end
+     *            색인을 읽을 수 있는 영역의 끝 (절대 위치, 제외). 예) 레코드의 끝
+     * @param buffer
+     *            색인이 가리키는 DHCP 메시지 버퍼
+     * @param base
+     *            DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @return 읽은 byte 수
+     * @throws IllegalRawDataException
+     *             색인이 손상되었거나, 영역을 벗어나거나, 옵션이 메시지 영역을 벗어나거나, PAD(0)/END(255) 옵션을 포함한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    int readFrom(ByteBuffer src, int index, int end, ByteBuffer buffer, int base, int length) throws IllegalRawDataException {
+        clear();
+
+        if (end > src.limit()) {
+            end = src.limit();
+        }
+        if (index < 0 || index + ENCODED_HEADER_LENGTH > end) {
+            throw new IllegalRawDataException("The option index is truncated. index=" + index + ", end=" + end);
+        }
+        int flags = src.get(index) & 0xFF;
+        int overload = src.get(index + 1) & 0xFF;
+        int count = src.get(index + 2) & 0xFF;
+        int encodedLength = ENCODED_HEADER_LENGTH + count * ENCODED_ENTRY_LENGTH;
+        if (index + encodedLength > end) {
+            throw new IllegalRawDataException("The option index is truncated. index=" + index + ", count=" + count + ", end=" + end);
+        }
+
+        int messageEnd = base + length;
+        if (base < 0 || length < 0 || messageEnd > buffer.limit()) {
+            throw new IllegalRawDataException("The message is out of the buffer. base=" + base + ", length=" + length + ", limit=" + buffer.limit());
+        }
+
+        this.buffer = buffer;
+        this.valid = (flags & ENCODED_FLAG_VALID) != 0;
+        this.truncated = (flags & ENCODED_FLAG_TRUNCATED) != 0;
+        this.overload = overload & OVERLOAD_BOTH;
+
+        for (int i = 0, pos = index + ENCODED_HEADER_LENGTH; i < count; i++, pos += ENCODED_ENTRY_LENGTH) {
+            int code = src.get(pos) & 0xFF;
+            int offset = base + ByteBufferUtils.getUnsignedShort(src, pos + 1);
+            int len = src.get(pos + 3) & 0xFF;
+            if (code == DhcpOptionCode.PAD || code == DhcpOptionCode.END) {
+                clear();
+                throw new IllegalRawDataException("The option index has a PAD/END entry. code=" + code + ", entry=" + i);
+            }
+            if (offset < base || offset + len > messageEnd) {
+                clear();
+                throw new IllegalRawDataException("The option is out of the message. code=" + code + ", offset=" + offset + ", length=" + len + ", message.end=" + messageEnd);
+            }
+            put(code, offset, len);
+        }
+
+        return encodedLength;
+    }
+
+    /**
+     * 색인을 기록한다. 옵션 위치는 <code>base</code> 에 대한 상대 위치로 기록한다. <br>
+     * 
+     * <pre>
+     * 색인 형식
+     * +-------+----------+-------+----------------------------------------------+
+     * | flags | overload | count | entry(code(1), offset(2), length(1)) * count |
+     * +-------+----------+-------+----------------------------------------------+
+     * </pre>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            기록할 버퍼
+     * @param index
+     *            기록할 위치 (절대 위치)
+     * @param base
+     *            색인한 DHCP 메시지의 시작 위치 (절대 위치)
+     * @return 기록한 byte 수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    int writeTo(ByteBuffer dst, int index, int base) {
+        int flags = (this.valid ? ENCODED_FLAG_VALID : 0) | (this.truncated ? ENCODED_FLAG_TRUNCATED : 0);
+        dst.put(index, (byte) flags);
+        dst.put(index + 1, (byte) this.overload);
+        dst.put(index + 2, (byte) this.count);
+
+        int pos = index + ENCODED_HEADER_LENGTH;
+        for (int i = 0; i < this.count; i++, pos += ENCODED_ENTRY_LENGTH) {
+            int code = this.codes[i];
+            dst.put(pos, (byte) code);
+            ByteBufferUtils.putShort(dst, pos + 1, this.offsets[code] - base);
+            dst.put(pos + 3, (byte) this.lengths[code]);
+        }
+
+        return pos - index;
+    }
+}
@@ -26,13 +26,18 @@
 
 package open.commons.pcap.dhcp;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.pcap4j.packet.AbstractPacket;
 import org.pcap4j.util.ByteArrays;
 
-import open.commons.core.utils.ByteUtils;
-import open.commons.pcap.raw.ByteArrayValue;
+import open.commons.pcap.dhcp.DhcpPacket.DhcpHeader;
+import open.commons.pcap.raw.ByteBufferUtils;
 
 /**
  * 
@@ -47,14 +52,51 @@ public class DhcpOptions extends AbstractPacket {
      * @since 2020. 12. 21.
      */
     private static final long serialVersionUID = 8447984915514600000L;
-    private final byte[] rawData;
+
+    /**
+     * 옵션 영역 (Magic Cookie 포함). 위치 0 이 옵션 영역의 시작이다.<br>
+     * 직렬화할 때는 {@link DhcpPacketCodec} 레코드로 기록한다.
+     */
+    private transient ByteBuffer buffer;
+
+    /**
+     * 이 옵션을 포함하는 DHCP 메시지의 헤더. 옵션 색인을 헤더와 공유하여 Option Overload (52) 에 따라 'file', 'sname' 필드의 옵션을 함께 제공한다.
+     */
+    private final DhcpHeader header;
+
+    /** 옵션 색인. 처음 조회할 때 생성한다. */
+    private transient volatile DhcpOptionIndex index;
 
     /**
      * 
      * @since 2020. 12. 17.
      */
-    private DhcpOptions(byte[] rawData, int offset, int length) {
-        this.rawData = Arrays.copyOfRange(rawData, offset, offset + length);
+    private DhcpOptions(ByteBuffer buffer, DhcpHeader header) {
+        this.buffer = buffer;
+        this.header = header;
+    }
+
+    /**
+     * 옵션 영역(Magic Cookie 포함)을 복사하지 않고 공유하는 읽기 전용 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #slice(int, int)
+     * @see #optionSlice(int)
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return ByteBufferUtils.slice(this.buffer, 0, this.buffer.limit());
     }
 
     /**
@@ -65,6 +107,7 @@ public class DhcpOptions extends AbstractPacket {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2020. 12. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			DhcpPacketFormatter 로 변경
      * </pre>
      *
      * @return
@@ -76,20 +119,37 @@ public class DhcpOptions extends AbstractPacket {
      */
     @Override
     protected String buildString() {
-
-        StringBuffer sb = new StringBuffer();
-
-        sb.append("\n[DHCP Options (");
-        sb.append(this.rawData.length);
-        sb.append(" bytes)]");
-        sb.append("\n  Hex stream: ");
-        sb.append(ByteUtils.hexBinString(true, this.rawData));
-        sb.append("\n  Readable: ");
-        sb.append(ByteArrayValue.readAsString(this.rawData));
-
-        return sb.toString();
+        try {
+            return DhcpPacketFormatter.MULTI_LINE.formatOptions(new StringBuilder(1024), this.buffer, 0, this.buffer.limit()).toString();
+        } catch (IOException e) {
+            // StringBuilder 는 IOException 을 발생시키지 않는다.
+            throw new UncheckedIOException(e);
+        }
     };
 
+    /**
+     * 옵션 영역의 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see org.pcap4j.packet.AbstractPacket#calcLength()
+     */
+    @Override
+    protected int calcLength() {
+        return this.buffer.limit();
+    }
+
     /**
      * <br>
      * 
@@ -112,6 +172,126 @@ public class DhcpOptions extends AbstractPacket {
         return null;
     }
 
+    /**
+     * DHCP Message Type (53) 을 {@link DhcpMessageType}으로 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getDhcpMessageType()
+     */
+    public DhcpMessageType getDhcpMessageType() {
+        return getOptionIndex().getDhcpMessageType();
+    }
+
+    /**
+     * Host Name (12) 을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getHostName()
+     */
+    public String getHostName() {
+        return getOptionIndex().getHostName();
+    }
+
+    /**
+     * IP Address Lease Time (51) 을 초 단위로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getLeaseTime()
+     */
+    public long getLeaseTime() {
+        return getOptionIndex().getLeaseTime();
+    }
+
+    /**
+     * DHCP Message Type (53) 을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getMessageType()
+     */
+    public int getMessageType() {
+        return getOptionIndex().getMessageType();
+    }
+
+    /**
+     * 옵션 색인을 반환한다. 처음 호출할 때 Options 영역을 한 번 훑어서 색인을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex
+     */
+    public DhcpOptionIndex getOptionIndex() {
+        if (this.header != null) {
+            return this.header.getOptionIndex();
+        }
+
+        DhcpOptionIndex index = this.index;
+        if (index == null) {
+            index = new DhcpOptionIndex();
+            index.index(this.buffer, 0, this.buffer.limit());
+            this.index = index;
+        }
+        return index;
+    }
+
     /**
      * <br>
      * 
@@ -120,6 +300,7 @@ public class DhcpOptions extends AbstractPacket {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2020. 12. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			빈 배열 대신 옵션 영역 반환. DhcpHeader 는 옵션을 포함하지 않는다.
      * </pre>
      *
      * @return
@@ -128,14 +309,348 @@ public class DhcpOptions extends AbstractPacket {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      *
      * @see org.pcap4j.packet.AbstractPacket#getRawData()
+     * @see #asReadOnlyBuffer()
      */
     @Override
     public byte[] getRawData() {
-        return Arrays.copyOf(this.rawData, 0);
+        return ByteBufferUtils.copyOfRange(this.buffer, 0, this.buffer.limit());
+    }
+
+    /**
+     * Rebinding (T2) Time Value (59) 를 초 단위로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getRebindingTime()
+     */
+    public long getRebindingTime() {
+        return getOptionIndex().getRebindingTime();
+    }
+
+    /**
+     * Relay Agent Information (82) 를 해석하여 반환한다. <br>
+     * 호출할 때마다 새로운 객체를 생성하므로, 반복해서 사용하는 경우에는 {@link RelayAgentInformation#decode(DhcpOptionIndex)}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public RelayAgentInformation getRelayAgentInformation() {
+        RelayAgentInformation info = new RelayAgentInformation();
+        return info.decode(getOptionIndex()) ? info : null;
+    }
+
+    /**
+     * Renewal (T1) Time Value (58) 을 초 단위로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getRenewalTime()
+     */
+    public long getRenewalTime() {
+        return getOptionIndex().getRenewalTime();
+    }
+
+    /**
+     * Requested IP Address (50) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 0 (0.0.0.0)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getRequestedIpAddress()
+     */
+    public int getRequestedIpAddress() {
+        return getOptionIndex().getRequestedIpAddress();
+    }
+
+    /**
+     * Server Identifier (54) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 0 (0.0.0.0)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getServerIdentifier()
+     */
+    public int getServerIdentifier() {
+        return getOptionIndex().getServerIdentifier();
+    }
+
+    /**
+     * Subnet Mask (1) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 옵션이 없는 경우 0 (0.0.0.0)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getSubnetMask()
+     */
+    public int getSubnetMask() {
+        return getOptionIndex().getSubnetMask();
+    }
+
+    /**
+     * 옵션 존재 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#hasOption(int)
+     */
+    public boolean hasOption(int code) {
+        return getOptionIndex().hasOption(code);
+    }
+
+    /**
+     * {@link #getOptionIndex()}가 반환하는 위치의 영역을 복사하지 않고 공유하는 읽기 전용 버퍼를 반환한다. <br>
+     * 헤더가 있는 경우 색인은 Option Overload (52) 가 지정한 sname/file 영역을 포함하여 DHCP 메시지 시작 위치를 기준으로 하므로, 위치도 DHCP 메시지 시작 위치에 대한 상대 위치이다. 헤더가
+     * 없는 경우 옵션 영역 시작 위치에 대한 상대 위치이다.
+     * 
+     * <pre>
+     * DhcpOptionIndex index = options.getOptionIndex();
+     * ByteBuffer value = options.slice(index.getOffset(code), index.getLength(code));
+     * </pre>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link #getOptionIndex()}와 같은 기준 위치 사용
+     * </pre>
+     *
+     * @param offset
+     *            {@link DhcpOptionIndex#getOffset(int)}와 같은 기준의 위치
+     * @param length
+     *            길이
+     * @return
+     * @throws IndexOutOfBoundsException
+     *             영역이 색인한 버퍼를 벗어나는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public ByteBuffer slice(int offset, int length) {
+        if (this.header != null) {
+            return this.header.slice(offset, length);
+        }
+
+        ByteBufferUtils.validateBounds(this.buffer, offset, length);
+        return ByteBufferUtils.slice(this.buffer, offset, length);
+    }
+
+    /**
+     * 옵션 값(value) 영역을 공유하는 읽기 전용 {@link ByteBuffer}를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (0 ~ 255)
+     * @return 옵션이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#optionSlice(int)
+     */
+    public ByteBuffer optionSlice(int code) {
+        return getOptionIndex().optionSlice(code);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("The serialization proxy is required.");
+    }
+
+    /**
+     * 객체 그래프 대신 {@link DhcpPacketCodec} 레코드를 직렬화한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacketCodec.SerializedForm
+     */
+    private Object writeReplace() {
+        if (this.header != null) {
+            ByteBuffer message = this.header.buffer();
+            return new DhcpPacketCodec.SerializedForm(DhcpPacketCodec.SerializedForm.OPTIONS,
+                    DhcpPacketCodec.encode(DhcpPacketCodec.NO_TIMESTAMP, message, 0, message.limit(), null));
+        } else {
+            return new DhcpPacketCodec.SerializedForm(DhcpPacketCodec.SerializedForm.OPTIONS_ONLY,
+                    DhcpPacketCodec.encode(DhcpPacketCodec.NO_TIMESTAMP, this.buffer, 0, this.buffer.limit(), null));
+        }
     }
 
     public static DhcpOptions newPacket(byte[] rawData, int offset, int length) {
+        return newPacket(rawData, offset, length, null);
+    }
+
+    /**
+     * DHCP 메시지 헤더와 옵션 색인을 공유하는 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param rawData
+     * @param offset
+     * @param length
+     * @param header
+     *            DHCP 메시지 헤더. <code>null</code> 인 경우 옵션 영역만 색인한다.
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    static DhcpOptions newPacket(byte[] rawData, int offset, int length, DhcpHeader header) {
         ByteArrays.validateBounds(rawData, offset, length);
-        return new DhcpOptions(rawData, offset, length);
+        return new DhcpOptions(ByteBuffer.wrap(Arrays.copyOfRange(rawData, offset, offset + length)), header);
+    }
+
+    /**
+     * {@link ByteBuffer}의 position 부터 limit 까지의 데이터로 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            옵션 영역을 포함하는 버퍼
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #newPacket(ByteBuffer, int, int)
+     */
+    public static DhcpOptions newPacket(ByteBuffer buffer) {
+        return newPacket(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * {@link ByteBuffer}의 주어진 영역으로 객체를 생성한다. <br>
+     * 데이터를 복사하지 않고 주어진 영역을 공유하는 읽기 전용 버퍼를 보관한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            옵션 영역을 포함하는 버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpOptions newPacket(ByteBuffer buffer, int offset, int length) {
+        return newPacket(buffer, offset, length, null);
+    }
+
+    static DhcpOptions newPacket(ByteBuffer buffer, int offset, int length, DhcpHeader header) {
+        ByteBufferUtils.validateBounds(buffer, offset, length);
+        return new DhcpOptions(ByteBufferUtils.slice(buffer, offset, length), header);
     }
 }
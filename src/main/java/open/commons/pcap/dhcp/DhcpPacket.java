@@ -26,9 +26,13 @@
 
 package open.commons.pcap.dhcp;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 import org.pcap4j.packet.AbstractPacket;
 import org.pcap4j.packet.ChecksumBuilder;
@@ -38,12 +42,15 @@ import org.pcap4j.packet.Packet;
 import org.pcap4j.packet.namednumber.ArpHardwareType;
 import org.pcap4j.util.ByteArrays;
 
-import open.commons.core.utils.ArrayUtils;
 import open.commons.core.utils.ByteUtils;
 import open.commons.core.utils.ExceptionUtils;
 import open.commons.pcap.raw.ByteArrayInteger;
 import open.commons.pcap.raw.ByteArrayMAC;
 import open.commons.pcap.raw.ByteArrayString;
+import open.commons.pcap.raw.ByteArrayValue;
+import open.commons.pcap.raw.ByteBufferUtils;
+import open.commons.pcap.raw.IPv4Value;
+import open.commons.pcap.raw.MacValue;
 
 /**
  * 
@@ -60,20 +67,53 @@ public class DhcpPacket extends AbstractPacket {
 
     private DhcpPacket(Builder builder) {
         this.header = new DhcpHeader(builder, builder.options);
+        // 옵션은 헤더가 만든 메시지 버퍼를 공유한다.
+        ByteBuffer message = this.header.buffer();
         this.payload = builder.options != null //
-                ? DhcpOptions.newPacket(builder.options, 0, builder.options.length) //
+                ? DhcpOptions.newPacket(message, DhcpHeader.OPTIONS_OFFSET, message.limit() - DhcpHeader.OPTIONS_OFFSET, this.header) //
                 : null;
     }
 
-    private DhcpPacket(byte[] rawData, int offset, int length) throws IllegalRawDataException {
-        this.header = new DhcpHeader(rawData, offset, length);
+    private DhcpPacket(byte[] rawData, int offset, int length, boolean lazy) throws IllegalRawDataException {
+        this.header = new DhcpHeader(rawData, offset, length, lazy);
         int payloadLen = rawData.length - header.length() - offset;
         if (payloadLen < 0) {
             throw ExceptionUtils.newException(IllegalRawDataException.class, "The length of payload seems to be wrong. raw.length=%,d, offset=%,d, header.length=%,d",
                     rawData.length, offset, header.length());
         }
 
-        this.payload = DhcpOptions.newPacket(rawData, offset + DhcpHeader.OPTIONS_OFFSET, length - DhcpHeader.OPTIONS_OFFSET);
+        // 옵션은 헤더가 복사한 메시지 버퍼를 공유한다. 옵션 영역을 다시 복사하지 않는다.
+        ByteBuffer message = this.header.buffer();
+        this.payload = DhcpOptions.newPacket(message, DhcpHeader.OPTIONS_OFFSET, message.limit() - DhcpHeader.OPTIONS_OFFSET, this.header);
+    }
+
+    private DhcpPacket(ByteBuffer buffer, int offset, int length, boolean lazy) throws IllegalRawDataException {
+        this.header = new DhcpHeader(buffer, offset, length, lazy);
+        this.payload = DhcpOptions.newPacket(buffer, offset + DhcpHeader.OPTIONS_OFFSET, length - DhcpHeader.OPTIONS_OFFSET, this.header);
+    }
+
+    /**
+     * DHCP 메시지 전체(옵션 포함)를 복사하지 않고 공유하는 읽기 전용 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpHeader#asReadOnlyBuffer()
+     * @see DhcpOptions#asReadOnlyBuffer()
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        ByteBuffer buffer = this.header.buffer();
+        return ByteBufferUtils.slice(buffer, 0, buffer.limit());
     }
 
     /**
@@ -116,10 +156,32 @@ public class DhcpPacket extends AbstractPacket {
      * @see org.pcap4j.packet.AbstractPacket#getHeader()
      */
     @Override
-    public Header getHeader() {
+    public DhcpHeader getHeader() {
         return this.header;
     }
 
+    /**
+     * DHCP Options 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return Options 가 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #getPayload()
+     */
+    public DhcpOptions getOptions() {
+        return this.payload;
+    }
+
     /**
      * <br>
      * 
@@ -142,6 +204,32 @@ public class DhcpPacket extends AbstractPacket {
         return this.payload;
     }
 
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("The serialization proxy is required.");
+    }
+
+    /**
+     * 객체 그래프 대신 {@link DhcpPacketCodec} 레코드를 직렬화한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacketCodec.SerializedForm
+     */
+    private Object writeReplace() {
+        return new DhcpPacketCodec.SerializedForm(DhcpPacketCodec.SerializedForm.PACKET, DhcpPacketCodec.encode(DhcpPacketCodec.NO_TIMESTAMP, this, false));
+    }
+
     /**
      * DHCP 패킷을 생성한다. <br>
      * 
@@ -166,8 +254,129 @@ public class DhcpPacket extends AbstractPacket {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
     public static DhcpPacket newPacket(byte[] rawData, int offset, int length) throws IllegalRawDataException {
+        return newPacket(rawData, offset, length, false);
+    }
+
+    /**
+     * DHCP 패킷을 생성한다. <br>
+     * <code>lazy</code> 가 <code>true</code>인 경우 헤더의 각 필드는 처음 조회할 때 해석되고, 이후에는 해석된 값을 재사용한다. 'op', 'xid' 등 일부 필드만
+     * 확인하고 버리는 패킷이 많은 경우에 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param rawData
+     *            raw data
+     * @param offset
+     *            offset
+     * @param length
+     *            length
+     * @param lazy
+     *            헤더 필드 지연 해석 여부
+     * @return a new DHCP Packet
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpPacket newPacket(byte[] rawData, int offset, int length, boolean lazy) throws IllegalRawDataException {
         ByteArrays.validateBounds(rawData, offset, length);
-        return new DhcpPacket(rawData, offset, length);
+        return new DhcpPacket(rawData, offset, length, lazy);
+    }
+
+    /**
+     * {@link ByteBuffer}의 position 부터 limit 까지의 데이터로 DHCP 패킷을 생성한다. <br>
+     * 버퍼의 position 은 변경하지 않는다. 헤더 필드는 처음 조회할 때 해석한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			헤더 필드 지연 해석을 기본으로 변경
+     * </pre>
+     *
+     * @param buffer
+     *            DHCP 메시지를 포함하는 버퍼
+     * @return a new DHCP Packet
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #newPacket(ByteBuffer, int, int, boolean)
+     */
+    public static DhcpPacket newPacket(ByteBuffer buffer) throws IllegalRawDataException {
+        return newPacket(buffer, buffer.position(), buffer.remaining(), true);
+    }
+
+    /**
+     * {@link ByteBuffer}의 주어진 영역으로 DHCP 패킷을 생성한다. <br>
+     * 헤더 필드는 처음 조회할 때 해석한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			헤더 필드 지연 해석을 기본으로 변경
+     * </pre>
+     *
+     * @param buffer
+     *            DHCP 메시지를 포함하는 버퍼
+     * @param offset
+     *            offset (절대 위치)
+     * @param length
+     *            length
+     * @return a new DHCP Packet
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #newPacket(ByteBuffer, int, int, boolean)
+     */
+    public static DhcpPacket newPacket(ByteBuffer buffer, int offset, int length) throws IllegalRawDataException {
+        return newPacket(buffer, offset, length, true);
+    }
+
+    /**
+     * {@link ByteBuffer}의 주어진 영역으로 DHCP 패킷을 생성한다. <br>
+     * 데이터를 복사하지 않고 주어진 영역을 공유하는 읽기 전용 버퍼를 보관하므로, Direct Buffer 나 Memory-Mapped 파일로부터 heap 으로 복사하지 않고 해석할 수 있다.
+     * 대신 패킷을 사용하는 동안 버퍼의 해당 영역을 변경하거나 재사용해서는 안된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            DHCP 메시지를 포함하는 버퍼
+     * @param offset
+     *            offset (절대 위치)
+     * @param length
+     *            length
+     * @param lazy
+     *            헤더 필드 지연 해석 여부
+     * @return a new DHCP Packet
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpPacket newPacket(ByteBuffer buffer, int offset, int length, boolean lazy) throws IllegalRawDataException {
+        ByteBufferUtils.validateBounds(buffer, offset, length);
+        return new DhcpPacket(buffer, offset, length, lazy);
     }
 
     public static final class Builder extends AbstractBuilder implements LengthBuilder<DhcpPacket>, ChecksumBuilder<DhcpPacket> {
@@ -254,22 +463,32 @@ public class DhcpPacket extends AbstractPacket {
          */
         private byte[] options;
 
+        /**
+         * 빈 Builder 를 생성한다. 모든 헤더 필드를 설정한 후 {@link #build()}를 호출한다.
+         *
+         * @since 2026. 10. 17.
+         *
+         * @see DhcpPacketWriter
+         */
+        public Builder() {
+        }
+
         public Builder(DhcpPacket packet) {
-            this.op = packet.header.op;
-            this.htype = packet.header.htype;
-            this.hlen = packet.header.hlen;
-            this.hops = packet.header.hops;
-            this.xid = packet.header.xid;
-            this.secs = packet.header.secs;
-            this.flags = packet.header.flags;
-            this.ciaddr = packet.header.ciaddr;
-            this.yiaddr = packet.header.yiaddr;
-            this.siaddr = packet.header.siaddr;
-            this.giaddr = packet.header.giaddr;
-            this.chaddr = packet.header.chaddr;
-            this.sname = packet.header.sname;
-            this.file = packet.header.file;
-            this.options = packet.header.options;
+            this.op = packet.header.getOp();
+            this.htype = packet.header.getHtype();
+            this.hlen = packet.header.getHlen();
+            this.hops = packet.header.getHops();
+            this.xid = packet.header.getXid();
+            this.secs = packet.header.getSecs();
+            this.flags = packet.header.getFlags();
+            this.ciaddr = packet.header.getCiaddr();
+            this.yiaddr = packet.header.getYiaddr();
+            this.siaddr = packet.header.getSiaddr();
+            this.giaddr = packet.header.getGiaddr();
+            this.chaddr = packet.header.getChaddr();
+            this.sname = packet.header.getSname();
+            this.file = packet.header.getFile();
+            this.options = packet.header.options();
         }
 
         /**
@@ -358,8 +577,8 @@ public class DhcpPacket extends AbstractPacket {
          */
         @Override
         public ChecksumBuilder<DhcpPacket> correctChecksumAtBuild(boolean correctChecksumAtBuild) {
-            // Not supported
-            return null;
+            // DHCP 메시지에는 checksum, length 필드가 없으므로 설정할 것이 없다.
+            return this;
         }
 
         /**
@@ -382,8 +601,8 @@ public class DhcpPacket extends AbstractPacket {
          */
         @Override
         public LengthBuilder<DhcpPacket> correctLengthAtBuild(boolean correctLengthAtBuild) {
-            // Not supported
-            return null;
+            // DHCP 메시지에는 checksum, length 필드가 없으므로 설정할 것이 없다.
+            return this;
         }
 
         /**
@@ -824,6 +1043,9 @@ public class DhcpPacket extends AbstractPacket {
         /** Header Index: Options (options) / up to ... */
         public static final int OPTIONS_OFFSET = BOOT_FILE_NAME_OFFSET + BOOT_FILE_NAME_HEADER_SIZE;
 
+        /** Option Overload (52) 에 의해서 옵션으로 사용되는 'sname', 'file' 필드의 표현 */
+        private static final Function<byte[], String> EXPR_OVERLOADED = bs -> "(option overload)";
+
         /**
          * <pre>
          * Message op code / message type.
@@ -833,28 +1055,28 @@ public class DhcpPacket extends AbstractPacket {
          * @see #OP_CODE_HEADER_SIZE
          * @see #OP_CODE_OFFSET
          */
-        private final DhcpOpCode op;
+        private transient DhcpOpCode op;
         /**
          * Hardware address type, see ARP section in "Assigned Numbers" RFC; e.g., '1' = 10mb ethernet.
          * 
          * @see #HW_TYPE_HEADER_SIZE
          * @see #HW_TYPE_OFFSET
          */
-        private final ArpHardwareType htype;
+        private transient ArpHardwareType htype;
         /**
          * Hardware address length (e.g. '6' for 10mb ethernet).
          * 
          * @see #HW_ADDR_LENGTH_HEADER_SIZE
          * @see #HW_ADDR_LENGTH_OFFSET
          */
-        private final DhcpHardwareLength hlen;
+        private transient DhcpHardwareLength hlen;
         /**
          * Client sets to zero, optionally used by relay agents when booting via a relay agent.
          * 
          * @see #HOPS_HEADER_SIZE
          * @see #HOPS_OFFSET
          */
-        private final ByteArrayInteger hops;
+        private transient ByteArrayInteger hops;
         /**
          * Transaction ID, a random number chosen by the client, used by the client and server to associate messages and
          * responses between a client and a server.
@@ -862,14 +1084,14 @@ public class DhcpPacket extends AbstractPacket {
          * @see #TRANSACTION_ID_HEADER_SIZE
          * @see #TRANSACTION_ID_OFFSET
          */
-        private final ByteArrayInteger xid;
+        private transient ByteArrayInteger xid;
         /**
          * Filled in by client, seconds elapsed since client began address acquisition or renewal process.
          * 
          * @see #SECONDS_HEADER_SIZE
          * @see #SECONDS_OFFSET
          */
-        private final ByteArrayInteger secs;
+        private transient ByteArrayInteger secs;
 
         /**
          * <pre>
@@ -889,7 +1111,7 @@ public class DhcpPacket extends AbstractPacket {
          * @see #FLAGS_HEADER_SIZE
          * @see #FLAGS_OFFSET
          */
-        private final ByteArrayInteger flags;
+        private transient ByteArrayInteger flags;
         /**
          * Client IP address; only filled in if client is in BOUND, RENEW or REBINDING state and can respond to ARP
          * requests.
@@ -897,42 +1119,42 @@ public class DhcpPacket extends AbstractPacket {
          * @see #CLIENT_IP_ADDRESS_HEADER_SIZE
          * @see #CLIENT_IP_ADDRESS_OFFSET
          */
-        private final ByteArrayString ciaddr;
+        private transient ByteArrayString ciaddr;
         /**
          * 'your' (client) IP address.
          * 
          * @see #YOUR_IP_ADDRESS_HEADER_SIZE
          * @see #YOUR_IP_ADDRESS_OFFSET
          */
-        private final ByteArrayString yiaddr;
+        private transient ByteArrayString yiaddr;
         /**
          * IP address of next server to use in bootstrap; returned in DHCPOFFER, DHCPACK by server.
          * 
          * @see #SERVER_IP_ADDRESS_HEADER_SIZE
          * @see #SERVER_IP_ADDRESS_OFFSET
          */
-        private final ByteArrayString siaddr;
+        private transient ByteArrayString siaddr;
         /**
          * Relay agent IP address, used in booting via a relay agent.
          * 
          * @see #GATEWAY_IP_ADDRESS_HEADER_SIZE
          * @see #GATEWAY_IP_ADDRESS_OFFSET
          */
-        private final ByteArrayString giaddr;
+        private transient ByteArrayString giaddr;
         /**
          * Client hardware address.
          * 
          * @see #CLIENT_HW_ADDRESS_HEADER_SIZE
          * @see #CLIENT_HW_ADDRESS_OFFSET
          */
-        private final ByteArrayMAC chaddr;
+        private transient ByteArrayMAC chaddr;
         /**
          * Optional server host name, null terminated string.
          * 
          * @see #SERVER_NAMER_HEADER_SIZE
          * @see #SERVER_NAME_OFFSET
          */
-        private final ByteArrayString sname;
+        private transient ByteArrayString sname;
         /**
          * Boot file name, null terminated string; "generic" name or null in DHCPDISCOVER, fully qualified
          * directory-path name in DHCPOFFER.
@@ -940,17 +1162,19 @@ public class DhcpPacket extends AbstractPacket {
          * @see #BOOT_FILE_NAME_HEADER_SIZE
          * @see #BOOT_FILE_NAME_OFFSET
          */
-        private final ByteArrayString file;
+        private transient ByteArrayString file;
 
         /**
-         * Optional parameters field. See the options documents for a list of defined options.
-         * 
-         * @see #OPTIONS_OFFSET
+         * DHCP 메시지 전체 (옵션 포함). 위치 0 이 메시지의 시작이다.<br>
+         * 직렬화할 때는 {@link DhcpPacketCodec} 레코드로 기록한다.
          */
-        private final byte[] options;
+        private transient ByteBuffer buffer;
 
-        /** raw bytes array */
-        private final byte[] rawData;
+        /** 옵션 색인 (Option Overload 포함). 처음 조회할 때 생성한다. */
+        private transient volatile DhcpOptionIndex optionIndex;
+
+        // 각 필드는 처음 조회할 때 'buffer'로부터 해석하여 저장한다.
+        // 해석된 객체는 모두 불변(immutable)이므로, 여러 thread 에서 동시에 해석하더라도 같은 값을 가진 객체 중 하나가 저장된다.
 
         private DhcpHeader(Builder builder, byte[] payload) {
 
@@ -968,28 +1192,31 @@ public class DhcpPacket extends AbstractPacket {
             this.chaddr = builder.chaddr;
             this.sname = builder.sname;
             this.file = builder.file;
-            this.options = payload;
-
-            this.rawData = ArrayUtils.merge( //
-                    new byte[] { this.op.value() } //
-                    , ByteArrays.toByteArray(this.htype.value()) //
-                    , new byte[] { this.hlen.value() } //
-                    , this.hops.getRawData() //
-                    , this.xid.getRawData() //
-                    , this.secs.getRawData() //
-                    , this.flags.getRawData() //
-                    , this.ciaddr.getRawData() //
-                    , this.yiaddr.getRawData() //
-                    , this.siaddr.getRawData() //
-                    , this.giaddr.getRawData() //
-                    , this.chaddr.getRawData() //
-                    , this.sname.getRawData() //
-                    , this.file.getRawData() //
-                    , payload //
-            );
+
+            // 필드마다 복사본을 만들어 합치지 않고, 메시지 크기의 배열 하나에 각 필드를 고정 위치에 기록한다.
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[OPTIONS_OFFSET + (payload != null ? payload.length : 0)]);
+            buffer.put(OP_CODE_OFFSET, this.op.value());
+            // htype 은 1 byte 필드이다. (ArpHardwareType 의 값은 short)
+            buffer.put(HW_TYPE_OFFSET, this.htype.value().byteValue());
+            buffer.put(HW_ADDR_LENGTH_OFFSET, this.hlen.value());
+            putField(buffer, HOPS_OFFSET, HOPS_HEADER_SIZE, this.hops);
+            putField(buffer, TRANSACTION_ID_OFFSET, TRANSACTION_ID_HEADER_SIZE, this.xid);
+            putField(buffer, SECONDS_OFFSET, SECONDS_HEADER_SIZE, this.secs);
+            putField(buffer, FLAGS_OFFSET, FLAGS_HEADER_SIZE, this.flags);
+            putField(buffer, CLIENT_IP_ADDRESS_OFFSET, CLIENT_IP_ADDRESS_HEADER_SIZE, this.ciaddr);
+            putField(buffer, YOUR_IP_ADDRESS_OFFSET, YOUR_IP_ADDRESS_HEADER_SIZE, this.yiaddr);
+            putField(buffer, SERVER_IP_ADDRESS_OFFSET, SERVER_IP_ADDRESS_HEADER_SIZE, this.siaddr);
+            putField(buffer, GATEWAY_IP_ADDRESS_OFFSET, GATEWAY_IP_ADDRESS_HEADER_SIZE, this.giaddr);
+            putField(buffer, CLIENT_HW_ADDRESS_OFFSET, CLIENT_HW_ADDRESS_HEADER_SIZE, this.chaddr);
+            putField(buffer, SERVER_NAME_OFFSET, SERVER_NAME_HEADER_SIZE, this.sname);
+            putField(buffer, BOOT_FILE_NAME_OFFSET, BOOT_FILE_NAME_HEADER_SIZE, this.file);
+            if (payload != null) {
+                ByteBufferUtils.put(buffer, OPTIONS_OFFSET, payload, 0, payload.length);
+            }
+            this.buffer = buffer;
         }
 
-        private DhcpHeader(byte[] rawData, int offset, int length) throws IllegalRawDataException {
+        private DhcpHeader(byte[] rawData, int offset, int length, boolean lazy) throws IllegalRawDataException {
             if (length < OPTIONS_OFFSET) {
                 StringBuilder sb = new StringBuilder(80);
                 sb.append("The data is too short to build a DHCP header(").append(OPTIONS_OFFSET).append(" bytes). data: ").append(ByteArrays.toHexString(rawData, " "))
@@ -997,23 +1224,92 @@ public class DhcpPacket extends AbstractPacket {
                 throw new IllegalRawDataException(sb.toString());
             }
 
-            this.rawData = Arrays.copyOfRange(rawData, offset, offset + length);
-
-            this.op = DhcpOpCode.getInstance(ByteArrays.getByte(Arrays.copyOfRange(this.rawData, OP_CODE_OFFSET, HW_TYPE_OFFSET), 0));
-            this.htype = ArpHardwareType.getInstance((short) ByteArrays.getByte(Arrays.copyOfRange(this.rawData, HW_TYPE_OFFSET, HW_ADDR_LENGTH_OFFSET), 0));
-            this.hlen = DhcpHardwareLength.getInstance(ByteArrays.getByte(Arrays.copyOfRange(this.rawData, HW_ADDR_LENGTH_OFFSET, HOPS_OFFSET), 0));
-            this.hops = new ByteArrayInteger(Arrays.copyOfRange(this.rawData, HOPS_OFFSET, TRANSACTION_ID_OFFSET));
-            this.xid = new ByteArrayInteger(Arrays.copyOfRange(this.rawData, TRANSACTION_ID_OFFSET, SECONDS_OFFSET));
-            this.secs = new ByteArrayInteger(Arrays.copyOfRange(this.rawData, SECONDS_OFFSET, FLAGS_OFFSET));
-            this.flags = new ByteArrayInteger(Arrays.copyOfRange(this.rawData, FLAGS_OFFSET, CLIENT_IP_ADDRESS_OFFSET));
-            this.ciaddr = new ByteArrayString(Arrays.copyOfRange(this.rawData, CLIENT_IP_ADDRESS_OFFSET, YOUR_IP_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
-            this.yiaddr = new ByteArrayString(Arrays.copyOfRange(this.rawData, YOUR_IP_ADDRESS_OFFSET, SERVER_IP_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
-            this.siaddr = new ByteArrayString(Arrays.copyOfRange(this.rawData, SERVER_IP_ADDRESS_OFFSET, GATEWAY_IP_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
-            this.giaddr = new ByteArrayString(Arrays.copyOfRange(this.rawData, GATEWAY_IP_ADDRESS_OFFSET, CLIENT_HW_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
-            this.chaddr = new ByteArrayMAC(Arrays.copyOfRange(this.rawData, CLIENT_HW_ADDRESS_OFFSET, SERVER_NAME_OFFSET));
-            this.sname = new ByteArrayString(Arrays.copyOfRange(this.rawData, SERVER_NAME_OFFSET, BOOT_FILE_NAME_OFFSET));
-            this.file = new ByteArrayString(Arrays.copyOfRange(this.rawData, BOOT_FILE_NAME_OFFSET, OPTIONS_OFFSET));
-            this.options = Arrays.copyOfRange(this.rawData, OPTIONS_OFFSET, this.rawData.length);
+            this.buffer = ByteBuffer.wrap(Arrays.copyOfRange(rawData, offset, offset + length));
+
+            if (!lazy) {
+                decodeAll();
+            }
+        }
+
+        private DhcpHeader(ByteBuffer buffer, int offset, int length, boolean lazy) throws IllegalRawDataException {
+            if (length < OPTIONS_OFFSET) {
+                StringBuilder sb = new StringBuilder(80);
+                sb.append("The data is too short to build a DHCP header(").append(OPTIONS_OFFSET).append(" bytes). data: ")
+                        .append(ByteArrays.toHexString(ByteBufferUtils.copyOfRange(buffer, offset, length), " ")).append(", offset: ").append(offset).append(", length: ")
+                        .append(length);
+                throw new IllegalRawDataException(sb.toString());
+            }
+
+            this.buffer = ByteBufferUtils.slice(buffer, offset, length);
+
+            if (!lazy) {
+                decodeAll();
+            }
+        }
+
+        /**
+         * 고정 헤더 영역(옵션 제외, {@value #OPTIONS_OFFSET} bytes)을 복사하지 않고 공유하는 읽기 전용 버퍼를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see #slice(int, int)
+         */
+        public ByteBuffer asReadOnlyBuffer() {
+            return ByteBufferUtils.slice(this.buffer, 0, OPTIONS_OFFSET);
+        }
+
+        /**
+         * 메시지 버퍼를 반환한다. {@link DhcpPacketFormatter} 등 같은 패키지에서 복사 없이 메시지를 읽을 때 사용한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return 메시지 버퍼. 내용을 변경해서는 안 된다.
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        ByteBuffer buffer() {
+            return this.buffer;
+        }
+
+        /**
+         * 고정 헤더 영역을 한 번에 복사한다. 필드별 배열을 만들어서 합치지 않는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see org.pcap4j.packet.AbstractPacket.AbstractHeader#buildRawData()
+         */
+        @Override
+        protected byte[] buildRawData() {
+            return copyOfRange(0, OPTIONS_OFFSET);
         }
 
         /**
@@ -1024,6 +1320,7 @@ public class DhcpPacket extends AbstractPacket {
          *      날짜    	| 작성자	|	내용
          * ------------------------------------------
          * 2020. 12. 17.		박준홍			최초 작성
+         * 2026. 10. 17.		박준홍			DhcpPacketFormatter 로 변경
          * </pre>
          *
          * @return
@@ -1035,69 +1332,782 @@ public class DhcpPacket extends AbstractPacket {
          */
         @Override
         protected String buildString() {
-            final String FORMAT = "  %-9s %-15s: %s\n";
-            StringBuilder builder = new StringBuilder();
-            builder.append("[DHCP Packet (");
-            builder.append(this.rawData.length);
-            builder.append(" bytes)]");
-            builder.append("\n");
-            builder.append(String.format(FORMAT, "(op)", "OP Code", this.op));
-            builder.append(String.format(FORMAT, "(htype)", "H/W Type", this.htype));
-            builder.append(String.format(FORMAT, "(hlen)", "H/W Addr. Len", this.hlen));
-            builder.append(String.format(FORMAT, "(hops)", "HOPS", this.hops));
-            builder.append(String.format(FORMAT, "(xid)", "Transaction ID", this.xid));
-            builder.append(String.format(FORMAT, "(sec)", "Seconds", this.secs));
-            builder.append(String.format(FORMAT, "(flags)", "Flags", this.flags));
-            builder.append(String.format(FORMAT, "(ciaddr)", "Client IP", this.ciaddr));
-            builder.append(String.format(FORMAT, "(yiaddr)", "Your IP", this.yiaddr));
-            builder.append(String.format(FORMAT, "(siaddr)", "Server IP", this.siaddr));
-            builder.append(String.format(FORMAT, "(giaddr)", "Gateway IP", this.giaddr));
-            builder.append(String.format(FORMAT, "(chaddr)", "Client H/W", this.chaddr));
-            builder.append(String.format(FORMAT, "(sname)", "Server Name", this.sname));
-            builder.append(String.format(FORMAT, "(file)", "Boot File Name", this.file));
-            builder.append(String.format(FORMAT, "(options)", "Options", ByteUtils.hexBinString("0x", this.options)));
-
-            return builder.toString();
+            return DhcpPacketFormatter.MULTI_LINE.toString(this.buffer, 0, this.buffer.limit());
         }
 
         /**
-         * <br>
+         * 고정 헤더 영역의 길이({@value #OPTIONS_OFFSET})를 반환한다. 옵션은 {@link DhcpOptions}(payload)에 포함된다. <br>
          * 
          * <pre>
          * [개정이력]
          *      날짜    	| 작성자	|	내용
          * ------------------------------------------
-         * 2020. 12. 16.		박준홍			최초 작성
+         * 2026. 10. 17.		박준홍			최초 작성
          * </pre>
          *
          * @return
          *
-         * @since 2020. 12. 16.
+         * @since 2026. 10. 17.
+         * @version 0.2.0
          * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
          *
-         * @see org.pcap4j.packet.AbstractPacket.AbstractHeader#getRawFields()
+         * @see org.pcap4j.packet.AbstractPacket.AbstractHeader#calcLength()
          */
         @Override
-        protected List<byte[]> getRawFields() {
-            List<byte[]> rawFields = new ArrayList<byte[]>();
+        protected int calcLength() {
+            return OPTIONS_OFFSET;
+        }
 
-            rawFields.add(Arrays.copyOfRange(this.rawData, OP_CODE_OFFSET, HW_TYPE_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, HW_TYPE_OFFSET, HW_ADDR_LENGTH_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, HW_ADDR_LENGTH_OFFSET, HOPS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, HOPS_OFFSET, TRANSACTION_ID_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, TRANSACTION_ID_OFFSET, SECONDS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, SECONDS_OFFSET, FLAGS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, FLAGS_OFFSET, CLIENT_IP_ADDRESS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, CLIENT_IP_ADDRESS_OFFSET, YOUR_IP_ADDRESS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, YOUR_IP_ADDRESS_OFFSET, SERVER_IP_ADDRESS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, SERVER_IP_ADDRESS_OFFSET, GATEWAY_IP_ADDRESS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, GATEWAY_IP_ADDRESS_OFFSET, CLIENT_HW_ADDRESS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, CLIENT_HW_ADDRESS_OFFSET, SERVER_NAME_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, SERVER_NAME_OFFSET, BOOT_FILE_NAME_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, BOOT_FILE_NAME_OFFSET, OPTIONS_OFFSET));
-            rawFields.add(Arrays.copyOfRange(this.rawData, OPTIONS_OFFSET, this.rawData.length));
+        /**
+         * 메시지의 주어진 영역을 새로운 배열로 복사한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param from
+         *            시작 위치 (포함)
+         * @param to
+         *            끝 위치 (미포함)
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        private byte[] copyOfRange(int from, int to) {
+            return ByteBufferUtils.copyOfRange(this.buffer, from, to - from);
+        }
 
-            return rawFields;
+        /**
+         * 모든 헤더 필드를 해석한다. 옵션 영역은 복사하지 않는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * 2026. 10. 17.		박준홍			옵션 영역 복사 제거
+         * </pre>
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        private void decodeAll() {
+            getOp();
+            getHtype();
+            getHlen();
+            getHops();
+            getXid();
+            getSecs();
+            getFlags();
+            getCiaddr();
+            getYiaddr();
+            getSiaddr();
+            getGiaddr();
+            getChaddr();
+            getSname();
+            getFile();
+        }
+
+        /**
+         * Client Hardware Address (chaddr) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the chaddr
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #chaddr
+         */
+        public ByteArrayMAC getChaddr() {
+            ByteArrayMAC chaddr = this.chaddr;
+            if (chaddr == null) {
+                this.chaddr = chaddr = new ByteArrayMAC(copyOfRange(CLIENT_HW_ADDRESS_OFFSET, SERVER_NAME_OFFSET));
+            }
+            return chaddr;
+        }
+
+        /**
+         * Client Hardware Address (chaddr) 의 앞 6 bytes 를 <code>long</code> 으로 반환한다. <br>
+         * 객체를 생성하지 않으므로, MAC 주소를 key 로 사용하는 경우에 사용한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public long getChaddrAsLong() {
+            return ByteBufferUtils.getLong(this.buffer, CLIENT_HW_ADDRESS_OFFSET, 6);
+        }
+
+        /**
+         * Client Hardware Address (chaddr) 의 앞 6 bytes 를 {@link MacValue} 로 반환한다. <br>
+         * 배열을 복사하지 않고 버퍼에서 직접 읽으며, 값으로 비교하므로 Map 의 key 로 사용할 수 있다. 호출할 때마다 새로운 객체를 생성한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see #getChaddrAsLong()
+         */
+        public MacValue getChaddrValue() {
+            return MacValue.valueOf(this.buffer, CLIENT_HW_ADDRESS_OFFSET);
+        }
+
+        /**
+         * Client IP Address (ciaddr) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the ciaddr
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #ciaddr
+         */
+        public ByteArrayString getCiaddr() {
+            ByteArrayString ciaddr = this.ciaddr;
+            if (ciaddr == null) {
+                this.ciaddr = ciaddr = new ByteArrayString(copyOfRange(CLIENT_IP_ADDRESS_OFFSET, YOUR_IP_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
+            }
+            return ciaddr;
+        }
+
+        /**
+         * Client IP Address (ciaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+         * 배열을 복사하지 않고 버퍼에서 직접 읽으며, 값으로 비교하므로 Map 의 key 로 사용할 수 있다. 호출할 때마다 새로운 객체를 생성한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see #getCiaddr()
+         */
+        public IPv4Value getCiaddrValue() {
+            return IPv4Value.valueOf(this.buffer, CLIENT_IP_ADDRESS_OFFSET);
+        }
+
+        /**
+         * Boot File Name (file) 을 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the file
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #file
+         */
+        public ByteArrayString getFile() {
+            ByteArrayString file = this.file;
+            if (file == null) {
+                byte[] raw = copyOfRange(BOOT_FILE_NAME_OFFSET, OPTIONS_OFFSET);
+                // Option Overload (52) 에 의해서 옵션으로 사용되는 경우 문자열로 해석하지 않는다.
+                this.file = file = isOverloaded(DhcpOptionIndex.OVERLOAD_FILE) ? new ByteArrayString(raw, EXPR_OVERLOADED) : new ByteArrayString(raw);
+            }
+            return file;
+        }
+
+        /**
+         * Flags (flags) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the flags
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #flags
+         */
+        public ByteArrayInteger getFlags() {
+            ByteArrayInteger flags = this.flags;
+            if (flags == null) {
+                this.flags = flags = new ByteArrayInteger(copyOfRange(FLAGS_OFFSET, CLIENT_IP_ADDRESS_OFFSET));
+            }
+            return flags;
+        }
+
+        /**
+         * Gateway IP Address (giaddr) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the giaddr
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #giaddr
+         */
+        public ByteArrayString getGiaddr() {
+            ByteArrayString giaddr = this.giaddr;
+            if (giaddr == null) {
+                this.giaddr = giaddr = new ByteArrayString(copyOfRange(GATEWAY_IP_ADDRESS_OFFSET, CLIENT_HW_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
+            }
+            return giaddr;
+        }
+
+        /**
+         * Gateway IP Address (giaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+         * 배열을 복사하지 않고 버퍼에서 직접 읽으며, 값으로 비교하므로 Map 의 key 로 사용할 수 있다. 호출할 때마다 새로운 객체를 생성한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see #getGiaddr()
+         */
+        public IPv4Value getGiaddrValue() {
+            return IPv4Value.valueOf(this.buffer, GATEWAY_IP_ADDRESS_OFFSET);
+        }
+
+        /**
+         * Hardware Address Length (hlen) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the hlen
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #hlen
+         */
+        public DhcpHardwareLength getHlen() {
+            DhcpHardwareLength hlen = this.hlen;
+            if (hlen == null) {
+                this.hlen = hlen = DhcpHardwareLength.getInstance(this.buffer.get(HW_ADDR_LENGTH_OFFSET));
+            }
+            return hlen;
+        }
+
+        /**
+         * HOPS (hops) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the hops
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #hops
+         */
+        public ByteArrayInteger getHops() {
+            ByteArrayInteger hops = this.hops;
+            if (hops == null) {
+                this.hops = hops = new ByteArrayInteger(copyOfRange(HOPS_OFFSET, TRANSACTION_ID_OFFSET));
+            }
+            return hops;
+        }
+
+        /**
+         * Hardware Type (htype) 을 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the htype
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #htype
+         */
+        public ArpHardwareType getHtype() {
+            ArpHardwareType htype = this.htype;
+            if (htype == null) {
+                this.htype = htype = ArpHardwareTypes.getInstance(this.buffer.get(HW_TYPE_OFFSET));
+            }
+            return htype;
+        }
+
+        /**
+         * OP Code (op) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the op
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #op
+         */
+        public DhcpOpCode getOp() {
+            DhcpOpCode op = this.op;
+            if (op == null) {
+                this.op = op = DhcpOpCode.getInstance(this.buffer.get(OP_CODE_OFFSET));
+            }
+            return op;
+        }
+
+        /**
+         * DHCP 메시지 전체의 옵션 색인을 반환한다. <br>
+         * Option Overload (52) 가 있는 경우 'file', 'sname' 필드의 옵션도 포함한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see DhcpOptionIndex#indexMessage(ByteBuffer, int, int)
+         */
+        public DhcpOptionIndex getOptionIndex() {
+            DhcpOptionIndex index = this.optionIndex;
+            if (index == null) {
+                index = new DhcpOptionIndex();
+                index.indexMessage(this.buffer, 0, this.buffer.limit());
+                this.optionIndex = index;
+            }
+            return index;
+        }
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2020. 12. 16.		박준홍			최초 작성
+         * 2026. 10. 17.		박준홍			옵션 영역 제외. 옵션은 {@link DhcpOptions}(payload)에 포함된다.
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2020. 12. 16.
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see org.pcap4j.packet.AbstractPacket.AbstractHeader#getRawFields()
+         */
+        @Override
+        protected List<byte[]> getRawFields() {
+            List<byte[]> rawFields = new ArrayList<byte[]>();
+
+            rawFields.add(copyOfRange(OP_CODE_OFFSET, HW_TYPE_OFFSET));
+            rawFields.add(copyOfRange(HW_TYPE_OFFSET, HW_ADDR_LENGTH_OFFSET));
+            rawFields.add(copyOfRange(HW_ADDR_LENGTH_OFFSET, HOPS_OFFSET));
+            rawFields.add(copyOfRange(HOPS_OFFSET, TRANSACTION_ID_OFFSET));
+            rawFields.add(copyOfRange(TRANSACTION_ID_OFFSET, SECONDS_OFFSET));
+            rawFields.add(copyOfRange(SECONDS_OFFSET, FLAGS_OFFSET));
+            rawFields.add(copyOfRange(FLAGS_OFFSET, CLIENT_IP_ADDRESS_OFFSET));
+            rawFields.add(copyOfRange(CLIENT_IP_ADDRESS_OFFSET, YOUR_IP_ADDRESS_OFFSET));
+            rawFields.add(copyOfRange(YOUR_IP_ADDRESS_OFFSET, SERVER_IP_ADDRESS_OFFSET));
+            rawFields.add(copyOfRange(SERVER_IP_ADDRESS_OFFSET, GATEWAY_IP_ADDRESS_OFFSET));
+            rawFields.add(copyOfRange(GATEWAY_IP_ADDRESS_OFFSET, CLIENT_HW_ADDRESS_OFFSET));
+            rawFields.add(copyOfRange(CLIENT_HW_ADDRESS_OFFSET, SERVER_NAME_OFFSET));
+            rawFields.add(copyOfRange(SERVER_NAME_OFFSET, BOOT_FILE_NAME_OFFSET));
+            rawFields.add(copyOfRange(BOOT_FILE_NAME_OFFSET, OPTIONS_OFFSET));
+
+            return rawFields;
+        }
+
+        /**
+         * Seconds (secs) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the secs
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #secs
+         */
+        public ByteArrayInteger getSecs() {
+            ByteArrayInteger secs = this.secs;
+            if (secs == null) {
+                this.secs = secs = new ByteArrayInteger(copyOfRange(SECONDS_OFFSET, FLAGS_OFFSET));
+            }
+            return secs;
+        }
+
+        /**
+         * Server IP Address (siaddr) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the siaddr
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #siaddr
+         */
+        public ByteArrayString getSiaddr() {
+            ByteArrayString siaddr = this.siaddr;
+            if (siaddr == null) {
+                this.siaddr = siaddr = new ByteArrayString(copyOfRange(SERVER_IP_ADDRESS_OFFSET, GATEWAY_IP_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
+            }
+            return siaddr;
+        }
+
+        /**
+         * Server IP Address (siaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+         * 배열을 복사하지 않고 버퍼에서 직접 읽으며, 값으로 비교하므로 Map 의 key 로 사용할 수 있다. 호출할 때마다 새로운 객체를 생성한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see #getSiaddr()
+         */
+        public IPv4Value getSiaddrValue() {
+            return IPv4Value.valueOf(this.buffer, SERVER_IP_ADDRESS_OFFSET);
+        }
+
+        /**
+         * Server Name (sname) 을 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the sname
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #sname
+         */
+        public ByteArrayString getSname() {
+            ByteArrayString sname = this.sname;
+            if (sname == null) {
+                byte[] raw = copyOfRange(SERVER_NAME_OFFSET, BOOT_FILE_NAME_OFFSET);
+                // Option Overload (52) 에 의해서 옵션으로 사용되는 경우 문자열로 해석하지 않는다.
+                this.sname = sname = isOverloaded(DhcpOptionIndex.OVERLOAD_SNAME) ? new ByteArrayString(raw, EXPR_OVERLOADED) : new ByteArrayString(raw);
+            }
+            return sname;
+        }
+
+        /**
+         * Transaction ID (xid) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the xid
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #xid
+         */
+        public ByteArrayInteger getXid() {
+            ByteArrayInteger xid = this.xid;
+            if (xid == null) {
+                this.xid = xid = new ByteArrayInteger(copyOfRange(TRANSACTION_ID_OFFSET, SECONDS_OFFSET));
+            }
+            return xid;
+        }
+
+        /**
+         * Transaction ID (xid) 를 <code>int</code> 로 반환한다. <br>
+         * 객체를 생성하지 않으므로, Transaction ID 를 key 로 사용하는 경우에 사용한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public int getXidAsInt() {
+            return ByteBufferUtils.getInt(this.buffer, TRANSACTION_ID_OFFSET);
+        }
+
+        /**
+         * Your IP Address (yiaddr) 를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return the yiaddr
+         *
+         * @since 2026. 10. 17.
+         * 
+         * @see #yiaddr
+         */
+        public ByteArrayString getYiaddr() {
+            ByteArrayString yiaddr = this.yiaddr;
+            if (yiaddr == null) {
+                this.yiaddr = yiaddr = new ByteArrayString(copyOfRange(YOUR_IP_ADDRESS_OFFSET, SERVER_IP_ADDRESS_OFFSET), ByteUtils::toIPv4Expr);
+            }
+            return yiaddr;
+        }
+
+        /**
+         * Your IP Address (yiaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+         * 배열을 복사하지 않고 버퍼에서 직접 읽으며, 값으로 비교하므로 Map 의 key 로 사용할 수 있다. 호출할 때마다 새로운 객체를 생성한다.
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see #getYiaddr()
+         */
+        public IPv4Value getYiaddrValue() {
+            return IPv4Value.valueOf(this.buffer, YOUR_IP_ADDRESS_OFFSET);
+        }
+
+        /**
+         * Option Overload (52) 에 의해서 주어진 필드가 옵션으로 사용되는지 여부를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param field
+         *            {@link DhcpOptionIndex#OVERLOAD_FILE} 또는 {@link DhcpOptionIndex#OVERLOAD_SNAME}
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public boolean isOverloaded(int field) {
+            return (getOptionIndex().getOverload() & field) != 0;
+        }
+
+        /**
+         * 옵션 영역(Magic Cookie 포함)을 새로운 배열로 복사한다. {@link Builder#Builder(DhcpPacket)}에서만 사용한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * 2026. 10. 17.		박준홍			보관하지 않고 호출할 때마다 복사
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        private byte[] options() {
+            return copyOfRange(OPTIONS_OFFSET, this.buffer.limit());
+        }
+
+        /**
+         * DHCP 메시지의 주어진 영역을 복사하지 않고 공유하는 읽기 전용 버퍼를 반환한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param offset
+         *            DHCP 메시지 시작 위치에 대한 상대 위치. 예: {@link #CLIENT_HW_ADDRESS_OFFSET}
+         * @param length
+         *            길이. 예: {@link #CLIENT_HW_ADDRESS_HEADER_SIZE}
+         * @return
+         * @throws IndexOutOfBoundsException
+         *             영역이 DHCP 메시지를 벗어나는 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        public ByteBuffer slice(int offset, int length) {
+            ByteBufferUtils.validateBounds(this.buffer, offset, length);
+            return ByteBufferUtils.slice(this.buffer, offset, length);
+        }
+
+        /**
+         * 고정 크기 필드에 값을 기록한다. 값이 필드보다 짧은 경우 나머지는 0 으로 남는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param buffer
+         *            메시지 버퍼
+         * @param fieldOffset
+         *            필드 위치
+         * @param fieldSize
+         *            필드 크기
+         * @param value
+         *            값
+         * @throws IllegalArgumentException
+         *             값이 필드보다 긴 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         */
+        private static void putField(ByteBuffer buffer, int fieldOffset, int fieldSize, ByteArrayValue<?> value) {
+            if (value.length() > fieldSize) {
+                throw ExceptionUtils.newException(IllegalArgumentException.class, "The value is too long for the field. offset=%,d, size=%,d, value.length=%,d", fieldOffset,
+                        fieldSize, value.length());
+            }
+            value.writeTo(buffer, fieldOffset);
+        }
+
+        private void readObject(ObjectInputStream in) throws InvalidObjectException {
+            throw new InvalidObjectException("The serialization proxy is required.");
+        }
+
+        /**
+         * 객체 그래프 대신 {@link DhcpPacketCodec} 레코드를 직렬화한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see DhcpPacketCodec.SerializedForm
+         */
+        private Object writeReplace() {
+            return new DhcpPacketCodec.SerializedForm(DhcpPacketCodec.SerializedForm.HEADER,
+                    DhcpPacketCodec.encode(DhcpPacketCodec.NO_TIMESTAMP, this.buffer, 0, this.buffer.limit(), null));
         }
     }
 }
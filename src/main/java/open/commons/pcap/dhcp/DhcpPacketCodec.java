@@ -0,0 +1,645 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 4:35:48
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.dhcp;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.nio.ByteBuffer;
+
+import org.pcap4j.packet.IllegalRawDataException;
+
+import open.commons.pcap.dhcp.DhcpPacket.DhcpHeader;
+import open.commons.pcap.raw.ByteBufferUtils;
+
+/**
+ * 캡처 시각, 원본 데이터, 옵션 색인(선택)을 길이가 앞에 붙은(length-prefixed) 이진 형식으로 기록하고 읽는 Codec.<br>
+ * 프로세스 간에 패킷을 전달하거나 파일에 기록(spool)할 때 객체 그래프 대신 원본 크기에 가까운 크기로 기록한다. {@link DhcpPacket}, {@link DhcpHeader},
+ * {@link DhcpOptions}의 Java 직렬화도 이 형식을 사용한다.
+ *
+ * <pre>
+ * 레코드 형식 (Network Byte Order)
+ * +------------+-------+---------+-------+---------------+------------+------+----------------+
+ * | record len | magic | version | flags | [timestamp]   | data len   | data | [option index] |
+ * | 4          | 2     | 1       | 1     | 8             | 4          | n    | 3 + 4 * count  |
+ * +------------+-------+---------+-------+---------------+------------+------+----------------+
+ *
+ * - record len: 'record len' 필드를 포함한 레코드 전체 길이
+ * - timestamp : {@link #FLAG_TIMESTAMP} 인 경우에만 기록한다.
+ * - option index: {@link #FLAG_OPTION_INDEX} 인 경우에만 기록한다. 옵션 위치는 'data' 시작 위치에 대한 상대 위치이다.
+ * </pre>
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpPacketCodec {
+
+    /** Magic: 'D', 'P' */
+    public static final int MAGIC = 0x4450;
+    /** 형식 버전 */
+    public static final int VERSION = 1;
+
+    /** 캡처 시각을 포함함 */
+    public static final int FLAG_TIMESTAMP = 0x01;
+    /** 옵션 색인을 포함함 */
+    public static final int FLAG_OPTION_INDEX = 0x02;
+
+    /** 캡처 시각이 없음을 나타내는 값 */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    /** 레코드의 고정 영역 크기: record len(4), magic(2), version(1), flags(1) */
+    public static final int PREFIX_LENGTH = 8;
+
+    private static final int TIMESTAMP_LENGTH = 8;
+    private static final int DATA_LENGTH_LENGTH = 4;
+
+    private DhcpPacketCodec() {
+    }
+
+    /**
+     * 레코드를 읽어서 주어진 뷰를 레코드의 'data' 영역에 연결한다. 데이터를 복사하지 않는다. <br>
+     * 옵션 색인이 포함된 경우 색인을 다시 검색하지 않고 복원한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			옵션 색인을 레코드 영역 안에서만 읽음.
+     * </pre>
+     *
+     * @param src
+     *            레코드를 담은 버퍼
+     * @param offset
+     *            레코드 시작 위치 (절대 위치)
+     * @param view
+     *            연결할 뷰
+     * @return 캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @throws IllegalRawDataException
+     *             레코드 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static long decode(ByteBuffer src, int offset, DhcpPacketView view) throws IllegalRawDataException {
+        int flags = readPrefix(src, offset);
+        int pos = dataLengthOffset(offset, flags);
+        int length = readDataLength(src, offset, pos);
+
+        view.reset(src, pos + DATA_LENGTH_LENGTH, length);
+        if ((flags & FLAG_OPTION_INDEX) != 0) {
+            view.readOptionIndex(src, pos + DATA_LENGTH_LENGTH + length, offset + ByteBufferUtils.getInt(src, offset));
+        }
+
+        return readTimestamp(src, offset, flags);
+    }
+
+    /**
+     * 레코드를 읽어서 {@link DhcpPacket}을 생성한다. 패킷은 레코드의 'data' 영역을 복사하지 않고 읽기 전용으로 참조한다. <br>
+     * 레코드에 포함된 옵션 색인은 사용하지 않으며, 패킷이 필요할 때 다시 색인한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     *            레코드를 담은 버퍼
+     * @param offset
+     *            레코드 시작 위치 (절대 위치)
+     * @return
+     * @throws IllegalRawDataException
+     *             레코드 형식이 올바르지 않거나, 'data' 가 DHCP 메시지가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #getTimestamp(ByteBuffer, int)
+     */
+    public static DhcpPacket decodePacket(ByteBuffer src, int offset) throws IllegalRawDataException {
+        int flags = readPrefix(src, offset);
+        int pos = dataLengthOffset(offset, flags);
+        int length = readDataLength(src, offset, pos);
+
+        return DhcpPacket.newPacket(src, pos + DATA_LENGTH_LENGTH, length, true);
+    }
+
+    /**
+     * 주어진 영역을 레코드로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            기록할 버퍼
+     * @param dstOffset
+     *            기록할 위치 (절대 위치)
+     * @param timestamp
+     *            캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @param src
+     *            원본 데이터
+     * @param offset
+     *            원본 데이터 시작 위치 (절대 위치)
+     * @param length
+     *            원본 데이터 길이
+     * @param index
+     *            <code>src</code> 의 <code>offset</code> 에서 시작하는 DHCP 메시지를 색인한 옵션 색인. 기록하지 않는 경우 <code>null</code>
+     * @return 기록한 byte 수
+     * @throws IndexOutOfBoundsException
+     *             영역이 버퍼를 벗어나는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #encodedLength(int, long, DhcpOptionIndex)
+     */
+    public static int encode(ByteBuffer dst, int dstOffset, long timestamp, ByteBuffer src, int offset, int length, DhcpOptionIndex index) {
+        ByteBufferUtils.validateBounds(src, offset, length);
+        int recordLength = encodedLength(length, timestamp, index);
+        ByteBufferUtils.validateBounds(dst, dstOffset, recordLength);
+
+        int flags = (timestamp != NO_TIMESTAMP ? FLAG_TIMESTAMP : 0) | (index != null ? FLAG_OPTION_INDEX : 0);
+        ByteBufferUtils.putInt(dst, dstOffset, recordLength);
+        ByteBufferUtils.putShort(dst, dstOffset + 4, MAGIC);
+        dst.put(dstOffset + 6, (byte) VERSION);
+        dst.put(dstOffset + 7, (byte) flags);
+
+        int pos = dstOffset + PREFIX_LENGTH;
+        if (timestamp != NO_TIMESTAMP) {
+            ByteBufferUtils.putInt(dst, pos, (int) (timestamp >>> 32));
+            ByteBufferUtils.putInt(dst, pos + 4, (int) timestamp);
+            pos += TIMESTAMP_LENGTH;
+        }
+
+        ByteBufferUtils.putInt(dst, pos, length);
+        pos += DATA_LENGTH_LENGTH;
+        for (int i = 0; i < length; i++) {
+            dst.put(pos + i, src.get(offset + i));
+        }
+        pos += length;
+
+        if (index != null) {
+            pos += index.writeTo(dst, pos, offset);
+        }
+
+        return pos - dstOffset;
+    }
+
+    /**
+     * 뷰가 가리키는 DHCP 메시지를 레코드로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            기록할 버퍼
+     * @param dstOffset
+     *            기록할 위치 (절대 위치)
+     * @param timestamp
+     *            캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @param view
+     *            DHCP 메시지 뷰
+     * @param withIndex
+     *            옵션 색인 기록 여부
+     * @return 기록한 byte 수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int encode(ByteBuffer dst, int dstOffset, long timestamp, DhcpPacketView view, boolean withIndex) {
+        return encode(dst, dstOffset, timestamp, view.getBuffer(), view.getOffset(), view.getLength(), withIndex ? view.getOptions() : null);
+    }
+
+    /**
+     * {@link DhcpPacket}을 레코드로 기록한 배열을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timestamp
+     *            캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @param packet
+     *            DHCP 패킷
+     * @param withIndex
+     *            옵션 색인 기록 여부
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static byte[] encode(long timestamp, DhcpPacket packet, boolean withIndex) {
+        DhcpHeader header = packet.getHeader();
+        ByteBuffer buffer = header.buffer();
+        return encode(timestamp, buffer, 0, buffer.limit(), withIndex ? header.getOptionIndex() : null);
+    }
+
+    /**
+     * 주어진 영역을 레코드로 기록한 배열을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timestamp
+     *            캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @param src
+     *            원본 데이터
+     * @param offset
+     *            원본 데이터 시작 위치 (절대 위치)
+     * @param length
+     *            원본 데이터 길이
+     * @param index
+     *            옵션 색인. 기록하지 않는 경우 <code>null</code>
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #encode(ByteBuffer, int, long, ByteBuffer, int, int, DhcpOptionIndex)
+     */
+    public static byte[] encode(long timestamp, ByteBuffer src, int offset, int length, DhcpOptionIndex index) {
+        byte[] record = new byte[encodedLength(length, timestamp, index)];
+        encode(ByteBuffer.wrap(record), 0, timestamp, src, offset, length, index);
+        return record;
+    }
+
+    /**
+     * 레코드의 크기를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param length
+     *            원본 데이터 길이
+     * @param timestamp
+     *            캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @param index
+     *            옵션 색인. 기록하지 않는 경우 <code>null</code>
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int encodedLength(int length, long timestamp, DhcpOptionIndex index) {
+        return PREFIX_LENGTH //
+                + (timestamp != NO_TIMESTAMP ? TIMESTAMP_LENGTH : 0) //
+                + DATA_LENGTH_LENGTH + length //
+                + (index != null ? index.encodedLength() : 0);
+    }
+
+    /**
+     * 레코드의 캡처 시각을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     *            레코드를 담은 버퍼
+     * @param offset
+     *            레코드 시작 위치 (절대 위치)
+     * @return 캡처 시각. 없는 경우 {@link #NO_TIMESTAMP}
+     * @throws IllegalRawDataException
+     *             레코드 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static long getTimestamp(ByteBuffer src, int offset) throws IllegalRawDataException {
+        return readTimestamp(src, offset, readPrefix(src, offset));
+    }
+
+    /**
+     * 레코드의 전체 길이를 반환한다. 연속으로 기록된 레코드를 건너뛸 때 사용한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     *            레코드를 담은 버퍼
+     * @param offset
+     *            레코드 시작 위치 (절대 위치)
+     * @return
+     * @throws IllegalRawDataException
+     *             레코드 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int recordLength(ByteBuffer src, int offset) throws IllegalRawDataException {
+        readPrefix(src, offset);
+        return ByteBufferUtils.getInt(src, offset);
+    }
+
+    /**
+     * 'data len' 필드의 위치를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param offset
+     * @param flags
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int dataLengthOffset(int offset, int flags) {
+        return offset + PREFIX_LENGTH + ((flags & FLAG_TIMESTAMP) != 0 ? TIMESTAMP_LENGTH : 0);
+    }
+
+    /**
+     * 'data len' 필드를 읽고 'data' 가 레코드 안에 있는지 확인한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     * @param offset
+     *            레코드 시작 위치
+     * @param pos
+     *            'data len' 필드 위치
+     * @return
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int readDataLength(ByteBuffer src, int offset, int pos) throws IllegalRawDataException {
+        int recordEnd = offset + ByteBufferUtils.getInt(src, offset);
+        if (pos + DATA_LENGTH_LENGTH > recordEnd) {
+            throw new IllegalRawDataException("The record is too short. offset=" + offset + ", record.end=" + recordEnd);
+        }
+        int length = ByteBufferUtils.getInt(src, pos);
+        if (length < 0 || pos + DATA_LENGTH_LENGTH + length > recordEnd) {
+            throw new IllegalRawDataException("The data is out of the record. offset=" + offset + ", data.length=" + length + ", record.end=" + recordEnd);
+        }
+        return length;
+    }
+
+    /**
+     * 레코드의 고정 영역을 확인하고 'flags' 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     * @param offset
+     * @return
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int readPrefix(ByteBuffer src, int offset) throws IllegalRawDataException {
+        if (offset < 0 || offset + PREFIX_LENGTH > src.limit()) {
+            throw new IllegalRawDataException("The record is truncated. offset=" + offset + ", limit=" + src.limit());
+        }
+        int recordLength = ByteBufferUtils.getInt(src, offset);
+        if (recordLength < PREFIX_LENGTH + DATA_LENGTH_LENGTH || recordLength > src.limit() - offset) {
+            throw new IllegalRawDataException("Invalid record length. offset=" + offset + ", record.length=" + recordLength + ", limit=" + src.limit());
+        }
+        int magic = ByteBufferUtils.getUnsignedShort(src, offset + 4);
+        if (magic != MAGIC) {
+            throw new IllegalRawDataException("Invalid magic. offset=" + offset + ", magic=0x" + Integer.toHexString(magic));
+        }
+        int version = src.get(offset + 6) & 0xFF;
+        if (version != VERSION) {
+            throw new IllegalRawDataException("Unsupported version. offset=" + offset + ", version=" + version);
+        }
+        return src.get(offset + 7) & 0xFF;
+    }
+
+    /**
+     * 캡처 시각을 읽는다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     * @param offset
+     * @param flags
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static long readTimestamp(ByteBuffer src, int offset, int flags) {
+        if ((flags & FLAG_TIMESTAMP) == 0) {
+            return NO_TIMESTAMP;
+        }
+        int pos = offset + PREFIX_LENGTH;
+        return ((long) ByteBufferUtils.getInt(src, pos) << 32) | ByteBufferUtils.getUnsignedInt(src, pos + 4);
+    }
+
+    /**
+     * {@link DhcpPacket}, {@link DhcpHeader}, {@link DhcpOptions}의 직렬화 형식(Serialization Proxy).<br>
+     * 객체 그래프 대신 {@link DhcpPacketCodec} 레코드를 기록하고, 읽은 후에는 {@link #readResolve()}에서 원래 객체로 바꾼다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    static final class SerializedForm implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        /** {@link DhcpPacket} */
+        static final byte PACKET = 1;
+        /** {@link DhcpHeader} */
+        static final byte HEADER = 2;
+        /** {@link DhcpPacket}에 포함된 {@link DhcpOptions} */
+        static final byte OPTIONS = 3;
+        /** DHCP 메시지 없이 생성한 {@link DhcpOptions} */
+        static final byte OPTIONS_ONLY = 4;
+
+        private byte type;
+        private byte[] record;
+
+        /**
+         * {@link Externalizable}을 위한 생성자.
+         *
+         * @since 2026. 10. 17.
+         */
+        public SerializedForm() {
+        }
+
+        /**
+         *
+         * @param type
+         *            객체 유형
+         * @param record
+         *            {@link DhcpPacketCodec} 레코드
+         *
+         * @since 2026. 10. 17.
+         */
+        SerializedForm(byte type, byte[] record) {
+            this.type = type;
+            this.record = record;
+        }
+
+        /**
+         * <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param in
+         * @throws IOException
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see java.io.Externalizable#readExternal(java.io.ObjectInput)
+         */
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            this.type = in.readByte();
+            int length = in.readInt();
+            if (length < PREFIX_LENGTH) {
+                throw new InvalidObjectException("Invalid record length: " + length);
+            }
+            this.record = new byte[length];
+            in.readFully(this.record);
+        }
+
+        /**
+         * <br>
+         *
+         * <pre>
+         * [개정이력]
+         *      날짜    	| 작성자	|	내용
+         * ------------------------------------------
+         * 2026. 10. 17.		박준홍			최초 작성
+         * </pre>
+         *
+         * @param out
+         * @throws IOException
+         *
+         * @since 2026. 10. 17.
+         * @version 0.2.0
+         * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+         *
+         * @see java.io.Externalizable#writeExternal(java.io.ObjectOutput)
+         */
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeByte(this.type);
+            out.writeInt(this.record.length);
+            out.write(this.record);
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                ByteBuffer src = ByteBuffer.wrap(this.record);
+                switch (this.type) {
+                    case PACKET:
+                        return decodePacket(src, 0);
+                    case HEADER:
+                        return decodePacket(src, 0).getHeader();
+                    case OPTIONS:
+                        return decodePacket(src, 0).getOptions();
+                    case OPTIONS_ONLY:
+                        int pos = dataLengthOffset(0, readPrefix(src, 0));
+                        return DhcpOptions.newPacket(src, pos + DATA_LENGTH_LENGTH, readDataLength(src, 0, pos));
+                    default:
+                        throw new InvalidObjectException("Unknown type: " + this.type);
+                }
+            } catch (IllegalRawDataException e) {
+                InvalidObjectException ioe = new InvalidObjectException(e.getMessage());
+                ioe.initCause(e);
+                throw ioe;
+            }
+        }
+    }
+}
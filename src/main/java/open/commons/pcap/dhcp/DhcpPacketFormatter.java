@@ -0,0 +1,704 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 3:58:22
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.dhcp;
+
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.BOOT_FILE_NAME_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.BOOT_FILE_NAME_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.FLAGS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.GATEWAY_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HOPS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HW_ADDR_LENGTH_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HW_TYPE_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OPTIONS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OP_CODE_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SECONDS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_NAME_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_NAME_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.TRANSACTION_ID_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.YOUR_IP_ADDRESS_OFFSET;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import open.commons.core.utils.ExceptionUtils;
+import open.commons.pcap.raw.ByteBufferUtils;
+import open.commons.pcap.raw.FormatUtils;
+import open.commons.pcap.raw.NulTerminatedStringUtils;
+
+/**
+ * DHCP 메시지를 호출자가 제공한 {@link Appendable}(예: {@link StringBuilder})에 직접 기록하는 Formatter.<br>
+ * 버퍼의 고정 위치에서 값을 읽어 바로 기록하므로 {@link String#format(String, Object...)}, 필드 객체, 중간 문자열을 만들지 않는다.
+ *
+ * <ul>
+ * <li>{@link #MULTI_LINE}: 필드마다 한 줄씩 기록한다. {@link DhcpPacket#toString()}이 사용하는 형식.
+ * <li>{@link #COMPACT}: 한 줄로 기록한다. 운영 중 패킷 추적(trace) 로그에 사용한다.
+ * </ul>
+ *
+ * <pre>
+ * StringBuilder sb = new StringBuilder(512);
+ * DhcpPacketFormatter.COMPACT.format(sb, view);
+ * logger.trace("{}", sb);
+ * </pre>
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpPacketFormatter {
+
+    /** 필드마다 한 줄씩 기록하는 Formatter */
+    public static final DhcpPacketFormatter MULTI_LINE = new DhcpPacketFormatter(false);
+
+    /** 한 줄로 기록하는 Formatter */
+    public static final DhcpPacketFormatter COMPACT = new DhcpPacketFormatter(true);
+
+    /** {@link #MULTI_LINE} 형식의 항목 이름. 한 번만 생성한다. */
+    private static final String[] LABELS = { //
+            label("(op)", "OP Code") //
+            , label("(htype)", "H/W Type") //
+            , label("(hlen)", "H/W Addr. Len") //
+            , label("(hops)", "HOPS") //
+            , label("(xid)", "Transaction ID") //
+            , label("(sec)", "Seconds") //
+            , label("(flags)", "Flags") //
+            , label("(ciaddr)", "Client IP") //
+            , label("(yiaddr)", "Your IP") //
+            , label("(siaddr)", "Server IP") //
+            , label("(giaddr)", "Gateway IP") //
+            , label("(chaddr)", "Client H/W") //
+            , label("(sname)", "Server Name") //
+            , label("(file)", "Boot File Name") //
+            , label("(options)", "Options") //
+    };
+
+    /** {@link #COMPACT} 형식의 항목 이름 */
+    private static final String[] KEYS = { //
+            " op=", " htype=", " hlen=", " hops=", " xid=0x", " secs=", " flags=0x", " ciaddr=", " yiaddr=", " siaddr=", " giaddr=", " chaddr=", " sname=", " file=",
+            " options={" };
+
+    private static final int OP = 0;
+    private static final int HTYPE = 1;
+    private static final int HLEN = 2;
+    private static final int HOPS = 3;
+    private static final int XID = 4;
+    private static final int SECS = 5;
+    private static final int FLAGS = 6;
+    private static final int CIADDR = 7;
+    private static final int YIADDR = 8;
+    private static final int SIADDR = 9;
+    private static final int GIADDR = 10;
+    private static final int CHADDR = 11;
+    private static final int SNAME = 12;
+    private static final int FILE = 13;
+    private static final int OPTIONS = 14;
+
+    /** 한 줄 형식 여부 */
+    private final boolean compact;
+
+    private DhcpPacketFormatter(boolean compact) {
+        this.compact = compact;
+    }
+
+    /**
+     * 버퍼의 주어진 영역에 있는 DHCP 메시지를 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			Option Overload (52) 가 지정한 sname/file 은 옵션으로 기록
+     * </pre>
+     *
+     * @param <A>
+     * @param out
+     *            출력 대상
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @return 전달받은 출력 대상
+     * @throws IOException
+     *             출력 대상에 기록하는 도중 오류가 발생한 경우
+     * @throws IndexOutOfBoundsException
+     *             영역이 버퍼를 벗어나는 경우
+     * @throws IllegalArgumentException
+     *             영역이 고정 헤더({@value DhcpPacket.DhcpHeader#OPTIONS_OFFSET} bytes)보다 짧은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public <A extends Appendable> A format(A out, ByteBuffer buffer, int offset, int length) throws IOException {
+        ByteBufferUtils.validateBounds(buffer, offset, length);
+        if (length < OPTIONS_OFFSET) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "The data is too short to be a DHCP message. required=%,d, length=%,d", OPTIONS_OFFSET, length);
+        }
+
+        if (this.compact) {
+            out.append("DHCP len=");
+            FormatUtils.appendDecimal(out, length);
+        } else {
+            out.append("[DHCP Packet (");
+            FormatUtils.appendDecimal(out, length);
+            out.append(" bytes)]\n");
+        }
+
+        int op = buffer.get(offset + OP_CODE_OFFSET);
+        appendName(out, OP, op & 0xFF, DhcpOpCode.getInstance((byte) op).name());
+        int htype = buffer.get(offset + HW_TYPE_OFFSET);
+        appendName(out, HTYPE, htype & 0xFF, ArpHardwareTypes.getInstance((byte) htype).name());
+        int hlen = buffer.get(offset + HW_ADDR_LENGTH_OFFSET);
+        appendName(out, HLEN, hlen & 0xFF, DhcpHardwareLength.getInstance((byte) hlen).name());
+
+        beginField(out, HOPS);
+        FormatUtils.appendDecimal(out, ByteBufferUtils.getUnsignedByte(buffer, offset + HOPS_OFFSET));
+        endField(out);
+
+        beginField(out, XID);
+        if (!this.compact) {
+            out.append("0x");
+        }
+        FormatUtils.appendHex(out, buffer, offset + TRANSACTION_ID_OFFSET, 4);
+        endField(out);
+
+        beginField(out, SECS);
+        FormatUtils.appendDecimal(out, ByteBufferUtils.getUnsignedShort(buffer, offset + SECONDS_OFFSET));
+        endField(out);
+
+        beginField(out, FLAGS);
+        if (!this.compact) {
+            out.append("0x");
+        }
+        FormatUtils.appendHex(out, buffer, offset + FLAGS_OFFSET, 2);
+        endField(out);
+
+        appendIPv4(out, CIADDR, ByteBufferUtils.getInt(buffer, offset + CLIENT_IP_ADDRESS_OFFSET));
+        appendIPv4(out, YIADDR, ByteBufferUtils.getInt(buffer, offset + YOUR_IP_ADDRESS_OFFSET));
+        appendIPv4(out, SIADDR, ByteBufferUtils.getInt(buffer, offset + SERVER_IP_ADDRESS_OFFSET));
+        appendIPv4(out, GIADDR, ByteBufferUtils.getInt(buffer, offset + GATEWAY_IP_ADDRESS_OFFSET));
+
+        beginField(out, CHADDR);
+        int chaddrLength = hlen & 0xFF;
+        if (chaddrLength < 1 || chaddrLength > CLIENT_HW_ADDRESS_HEADER_SIZE) {
+            chaddrLength = CLIENT_HW_ADDRESS_HEADER_SIZE;
+        }
+        FormatUtils.appendMAC(out, buffer, offset + CLIENT_HW_ADDRESS_OFFSET, chaddrLength);
+        endField(out);
+
+        // Option Overload (52) 가 지정한 필드는 문자열이 아니라 옵션이다.
+        int overload = overload(buffer, offset + OPTIONS_OFFSET, length - OPTIONS_OFFSET);
+        appendOverloadable(out, SNAME, buffer, offset + SERVER_NAME_OFFSET, SERVER_NAME_HEADER_SIZE, (overload & DhcpOptionIndex.OVERLOAD_SNAME) != 0);
+        appendOverloadable(out, FILE, buffer, offset + BOOT_FILE_NAME_OFFSET, BOOT_FILE_NAME_HEADER_SIZE, (overload & DhcpOptionIndex.OVERLOAD_FILE) != 0);
+
+        beginField(out, OPTIONS);
+        if (this.compact) {
+            appendOptions(out, buffer, offset + OPTIONS_OFFSET, length - OPTIONS_OFFSET, true);
+            out.append('}');
+        } else {
+            out.append("0x");
+            FormatUtils.appendHex(out, buffer, offset + OPTIONS_OFFSET, length - OPTIONS_OFFSET);
+            appendOptions(out, buffer, offset + OPTIONS_OFFSET, length - OPTIONS_OFFSET, true);
+            endField(out);
+        }
+
+        return out;
+    }
+
+    /**
+     * DHCP 패킷을 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param <A>
+     * @param out
+     *            출력 대상
+     * @param packet
+     *            DHCP 패킷
+     * @return 전달받은 출력 대상
+     * @throws IOException
+     *             출력 대상에 기록하는 도중 오류가 발생한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public <A extends Appendable> A format(A out, DhcpPacket packet) throws IOException {
+        ByteBuffer buffer = packet.getHeader().buffer();
+        return format(out, buffer, 0, buffer.limit());
+    }
+
+    /**
+     * {@link DhcpPacketView}가 가리키는 DHCP 메시지를 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param <A>
+     * @param out
+     *            출력 대상
+     * @param view
+     *            DHCP 메시지 뷰
+     * @return 전달받은 출력 대상
+     * @throws IOException
+     *             출력 대상에 기록하는 도중 오류가 발생한 경우
+     * @throws IllegalStateException
+     *             뷰를 반환(release)했거나 아직 연결하지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public <A extends Appendable> A format(A out, DhcpPacketView view) throws IOException {
+        return format(out, view.getBuffer(), view.getOffset(), view.getLength());
+    }
+
+    /**
+     * DHCP Options 영역을 기록한다. <br>
+     * Magic Cookie 로 시작하는 경우 Magic Cookie 는 기록하지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param <A>
+     * @param out
+     *            출력 대상
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            Options 영역 시작 위치 (절대 위치)
+     * @param length
+     *            Options 영역 길이
+     * @return 전달받은 출력 대상
+     * @throws IOException
+     *             출력 대상에 기록하는 도중 오류가 발생한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public <A extends Appendable> A formatOptions(A out, ByteBuffer buffer, int offset, int length) throws IOException {
+        ByteBufferUtils.validateBounds(buffer, offset, length);
+
+        if (this.compact) {
+            out.append("DHCP Options len=");
+            FormatUtils.appendDecimal(out, length);
+            out.append(" {");
+            appendOptions(out, buffer, offset, length, true);
+            out.append('}');
+        } else {
+            out.append("\n[DHCP Options (");
+            FormatUtils.appendDecimal(out, length);
+            out.append(" bytes)]\n  Hex stream: ");
+            FormatUtils.appendHex(out, buffer, offset, length);
+            appendOptions(out, buffer, offset, length, true);
+        }
+
+        return out;
+    }
+
+    /**
+     * 한 줄 형식 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * 버퍼의 주어진 영역에 있는 DHCP 메시지를 문자열로 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #format(Appendable, ByteBuffer, int, int)
+     */
+    public String toString(ByteBuffer buffer, int offset, int length) {
+        try {
+            return format(new StringBuilder(this.compact ? 256 : 1024), buffer, offset, length).toString();
+        } catch (IOException e) {
+            // StringBuilder 는 IOException 을 발생시키지 않는다.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * IPv4 주소 필드를 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     * @param field
+     * @param address
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void appendIPv4(Appendable out, int field, int address) throws IOException {
+        beginField(out, field);
+        FormatUtils.appendIPv4(out, address);
+        endField(out);
+    }
+
+    /**
+     * {@link org.pcap4j.packet.namednumber.NamedNumber} 필드를 기록한다. <br>
+     * {@link #MULTI_LINE}은 '값 (이름)', {@link #COMPACT}는 이름에 공백이 포함될 수 있으므로 '값' 만 기록한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     * @param field
+     * @param value
+     * @param name
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void appendName(Appendable out, int field, int value, String name) throws IOException {
+        beginField(out, field);
+        FormatUtils.appendDecimal(out, value);
+        if (!this.compact) {
+            out.append(" (").append(name).append(')');
+        }
+        endField(out);
+    }
+
+    /**
+     * 옵션을 TLV 순서대로 기록한다. <br>
+     * {@link #MULTI_LINE}은 옵션마다 한 줄('    [code] value'), {@link #COMPACT}는 'code=value' 를 공백으로 구분하여 기록한다. {@link #MULTI_LINE}은 DHCP
+     * Message Type (53) 의 이름({@link DhcpMessageType})을 함께 기록한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			DHCP Message Type 이름 추가
+     * 2026. 10. 17.		박준홍			Option Overload 영역을 위해서 Magic Cookie 여부 추가
+     * </pre>
+     *
+     * @param out
+     * @param buffer
+     * @param offset
+     * @param length
+     * @param cookie
+     *            Magic Cookie 로 시작할 수 있는 영역인지 여부. sname/file 영역은 Magic Cookie 가 없다.
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void appendOptions(Appendable out, ByteBuffer buffer, int offset, int length, boolean cookie) throws IOException {
+        int pos = offset;
+        int end = offset + length;
+        if (cookie && length >= DhcpOptionIndex.MAGIC_COOKIE_LENGTH && ByteBufferUtils.getInt(buffer, pos) == DhcpOptionIndex.MAGIC_COOKIE) {
+            pos += DhcpOptionIndex.MAGIC_COOKIE_LENGTH;
+        }
+
+        boolean first = true;
+        while (pos < end) {
+            int code = ByteBufferUtils.getUnsignedByte(buffer, pos++);
+            if (code == DhcpOptionCode.PAD) {
+                continue;
+            }
+            if (code == DhcpOptionCode.END || pos >= end) {
+                break;
+            }
+            int len = ByteBufferUtils.getUnsignedByte(buffer, pos++);
+            boolean truncated = pos + len > end;
+            if (truncated) {
+                len = end - pos;
+            }
+
+            if (this.compact) {
+                if (!first) {
+                    out.append(' ');
+                }
+                FormatUtils.appendDecimal(out, code).append('=');
+            } else {
+                out.append("\n    [");
+                FormatUtils.appendDecimal(out, code).append("] ");
+            }
+            FormatUtils.appendHex(out, buffer, pos, len);
+            if (truncated) {
+                out.append("...");
+                break;
+            }
+            if (code == DhcpOptionCode.MESSAGE_TYPE && len == 1 && !this.compact) {
+                out.append(" (").append(DhcpMessageType.getInstance(buffer.get(pos)).name()).append(')');
+            }
+
+            pos += len;
+            first = false;
+        }
+    }
+
+    /**
+     * sname/file 필드를 기록한다. <br>
+     * Option Overload (52) 가 지정한 경우 옵션으로 해석하여 기록하고, 그렇지 않은 경우 NUL 로 끝나는 문자열로 기록한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     * @param field
+     * @param buffer
+     * @param offset
+     *            필드 시작 위치 (절대 위치)
+     * @param size
+     *            필드 크기
+     * @param overloaded
+     *            옵션을 담고 있는지 여부
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void appendOverloadable(Appendable out, int field, ByteBuffer buffer, int offset, int size, boolean overloaded) throws IOException {
+        beginField(out, field);
+        if (!overloaded) {
+            out.append(NulTerminatedStringUtils.decode(buffer, offset, size));
+            endField(out);
+        } else if (this.compact) {
+            out.append('{');
+            appendOptions(out, buffer, offset, size, false);
+            out.append('}');
+        } else {
+            out.append("0x");
+            FormatUtils.appendHex(out, buffer, offset, size);
+            appendOptions(out, buffer, offset, size, false);
+            endField(out);
+        }
+    }
+
+    /**
+     * 필드의 이름을 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     * @param field
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void beginField(Appendable out, int field) throws IOException {
+        out.append(this.compact ? KEYS[field] : LABELS[field]);
+    }
+
+    /**
+     * 필드를 마친다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void endField(Appendable out) throws IOException {
+        if (!this.compact) {
+            out.append('\n');
+        }
+    }
+
+    /**
+     * 한 줄 형식 여부에 맞는 Formatter 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param compact
+     *            한 줄 형식 여부
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpPacketFormatter getInstance(boolean compact) {
+        return compact ? COMPACT : MULTI_LINE;
+    }
+
+    /**
+     * {@link #MULTI_LINE} 형식의 항목 이름을 생성한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param field
+     * @param name
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static String label(String field, String name) {
+        return String.format("  %-9s %-15s: ", field, name);
+    }
+
+    /**
+     * Options 영역에서 Option Overload (52) 값을 찾는다. <br>
+     * 색인을 생성하지 않고 TLV 를 순서대로 확인한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     * @param offset
+     *            Options 영역 시작 위치 (절대 위치)
+     * @param length
+     *            Options 영역 길이
+     * @return 0 또는 {@link DhcpOptionIndex#OVERLOAD_FILE}, {@link DhcpOptionIndex#OVERLOAD_SNAME}, {@link DhcpOptionIndex#OVERLOAD_BOTH}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int overload(ByteBuffer buffer, int offset, int length) {
+        int pos = offset;
+        int end = offset + length;
+        if (length >= DhcpOptionIndex.MAGIC_COOKIE_LENGTH && ByteBufferUtils.getInt(buffer, pos) == DhcpOptionIndex.MAGIC_COOKIE) {
+            pos += DhcpOptionIndex.MAGIC_COOKIE_LENGTH;
+        }
+
+        while (pos < end) {
+            int code = ByteBufferUtils.getUnsignedByte(buffer, pos++);
+            if (code == DhcpOptionCode.PAD) {
+                continue;
+            }
+            if (code == DhcpOptionCode.END || pos >= end) {
+                break;
+            }
+            int len = ByteBufferUtils.getUnsignedByte(buffer, pos++);
+            if (pos + len > end) {
+                break;
+            }
+            if (code == DhcpOptionCode.OPTION_OVERLOAD && len > 0) {
+                return ByteBufferUtils.getUnsignedByte(buffer, pos) & DhcpOptionIndex.OVERLOAD_BOTH;
+            }
+            pos += len;
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오전 11:06:24
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link DhcpPacketView}를 재사용하는 Pool.<br>
+ * 패킷마다 객체를 생성하지 않으므로, 정상 상태(steady state)에서는 패킷을 해석할 때 객체를 생성하지 않는다.
+ * 
+ * <pre>
+ * DhcpPacketPool pool = DhcpPacketPool.forCurrentThread();
+ * DhcpPacketView view = pool.acquire().reset(buffer, offset, length);
+ * try {
+ *     ...
+ * } finally {
+ *     view.release();
+ * }
+ * </pre>
+ * 
+ * {@link #acquire()}는 Pool 을 소유한 하나의 thread(처음 {@link #acquire()}를 호출한 thread)에서만 호출해야 한다. 여러 thread 에서 얻는 경우
+ * {@link #forCurrentThread()}로 thread 마다 Pool 을 사용한다.<br>
+ * {@link #release(DhcpPacketView)}는 어느 thread 에서 호출해도 된다. 다른 thread 에서 반환한 객체는 잠금 없이 반환 목록(stack)에 추가되며, 소유 thread 가 보관 중인
+ * 객체를 모두 사용한 후 {@link #acquire()}에서 한번에 가져온다. 따라서 캡처 Thread 가 객체를 얻어 큐로 전달하고, 소비자 Thread 가 사용한 후 반환하는 방식으로 사용할 수
+ * 있으며, 이 경우에도 객체를 생성하지 않는다.
+ * 
+ * <pre>
+ * // 캡처 Thread
+ * DhcpPacketView view = pool.acquire().reset(ByteBuffer.wrap(frame), offset, length);
+ * queue.offer(view);
+ * 
+ * // 소비자 Thread
+ * DhcpPacketView view = queue.take();
+ * try {
+ *     ...
+ * } finally {
+ *     view.release();
+ * }
+ * </pre>
+ * 
+
+ * 디버그 모드에서는 반환한 객체를 다시 사용하지 않으므로, 반환한 이후에 객체를 사용하면 반환한 위치를 원인(cause)으로 하는 {@link IllegalStateException}이 발생한다. System
+ * Property <code>{@value #PROPERTY_DEBUG}=true</code> 로 기본값을 설정할 수 있다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpPacketPool {
+
+    /** 기본 최대 보관 개수 */
+    public static final int DEFAULT_CAPACITY = 256;
+    /** 디버그 모드 기본값을 설정하는 System Property */
+    public static final String PROPERTY_DEBUG = "open.commons.pcap.dhcp.pool.debug";
+
+    private static final ThreadLocal<DhcpPacketPool> THREAD_POOLS = ThreadLocal.withInitial(() -> new DhcpPacketPool(DEFAULT_CAPACITY));
+
+    /** 반환된 객체. 소유 thread 에서만 변경한다. */
+    private final DhcpPacketView[] views;
+    /** 보관 중인 객체 개수 */
+    private int size;
+    /** 다른 thread 에서 반환한 객체 목록(stack)의 첫번째 객체. {@link DhcpPacketView#nextReturned}로 연결된다. */
+    private final AtomicReference<DhcpPacketView> returned = new AtomicReference<>();
+    /** Pool 을 소유한 thread. 처음 {@link #acquire()}를 호출할 때 설정한다. */
+    private volatile Thread owner;
+    /** 디버그 모드 여부 */
+    private final boolean debug;
+    /** 이 Pool 이 생성한 객체 개수 */
+    private long allocatedCount;
+
+    /**
+     * System Property {@value #PROPERTY_DEBUG}에 따라 디버그 모드를 설정한다.
+     * 
+     * @param capacity
+     *            최대 보관 개수
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpPacketPool(int capacity) {
+        this(capacity, Boolean.getBoolean(PROPERTY_DEBUG));
+    }
+
+    /**
+     * 
+     * @param capacity
+     *            최대 보관 개수
+     * @param debug
+     *            디버그 모드 여부
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpPacketPool(int capacity, boolean debug) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative. capacity=" + capacity);
+        }
+        this.views = new DhcpPacketView[capacity];
+        this.debug = debug;
+    }
+
+    /**
+     * 객체를 반환한다. 보관 중인 객체가 없으면 새로 생성한다. <br>
+     * 반환한 객체는 {@link DhcpPacketView#reset(java.nio.ByteBuffer, int, int)}으로 메시지에 연결한 후 사용한다. 소유 thread 에서만 호출해야 한다.<br>
+     * 보관 중인 객체가 없는 경우 다른 thread 에서 반환한 객체를 먼저 가져온다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			다른 thread 에서 반환한 객체 사용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketView acquire() {
+        if (this.owner == null) {
+            this.owner = Thread.currentThread();
+        }
+        if (this.size < 1) {
+            drainReturned();
+        }
+
+        if (this.size > 0) {
+            DhcpPacketView view = this.views[--this.size];
+            this.views[this.size] = null;
+            view.released = false;
+            return view;
+        }
+
+        DhcpPacketView view = new DhcpPacketView();
+        view.pool = this;
+        this.allocatedCount++;
+        return view;
+    }
+
+    /**
+     * 최대 보관 개수를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int capacity() {
+        return this.views.length;
+    }
+
+    /**
+     * 이 Pool 이 생성한 객체 개수를 반환한다. 정상 상태에서는 더 이상 증가하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getAllocatedCount() {
+        return this.allocatedCount;
+    }
+
+    /**
+     * 디버그 모드 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isDebug() {
+        return this.debug;
+    }
+
+    /**
+     * 사용을 마친 객체를 보관한다. <br>
+     * 객체는 버퍼와의 연결을 해제하며, 최대 보관 개수를 넘는 경우에는 보관하지 않는다. 디버그 모드에서는 반환한 위치를 기록하고 보관하지 않는다.<br>
+     * 어느 thread 에서 호출해도 된다. 소유 thread 가 아닌 경우 잠금 없이 반환 목록에 추가한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			다른 thread 에서 반환 가능
+     * </pre>
+     *
+     * @param view
+     *            이 Pool 에서 얻은 객체
+     * @throws IllegalArgumentException
+     *             다른 Pool 에서 얻은 객체인 경우
+     * @throws IllegalStateException
+     *             이미 반환한 객체인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacketView#release()
+     */
+    public void release(DhcpPacketView view) {
+        if (view.pool != this) {
+            throw new IllegalArgumentException("The view does not belong to this pool.");
+        }
+        if (view.released) {
+            throw new IllegalStateException("The view has already been released.", view.releasedAt);
+        }
+
+        view.clear();
+        view.released = true;
+
+        if (this.debug) {
+            view.releasedAt = new Throwable("Released here. thread=" + Thread.currentThread().getName());
+        } else if (Thread.currentThread() == this.owner) {
+            keep(view);
+        } else {
+            DhcpPacketView head;
+            do {
+                head = this.returned.get();
+                view.nextReturned = head;
+            } while (!this.returned.compareAndSet(head, view));
+        }
+    }
+
+    /**
+     * 보관 중인 객체 개수를 반환한다. 다른 thread 에서 반환하여 아직 가져오지 않은 객체는 포함하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * 다른 thread 에서 반환한 객체를 모두 가져와 보관한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void drainReturned() {
+        DhcpPacketView view = this.returned.getAndSet(null);
+        while (view != null) {
+            DhcpPacketView next = view.nextReturned;
+            view.nextReturned = null;
+            keep(view);
+            view = next;
+        }
+    }
+
+    /**
+     * 최대 보관 개수를 넘지 않는 경우 객체를 보관한다. 소유 thread 에서만 호출한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param view
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void keep(DhcpPacketView view) {
+        if (this.size < this.views.length) {
+            this.views[this.size++] = view;
+        }
+    }
+
+    /**
+     * 현재 thread 전용 Pool 을 반환한다. 최대 보관 개수는 {@link #DEFAULT_CAPACITY} 이다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpPacketPool forCurrentThread() {
+        return THREAD_POOLS.get();
+    }
+}
@@ -0,0 +1,927 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오전 10:31:02
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.BOOT_FILE_NAME_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.FLAGS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.GATEWAY_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HOPS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HW_ADDR_LENGTH_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HW_TYPE_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OPTIONS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OP_CODE_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SECONDS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_NAME_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.TRANSACTION_ID_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.YOUR_IP_ADDRESS_OFFSET;
+
+import java.nio.ByteBuffer;
+
+import org.pcap4j.packet.IllegalRawDataException;
+
+import open.commons.pcap.raw.ByteBufferUtils;
+import open.commons.pcap.raw.IPv4Value;
+import open.commons.pcap.raw.MacValue;
+
+/**
+ * {@link ByteBuffer} 위에서 DHCP 메시지(RFC 2131)를 복사 없이 읽는 재사용 가능한 읽기 전용 Flyweight.<br>
+ * 모든 필드는 {@link DhcpPacket.DhcpHeader}에 정의된 고정 위치(<code>OP_CODE_OFFSET</code> ... <code>OPTIONS_OFFSET</code>)에서 호출
+ * 시점에 직접 읽으며, {@link #reset(ByteBuffer, int, int)}로 다른 패킷에 다시 연결할 수 있다.
+ * 
+ * <pre>
+ * DhcpPacketView view = new DhcpPacketView();
+ * while (...) {
+ *     view.reset(buffer, offset, length);
+ *     int xid = view.getXid();
+ *     ...
+ * }
+ * </pre>
+ *
+ * 이 객체는 thread-safe 하지 않으며, 연결된 버퍼의 내용이 변경되면 읽는 값도 함께 변경된다.<br>
+ * {@link DhcpPacketPool}에서 얻은 객체는 사용한 후 {@link #release()}로 반환하며, 반환한 이후에 필드를 읽으면 {@link IllegalStateException}이 발생한다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpPacketView {
+
+    /** 'flags' 필드의 BROADCAST 비트 */
+    public static final int FLAG_BROADCAST = 0x8000;
+
+    /** 연결된 버퍼 */
+    private ByteBuffer buffer;
+    /** 버퍼 내 DHCP 메시지 시작 위치 */
+    private int offset;
+    /** DHCP 메시지 길이 */
+    private int length;
+
+    /** 옵션 색인 */
+    private final DhcpOptionIndex options = new DhcpOptionIndex();
+    /** 현재 메시지의 옵션 색인 여부 */
+    private boolean indexed;
+
+    /** 이 객체를 생성한 Pool. Pool 을 사용하지 않는 경우 <code>null</code> */
+    DhcpPacketPool pool;
+    /** 반환(release) 여부 */
+    boolean released;
+    /** 반환한 위치. Pool 의 디버그 모드에서만 기록한다. */
+    Throwable releasedAt;
+    /** Pool 을 소유한 thread 가 아닌 thread 에서 반환한 객체 목록(stack)의 다음 객체 */
+    DhcpPacketView nextReturned;
+
+    /**
+     * 아무 버퍼에도 연결되지 않은 객체를 생성한다. {@link #reset(ByteBuffer, int, int)}를 호출한 이후에 사용할 수 있다.
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpPacketView() {
+    }
+
+    /**
+     * Client Hardware Address (chaddr) 를 주어진 배열에 복사한다. <br>
+     * 복사하는 길이는 'hlen' 값과 {@link DhcpPacket.DhcpHeader#CLIENT_HW_ADDRESS_HEADER_SIZE} 중 작은 값이다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            복사할 배열
+     * @param dstOffset
+     *            복사할 배열의 시작 위치
+     * @return 복사한 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int copyChaddr(byte[] dst, int dstOffset) {
+        int len = Math.min(getHlen(), CLIENT_HW_ADDRESS_HEADER_SIZE);
+        int base = this.offset + CLIENT_HW_ADDRESS_OFFSET;
+        ByteBuffer buffer = buffer();
+        for (int i = 0; i < len; i++) {
+            dst[dstOffset + i] = buffer.get(base + i);
+        }
+        return len;
+    }
+
+    /**
+     * 연결된 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public ByteBuffer getBuffer() {
+        return buffer();
+    }
+
+    /**
+     * Client Hardware Address (chaddr) 앞 6 bytes (Ethernet MAC)를 48 bits 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getChaddrAsLong() {
+        return ByteBufferUtils.getLong(buffer(), this.offset + CLIENT_HW_ADDRESS_OFFSET, 6);
+    }
+
+    /**
+     * Client Hardware Address (chaddr) 의 앞 6 bytes 를 {@link MacValue} 로 반환한다. <br>
+     * Map 의 key 로 사용할 때 사용한다. 호출할 때마다 새로운 객체를 생성하므로, 객체가 필요하지 않은 경우 {@link #getChaddrAsLong()}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public MacValue getChaddrValue() {
+        return MacValue.valueOf(buffer(), this.offset + CLIENT_HW_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Client IP Address (ciaddr) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getCiaddr() {
+        return ByteBufferUtils.getInt(buffer(), this.offset + CLIENT_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Client IP Address (ciaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+     * Map 의 key 로 사용할 때 사용한다. 호출할 때마다 새로운 객체를 생성하므로, 객체가 필요하지 않은 경우 {@link #getCiaddr()}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public IPv4Value getCiaddrValue() {
+        return IPv4Value.valueOf(buffer(), this.offset + CLIENT_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Boot File Name (file) 필드의 버퍼 내 절대 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacket.DhcpHeader#BOOT_FILE_NAME_HEADER_SIZE
+     */
+    public int getFileOffset() {
+        return this.offset + BOOT_FILE_NAME_OFFSET;
+    }
+
+    /**
+     * Flags (flags) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getFlags() {
+        return ByteBufferUtils.getUnsignedShort(buffer(), this.offset + FLAGS_OFFSET);
+    }
+
+    /**
+     * Gateway IP Address (giaddr) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getGiaddr() {
+        return ByteBufferUtils.getInt(buffer(), this.offset + GATEWAY_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Gateway IP Address (giaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+     * Map 의 key 로 사용할 때 사용한다. 호출할 때마다 새로운 객체를 생성하므로, 객체가 필요하지 않은 경우 {@link #getGiaddr()}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public IPv4Value getGiaddrValue() {
+        return IPv4Value.valueOf(buffer(), this.offset + GATEWAY_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Hardware Address Length (hlen) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getHlen() {
+        return ByteBufferUtils.getUnsignedByte(buffer(), this.offset + HW_ADDR_LENGTH_OFFSET);
+    }
+
+    /**
+     * HOPS (hops) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getHops() {
+        return ByteBufferUtils.getUnsignedByte(buffer(), this.offset + HOPS_OFFSET);
+    }
+
+    /**
+     * Hardware Type (htype) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getHtype() {
+        return ByteBufferUtils.getUnsignedByte(buffer(), this.offset + HW_TYPE_OFFSET);
+    }
+
+    /**
+     * DHCP 메시지 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getLength() {
+        return this.length;
+    }
+
+    /**
+     * 버퍼 내 DHCP 메시지 시작 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * OP Code (op) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOpCode
+     */
+    public int getOp() {
+        return ByteBufferUtils.getUnsignedByte(buffer(), this.offset + OP_CODE_OFFSET);
+    }
+
+    /**
+     * 옵션 색인을 반환한다. 메시지마다 처음 호출할 때 Options 영역(Option Overload (52) 포함)을 색인하며, 색인 객체는 재사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex
+     */
+    public DhcpOptionIndex getOptions() {
+        if (!this.indexed) {
+            this.options.indexMessage(buffer(), this.offset, this.length);
+            this.indexed = true;
+        }
+        return this.options;
+    }
+
+    /**
+     * Options (options) 필드의 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOptionsLength() {
+        return this.length - OPTIONS_OFFSET;
+    }
+
+    /**
+     * Options (options) 필드의 버퍼 내 절대 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOptionsOffset() {
+        return this.offset + OPTIONS_OFFSET;
+    }
+
+    /**
+     * Seconds (secs) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getSecs() {
+        return ByteBufferUtils.getUnsignedShort(buffer(), this.offset + SECONDS_OFFSET);
+    }
+
+    /**
+     * Server IP Address (siaddr) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getSiaddr() {
+        return ByteBufferUtils.getInt(buffer(), this.offset + SERVER_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Server IP Address (siaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+     * Map 의 key 로 사용할 때 사용한다. 호출할 때마다 새로운 객체를 생성하므로, 객체가 필요하지 않은 경우 {@link #getSiaddr()}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public IPv4Value getSiaddrValue() {
+        return IPv4Value.valueOf(buffer(), this.offset + SERVER_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Server Name (sname) 필드의 버퍼 내 절대 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacket.DhcpHeader#SERVER_NAME_HEADER_SIZE
+     */
+    public int getSnameOffset() {
+        return this.offset + SERVER_NAME_OFFSET;
+    }
+
+    /**
+     * Transaction ID (xid) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getXid() {
+        return ByteBufferUtils.getInt(buffer(), this.offset + TRANSACTION_ID_OFFSET);
+    }
+
+    /**
+     * Your IP Address (yiaddr) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getYiaddr() {
+        return ByteBufferUtils.getInt(buffer(), this.offset + YOUR_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * Your IP Address (yiaddr) 를 {@link IPv4Value} 로 반환한다. <br>
+     * Map 의 key 로 사용할 때 사용한다. 호출할 때마다 새로운 객체를 생성하므로, 객체가 필요하지 않은 경우 {@link #getYiaddr()}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public IPv4Value getYiaddrValue() {
+        return IPv4Value.valueOf(buffer(), this.offset + YOUR_IP_ADDRESS_OFFSET);
+    }
+
+    /**
+     * 'flags' 필드의 BROADCAST 비트 설정 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isBroadcast() {
+        return (getFlags() & FLAG_BROADCAST) != 0;
+    }
+
+    /**
+     * 사용을 마친 객체를 반환한다. <br>
+     * {@link DhcpPacketPool}에서 얻은 객체는 Pool 로 돌아가고, 그렇지 않은 객체는 버퍼와의 연결만 해제한다. 반환한 이후에는 이 객체를 참조해서는 안된다.<br>
+     * 객체를 얻은 thread 가 아닌 thread(예: 캡처 Thread 에서 얻은 객체를 전달받은 소비자 Thread)에서 호출해도 된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			다른 thread 에서 반환 가능
+     * </pre>
+     *
+     * @throws IllegalStateException
+     *             이미 반환한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacketPool#release(DhcpPacketView)
+     */
+    public void release() {
+        if (this.pool != null) {
+            this.pool.release(this);
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * 새로운 DHCP 메시지에 연결한다. <br>
+     * 버퍼의 position/limit 는 변경하지 않으며, 데이터를 복사하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼 (heap, direct 모두 가능)
+     * @param offset
+     *            버퍼 내 DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @return 이 객체
+     * @throws IllegalRawDataException
+     *             DHCP 고정 헤더({@link DhcpPacket.DhcpHeader#OPTIONS_OFFSET} bytes) 보다 짧은 경우
+     * @throws IllegalStateException
+     *             Pool 로 반환한 객체인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketView reset(ByteBuffer buffer, int offset, int length) throws IllegalRawDataException {
+        if (this.released) {
+            throw new IllegalStateException("The view has been released to the pool.", this.releasedAt);
+        }
+        validateBounds(buffer, offset, length);
+
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.indexed = false;
+
+        return this;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpPacketView [offset=");
+        builder.append(this.offset);
+        builder.append(", length=");
+        builder.append(this.length);
+        if (this.buffer != null) {
+            builder.append(", op=");
+            builder.append(getOp());
+            builder.append(", xid=0x");
+            builder.append(Integer.toHexString(getXid()));
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 연결된 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     * @throws IllegalStateException
+     *             반환(release)했거나 아직 연결하지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private ByteBuffer buffer() {
+        ByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            throw this.released //
+                    ? new IllegalStateException("The view has been released.", this.releasedAt) //
+                    : new IllegalStateException("The view is not connected to any buffer. Call reset(ByteBuffer, int, int) first.");
+        }
+        return buffer;
+    }
+
+    /**
+     * 버퍼와의 연결을 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void clear() {
+        this.buffer = null;
+        this.offset = 0;
+        this.length = 0;
+        this.indexed = false;
+    }
+
+    /**
+     * {@link DhcpPacketCodec}가 기록한 옵션 색인을 복원한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			색인 영역의 끝을 받고, 메시지 길이로 옵션 위치를 검사함.
+     * </pre>
+     *
+     * @param src
+     *            색인을 기록한 버퍼
+     * @param index
+     *            색인 위치 (절대 위치)
+     * @param end
+     *            색인을 읽을 수 있는 영역의 끝 (절대 위치, 제외)
+     * @return 읽은 byte 수
+     * @throws IllegalRawDataException
+     *             색인이 손상되었거나 영역을 벗어나는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    int readOptionIndex(ByteBuffer src, int index, int end) throws IllegalRawDataException {
+        int read = this.options.readFrom(src, index, end, buffer(), this.offset, this.length);
+        this.indexed = true;
+        return read;
+    }
+
+    /**
+     * 주어진 버퍼 영역이 DHCP 메시지를 담을 수 있는지 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     * @param offset
+     * @param length
+     * @throws IllegalRawDataException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    static void validateBounds(ByteBuffer buffer, int offset, int length) throws IllegalRawDataException {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null.");
+        }
+        if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+            StringBuilder sb = new StringBuilder(80);
+            sb.append("Out of bounds. buffer.limit: ").append(buffer.limit()).append(", offset: ").append(offset).append(", length: ").append(length);
+            throw new IllegalRawDataException(sb.toString());
+        }
+        if (length < OPTIONS_OFFSET) {
+            StringBuilder sb = new StringBuilder(80);
+            sb.append("The data is too short to build a DHCP header(").append(OPTIONS_OFFSET).append(" bytes). offset: ").append(offset).append(", length: ")
+                    .append(length);
+            throw new IllegalRawDataException(sb.toString());
+        }
+    }
+
+    /**
+     * 주어진 DHCP 메시지에 연결된 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼 (heap, direct 모두 가능)
+     * @param offset
+     *            버퍼 내 DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @return
+     * @throws IllegalRawDataException
+     *             DHCP 고정 헤더({@link DhcpPacket.DhcpHeader#OPTIONS_OFFSET} bytes) 보다 짧은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #reset(ByteBuffer, int, int)
+     */
+    public static DhcpPacketView wrap(ByteBuffer buffer, int offset, int length) throws IllegalRawDataException {
+        return new DhcpPacketView().reset(buffer, offset, length);
+    }
+}
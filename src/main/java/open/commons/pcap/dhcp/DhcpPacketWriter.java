@@ -0,0 +1,843 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오전 11:48:02
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.BOOT_FILE_NAME_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.BOOT_FILE_NAME_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.FLAGS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.GATEWAY_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HOPS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HW_ADDR_LENGTH_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.HW_TYPE_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OPTIONS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OP_CODE_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SECONDS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_IP_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_NAME_HEADER_SIZE;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.SERVER_NAME_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.TRANSACTION_ID_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.YOUR_IP_ADDRESS_OFFSET;
+
+import java.nio.ByteBuffer;
+
+import open.commons.pcap.raw.ByteBufferUtils;
+
+/**
+ * DHCP 메시지(RFC 2131)를 호출자가 제공한 {@link ByteBuffer}에 직접 기록하는 재사용 가능한 Encoder.<br>
+ * 헤더 필드는 {@link DhcpPacket.DhcpHeader}에 정의된 고정 위치에 기록하고, 옵션은 Magic Cookie 다음부터 TLV 형식으로 이어서 기록한다. 중간 배열을 만들지 않으므로
+ * 패킷을 기록할 때 객체를 생성하지 않는다.
+ * 
+ * <pre>
+ * DhcpPacketWriter writer = new DhcpPacketWriter();
+ * int length = writer.reset(buffer, offset) //
+ *         .op(DhcpPacketWriter.OP_REPLY).htype(1).hlen(6).xid(xid).yiaddr(yiaddr).chaddr(mac) //
+ *         .optionByte(DhcpOptionCode.MESSAGE_TYPE, 2) //
+ *         .optionInt(DhcpOptionCode.SERVER_IDENTIFIER, serverIp) //
+ *         .optionInt(DhcpOptionCode.LEASE_TIME, 86400) //
+ *         .finish(DhcpPacketWriter.BOOTP_MIN_LENGTH);
+ * </pre>
+ * 
+ * 버퍼의 position/limit/order 는 변경하지 않는다. 이 객체는 thread-safe 하지 않다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpPacketWriter {
+
+    /** BOOTP 메시지 최소 길이 (RFC 951). 일부 클라이언트는 이보다 짧은 메시지를 버린다. */
+    public static final int BOOTP_MIN_LENGTH = 300;
+    /** op: BOOTREQUEST */
+    public static final int OP_REQUEST = 1;
+    /** op: BOOTREPLY */
+    public static final int OP_REPLY = 2;
+
+    /** 옵션 값의 최대 길이 */
+    private static final int MAX_OPTION_LENGTH = 0xFF;
+
+    /** 기록할 버퍼 */
+    private ByteBuffer buffer;
+    /** 버퍼 내 DHCP 메시지 시작 위치 */
+    private int offset;
+    /** 다음 옵션을 기록할 위치 (절대 위치) */
+    private int position;
+
+    /**
+     * 아무 버퍼에도 연결되지 않은 객체를 생성한다. {@link #reset(ByteBuffer, int)}를 호출한 이후에 사용할 수 있다.
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpPacketWriter() {
+    }
+
+    /**
+     * Client Hardware Address (chaddr) 를 기록한다. <br>
+     * 'hlen' 필드는 변경하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param src
+     *            주소
+     * @param srcOffset
+     *            주소 시작 위치
+     * @param length
+     *            길이 (0 ~ {@link DhcpPacket.DhcpHeader#CLIENT_HW_ADDRESS_HEADER_SIZE})
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             길이가 'chaddr' 필드보다 긴 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter chaddr(byte[] src, int srcOffset, int length) {
+        return putField(CLIENT_HW_ADDRESS_OFFSET, CLIENT_HW_ADDRESS_HEADER_SIZE, src, srcOffset, length);
+    }
+
+    /**
+     * Client Hardware Address (chaddr) 에 48 bits 정수로 표현한 Ethernet MAC 주소를 기록한다. <br>
+     * 'hlen' 필드는 변경하지 않으며, 필드의 나머지 10 bytes 는 0 으로 채운다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			필드의 나머지 영역을 0 으로 채움
+     * </pre>
+     *
+     * @param mac
+     *            하위 48 bits 를 사용한다
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacketView#getChaddrAsLong()
+     */
+    public DhcpPacketWriter chaddr(long mac) {
+        int base = this.offset + CLIENT_HW_ADDRESS_OFFSET;
+        ByteBufferUtils.putShort(this.buffer, base, (int) (mac >>> 32));
+        ByteBufferUtils.putInt(this.buffer, base + 2, (int) mac);
+        ByteBufferUtils.fill(this.buffer, base + 6, CLIENT_HW_ADDRESS_HEADER_SIZE - 6, (byte) 0);
+        return this;
+    }
+
+    /**
+     * Client IP Address (ciaddr) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param ciaddr
+     *            IPv4 주소
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter ciaddr(int ciaddr) {
+        ByteBufferUtils.putInt(this.buffer, this.offset + CLIENT_IP_ADDRESS_OFFSET, ciaddr);
+        return this;
+    }
+
+    /**
+     * Boot File Name (file) 을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param file
+     *            파일 이름. 필드보다 짧은 경우 나머지는 0 으로 남는다.
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             길이가 'file' 필드보다 긴 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter file(byte[] file) {
+        return putField(BOOT_FILE_NAME_OFFSET, BOOT_FILE_NAME_HEADER_SIZE, file, 0, file.length);
+    }
+
+    /**
+     * End Option (255) 을 기록하고 메시지 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return DHCP 메시지 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int finish() {
+        this.buffer.put(this.position++, (byte) DhcpOptionCode.END);
+        return this.position - this.offset;
+    }
+
+    /**
+     * End Option (255) 을 기록하고, 메시지가 주어진 길이보다 짧으면 Pad Option (0) 으로 채운다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param minLength
+     *            최소 길이. 예) {@link #BOOTP_MIN_LENGTH}
+     * @return DHCP 메시지 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int finish(int minLength) {
+        int length = finish();
+        if (length < minLength) {
+            ByteBufferUtils.fill(this.buffer, this.position, minLength - length, (byte) DhcpOptionCode.PAD);
+            this.position = this.offset + minLength;
+            length = minLength;
+        }
+        return length;
+    }
+
+    /**
+     * Flags (flags) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param flags
+     *            하위 16 bits 를 사용한다
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpPacketView#FLAG_BROADCAST
+     */
+    public DhcpPacketWriter flags(int flags) {
+        ByteBufferUtils.putShort(this.buffer, this.offset + FLAGS_OFFSET, flags);
+        return this;
+    }
+
+    /**
+     * 연결된 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public ByteBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Gateway IP Address (giaddr) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param giaddr
+     *            IPv4 주소
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter giaddr(int giaddr) {
+        ByteBufferUtils.putInt(this.buffer, this.offset + GATEWAY_IP_ADDRESS_OFFSET, giaddr);
+        return this;
+    }
+
+    /**
+     * Hardware Address Length (hlen) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param hlen
+     *            길이 (0 ~ 255)
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter hlen(int hlen) {
+        this.buffer.put(this.offset + HW_ADDR_LENGTH_OFFSET, (byte) hlen);
+        return this;
+    }
+
+    /**
+     * Hops (hops) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param hops
+     *            0 ~ 255
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter hops(int hops) {
+        this.buffer.put(this.offset + HOPS_OFFSET, (byte) hops);
+        return this;
+    }
+
+    /**
+     * Hardware Type (htype) 을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param htype
+     *            ARP Hardware Type (0 ~ 255). 예) 1 = Ethernet
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter htype(int htype) {
+        this.buffer.put(this.offset + HW_TYPE_OFFSET, (byte) htype);
+        return this;
+    }
+
+    /**
+     * 현재까지 기록한 메시지 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int length() {
+        return this.position - this.offset;
+    }
+
+    /**
+     * Message op code (op) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param op
+     *            {@link #OP_REQUEST} 또는 {@link #OP_REPLY}
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter op(int op) {
+        this.buffer.put(this.offset + OP_CODE_OFFSET, (byte) op);
+        return this;
+    }
+
+    /**
+     * 옵션을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (1 ~ 254)
+     * @param value
+     *            옵션 값
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             값의 길이가 255 bytes 를 넘는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode
+     */
+    public DhcpPacketWriter option(int code, byte[] value) {
+        return option(code, value, 0, value.length);
+    }
+
+    /**
+     * 옵션을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (1 ~ 254)
+     * @param value
+     *            옵션 값
+     * @param valueOffset
+     *            값 시작 위치
+     * @param length
+     *            값 길이 (0 ~ 255)
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             값의 길이가 255 bytes 를 넘는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode
+     */
+    public DhcpPacketWriter option(int code, byte[] value, int valueOffset, int length) {
+        int pos = putOptionHeader(code, length);
+        ByteBufferUtils.put(this.buffer, pos, value, valueOffset, length);
+        this.position = pos + length;
+        return this;
+    }
+
+    /**
+     * 다른 버퍼의 데이터를 옵션 값으로 기록한다. <br>
+     * 수신한 메시지의 옵션을 그대로 응답에 포함하는 경우에 사용한다. 예) Relay Agent Information (82)
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (1 ~ 254)
+     * @param src
+     *            옵션 값을 포함하는 버퍼
+     * @param srcOffset
+     *            값 시작 위치 (절대 위치)
+     * @param length
+     *            값 길이 (0 ~ 255)
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             값의 길이가 255 bytes 를 넘는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionIndex#getOffset(int)
+     * @see DhcpOptionIndex#getLength(int)
+     */
+    public DhcpPacketWriter option(int code, ByteBuffer src, int srcOffset, int length) {
+        int pos = putOptionHeader(code, length);
+        for (int i = 0; i < length; i++) {
+            this.buffer.put(pos + i, src.get(srcOffset + i));
+        }
+        this.position = pos + length;
+        return this;
+    }
+
+    /**
+     * 1 byte 값을 가지는 옵션을 기록한다. <br>
+     * 예) DHCP Message Type (53)
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (1 ~ 254)
+     * @param value
+     *            0 ~ 255
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter optionByte(int code, int value) {
+        int pos = putOptionHeader(code, 1);
+        this.buffer.put(pos, (byte) value);
+        this.position = pos + 1;
+        return this;
+    }
+
+    /**
+     * 4 bytes 값을 가지는 옵션을 기록한다. <br>
+     * 예) Subnet Mask (1), Lease Time (51), Server Identifier (54)
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (1 ~ 254)
+     * @param value
+     *            값
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter optionInt(int code, int value) {
+        int pos = putOptionHeader(code, 4);
+        ByteBufferUtils.putInt(this.buffer, pos, value);
+        this.position = pos + 4;
+        return this;
+    }
+
+    /**
+     * 2 bytes 값을 가지는 옵션을 기록한다. <br>
+     * 예) Maximum DHCP Message Size (57)
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드 (1 ~ 254)
+     * @param value
+     *            하위 16 bits 를 사용한다
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter optionShort(int code, int value) {
+        int pos = putOptionHeader(code, 2);
+        ByteBufferUtils.putShort(this.buffer, pos, value);
+        this.position = pos + 2;
+        return this;
+    }
+
+    /**
+     * 새로운 DHCP 메시지를 기록할 위치에 연결한다. <br>
+     * 고정 헤더 영역({@link DhcpPacket.DhcpHeader#OPTIONS_OFFSET} bytes)을 0 으로 초기화하고 Magic Cookie 를 기록한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            기록할 버퍼 (heap, direct 모두 가능)
+     * @param offset
+     *            버퍼 내 DHCP 메시지 시작 위치 (절대 위치)
+     * @return 이 객체
+     * @throws IndexOutOfBoundsException
+     *             고정 헤더와 Magic Cookie 를 기록할 공간이 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter reset(ByteBuffer buffer, int offset) {
+        ByteBufferUtils.validateBounds(buffer, offset, OPTIONS_OFFSET + DhcpOptionIndex.MAGIC_COOKIE_LENGTH);
+
+        this.buffer = buffer;
+        this.offset = offset;
+
+        ByteBufferUtils.fill(buffer, offset, OPTIONS_OFFSET, (byte) 0);
+        ByteBufferUtils.putInt(buffer, offset + OPTIONS_OFFSET, DhcpOptionIndex.MAGIC_COOKIE);
+        this.position = offset + OPTIONS_OFFSET + DhcpOptionIndex.MAGIC_COOKIE_LENGTH;
+
+        return this;
+    }
+
+    /**
+     * Seconds (secs) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param secs
+     *            하위 16 bits 를 사용한다
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter secs(int secs) {
+        ByteBufferUtils.putShort(this.buffer, this.offset + SECONDS_OFFSET, secs);
+        return this;
+    }
+
+    /**
+     * Server IP Address (siaddr) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param siaddr
+     *            IPv4 주소
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter siaddr(int siaddr) {
+        ByteBufferUtils.putInt(this.buffer, this.offset + SERVER_IP_ADDRESS_OFFSET, siaddr);
+        return this;
+    }
+
+    /**
+     * Server Name (sname) 을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param sname
+     *            서버 이름. 필드보다 짧은 경우 나머지는 0 으로 남는다.
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             길이가 'sname' 필드보다 긴 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter sname(byte[] sname) {
+        return putField(SERVER_NAME_OFFSET, SERVER_NAME_HEADER_SIZE, sname, 0, sname.length);
+    }
+
+    /**
+     * Transaction ID (xid) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param xid
+     *            Transaction ID
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter xid(int xid) {
+        ByteBufferUtils.putInt(this.buffer, this.offset + TRANSACTION_ID_OFFSET, xid);
+        return this;
+    }
+
+    /**
+     * Your IP Address (yiaddr) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param yiaddr
+     *            IPv4 주소
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketWriter yiaddr(int yiaddr) {
+        ByteBufferUtils.putInt(this.buffer, this.offset + YOUR_IP_ADDRESS_OFFSET, yiaddr);
+        return this;
+    }
+
+    /**
+     * 고정 크기 필드에 데이터를 기록한다. 데이터가 필드보다 짧은 경우 나머지는 0 으로 채운다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			필드의 나머지 영역을 0 으로 채움
+     * </pre>
+     *
+     * @param fieldOffset
+     *            필드 위치 (메시지 기준)
+     * @param fieldSize
+     *            필드 크기
+     * @param src
+     *            데이터
+     * @param srcOffset
+     *            데이터 시작 위치
+     * @param length
+     *            데이터 길이
+     * @return 이 객체
+     * @throws IllegalArgumentException
+     *             데이터가 필드보다 긴 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private DhcpPacketWriter putField(int fieldOffset, int fieldSize, byte[] src, int srcOffset, int length) {
+        if (length > fieldSize) {
+            throw new IllegalArgumentException("The data is too long for the field. field.size=" + fieldSize + ", length=" + length);
+        }
+        ByteBufferUtils.put(this.buffer, this.offset + fieldOffset, src, srcOffset, length);
+        // 이전에 기록한 더 긴 값이 남지 않도록 나머지를 0 으로 채운다.
+        ByteBufferUtils.fill(this.buffer, this.offset + fieldOffset + length, fieldSize - length, (byte) 0);
+        return this;
+    }
+
+    /**
+     * 옵션 코드와 길이를 기록하고, 값을 기록할 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드
+     * @param length
+     *            값 길이
+     * @return 값을 기록할 위치 (절대 위치)
+     * @throws IllegalArgumentException
+     *             값의 길이가 255 bytes 를 넘는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private int putOptionHeader(int code, int length) {
+        if (length < 0 || length > MAX_OPTION_LENGTH) {
+            throw new IllegalArgumentException("The length of an option value must be between 0 and 255. code=" + code + ", length=" + length);
+        }
+        int pos = this.position;
+        this.buffer.put(pos, (byte) code);
+        this.buffer.put(pos + 1, (byte) length);
+        return pos + 2;
+    }
+}
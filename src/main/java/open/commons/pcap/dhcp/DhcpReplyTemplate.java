@@ -0,0 +1,648 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 1:12:40
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.CLIENT_HW_ADDRESS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.OPTIONS_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.TRANSACTION_ID_OFFSET;
+import static open.commons.pcap.dhcp.DhcpPacket.DhcpHeader.YOUR_IP_ADDRESS_OFFSET;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import open.commons.core.utils.ExceptionUtils;
+import open.commons.pcap.raw.ByteBufferUtils;
+
+/**
+ * 미리 인코딩한 Ethernet/IPv4/UDP/DHCP 응답(OFFER, ACK 등) 프레임에서 패킷마다 달라지는 필드만 변경하는 템플릿.<br>
+ * 프레임은 생성할 때 한 번만 만들고, 이후에는 'xid', 'chaddr', 'yiaddr', Lease 관련 옵션, 수신자 주소를 제자리에서 변경하면서 IPv4/UDP checksum 을 변경된 부분만으로
+ * 갱신한다(RFC 1624). 따라서 응답 하나를 만드는 데 수십 bytes 를 기록하는 비용만 든다.
+ * 
+ * <pre>
+ * DhcpPacket offer = new DhcpPacket.Builder() ... .options(options).build(); // Lease Time (51) 포함
+ * DhcpReplyTemplate template = new DhcpReplyTemplate(serverMac, serverIp, offer);
+ * ...
+ * template.xid(request.getXid()).chaddr(request.getChaddrAsLong()).yiaddr(leasedIp).leaseTime(3600);
+ * handle.sendPacket(template.getFrame());
+ * </pre>
+ * 
+ * 변경할 옵션은 템플릿에 포함되어 있어야 하며 길이는 변경할 수 없다. 이 객체는 thread-safe 하지 않으므로 thread 마다 {@link #copy()}로 복사하여 사용한다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see DhcpPacket.Builder
+ * @see DhcpPacketWriter
+ */
+public final class DhcpReplyTemplate {
+
+    /** DHCP Server Port */
+    public static final int SERVER_PORT = 67;
+    /** DHCP Client Port */
+    public static final int CLIENT_PORT = 68;
+
+    private static final int ETHERNET_DESTINATION_OFFSET = 0;
+    private static final int ETHERNET_SOURCE_OFFSET = 6;
+    private static final int ETHERNET_TYPE_OFFSET = 12;
+    private static final int ETHERNET_HEADER_SIZE = 14;
+    private static final int ETHERNET_TYPE_IPV4 = 0x0800;
+
+    private static final int IPV4_OFFSET = ETHERNET_HEADER_SIZE;
+    private static final int IPV4_HEADER_SIZE = 20;
+    private static final int IPV4_CHECKSUM_OFFSET = IPV4_OFFSET + 10;
+    private static final int IPV4_SOURCE_OFFSET = IPV4_OFFSET + 12;
+    private static final int IPV4_DESTINATION_OFFSET = IPV4_OFFSET + 16;
+    private static final int IPV4_DEFAULT_TTL = 64;
+    private static final int IP_PROTOCOL_UDP = 17;
+
+    private static final int UDP_OFFSET = IPV4_OFFSET + IPV4_HEADER_SIZE;
+    private static final int UDP_HEADER_SIZE = 8;
+    private static final int UDP_CHECKSUM_OFFSET = UDP_OFFSET + 6;
+
+    private static final int DHCP_OFFSET = UDP_OFFSET + UDP_HEADER_SIZE;
+
+    private static final long BROADCAST_MAC = 0xFFFFFFFFFFFFL;
+    private static final int BROADCAST_IP = 0xFFFFFFFF;
+
+    /** Ethernet 프레임 */
+    private final byte[] frame;
+    /** {@link #frame}을 공유하는 버퍼 */
+    private final ByteBuffer buffer;
+    /** DHCP 옵션 색인 ({@link #frame} 기준 위치) */
+    private final DhcpOptionIndex options;
+
+    /**
+     * 
+     * @param template
+     *            복사할 템플릿
+     *
+     * @since 2026. 10. 17.
+     */
+    private DhcpReplyTemplate(DhcpReplyTemplate template) {
+        this.frame = Arrays.copyOf(template.frame, template.frame.length);
+        this.buffer = ByteBuffer.wrap(this.frame);
+        this.options = new DhcpOptionIndex();
+        this.options.indexMessage(this.buffer, DHCP_OFFSET, this.frame.length - DHCP_OFFSET);
+    }
+
+    /**
+     * Broadcast 로 전송하는 응답 템플릿을 생성한다. UDP Port 는 {@link #SERVER_PORT} → {@link #CLIENT_PORT} 이다.
+     * 
+     * @param srcMac
+     *            서버 Ethernet MAC 주소 (하위 48 bits)
+     * @param srcIp
+     *            서버 IPv4 주소
+     * @param message
+     *            DHCP 메시지를 포함하는 버퍼
+     * @param offset
+     *            DHCP 메시지 시작 위치 (절대 위치)
+     * @param length
+     *            DHCP 메시지 길이
+     * @throws IllegalArgumentException
+     *             DHCP 고정 헤더보다 짧거나 UDP 로 전송할 수 없을 만큼 긴 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpReplyTemplate(long srcMac, int srcIp, ByteBuffer message, int offset, int length) {
+        ByteBufferUtils.validateBounds(message, offset, length);
+        if (length < OPTIONS_OFFSET || IPV4_HEADER_SIZE + UDP_HEADER_SIZE + length > 0xFFFF) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "Invalid DHCP message length. length=%,d", length);
+        }
+
+        this.frame = new byte[DHCP_OFFSET + length];
+        this.buffer = ByteBuffer.wrap(this.frame);
+        ByteBuffer frame = this.buffer;
+
+        // Ethernet
+        ByteBufferUtils.putShort(frame, ETHERNET_DESTINATION_OFFSET, (int) (BROADCAST_MAC >>> 32));
+        ByteBufferUtils.putInt(frame, ETHERNET_DESTINATION_OFFSET + 2, (int) BROADCAST_MAC);
+        ByteBufferUtils.putShort(frame, ETHERNET_SOURCE_OFFSET, (int) (srcMac >>> 32));
+        ByteBufferUtils.putInt(frame, ETHERNET_SOURCE_OFFSET + 2, (int) srcMac);
+        ByteBufferUtils.putShort(frame, ETHERNET_TYPE_OFFSET, ETHERNET_TYPE_IPV4);
+
+        // IPv4: version 4, IHL 5, total length, TTL, protocol, source, destination
+        frame.put(IPV4_OFFSET, (byte) 0x45);
+        ByteBufferUtils.putShort(frame, IPV4_OFFSET + 2, IPV4_HEADER_SIZE + UDP_HEADER_SIZE + length);
+        frame.put(IPV4_OFFSET + 8, (byte) IPV4_DEFAULT_TTL);
+        frame.put(IPV4_OFFSET + 9, (byte) IP_PROTOCOL_UDP);
+        ByteBufferUtils.putInt(frame, IPV4_SOURCE_OFFSET, srcIp);
+        ByteBufferUtils.putInt(frame, IPV4_DESTINATION_OFFSET, BROADCAST_IP);
+        ByteBufferUtils.putShort(frame, IPV4_CHECKSUM_OFFSET, checksum(this.frame, IPV4_OFFSET, IPV4_HEADER_SIZE));
+
+        // UDP
+        ByteBufferUtils.putShort(frame, UDP_OFFSET, SERVER_PORT);
+        ByteBufferUtils.putShort(frame, UDP_OFFSET + 2, CLIENT_PORT);
+        ByteBufferUtils.putShort(frame, UDP_OFFSET + 4, UDP_HEADER_SIZE + length);
+
+        // DHCP
+        for (int i = 0; i < length; i++) {
+            this.frame[DHCP_OFFSET + i] = message.get(offset + i);
+        }
+
+        // UDP checksum: pseudo header (source, destination, protocol, UDP length) + UDP header + data
+        int sum = sum(this.frame, IPV4_SOURCE_OFFSET, 8) + IP_PROTOCOL_UDP + UDP_HEADER_SIZE + length + sum(this.frame, UDP_OFFSET, UDP_HEADER_SIZE + length);
+        int checksum = ~fold(sum) & 0xFFFF;
+        ByteBufferUtils.putShort(frame, UDP_CHECKSUM_OFFSET, checksum == 0 ? 0xFFFF : checksum);
+
+        this.options = new DhcpOptionIndex();
+        this.options.indexMessage(frame, DHCP_OFFSET, length);
+    }
+
+    /**
+     * Broadcast 로 전송하는 응답 템플릿을 생성한다. UDP Port 는 {@link #SERVER_PORT} → {@link #CLIENT_PORT} 이다.
+     * 
+     * @param srcMac
+     *            서버 Ethernet MAC 주소 (하위 48 bits)
+     * @param srcIp
+     *            서버 IPv4 주소
+     * @param reply
+     *            응답 메시지. 예) {@link DhcpPacket.Builder}로 만든 OFFER, ACK
+     * @throws IllegalArgumentException
+     *             DHCP 고정 헤더보다 짧거나 UDP 로 전송할 수 없을 만큼 긴 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpReplyTemplate(long srcMac, int srcIp, DhcpPacket reply) {
+        this(srcMac, srcIp, ByteBuffer.wrap(reply.getRawData()), 0, reply.length());
+    }
+
+    /**
+     * Client Hardware Address (chaddr) 앞 6 bytes 에 Ethernet MAC 주소를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param mac
+     *            하위 48 bits 를 사용한다
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpReplyTemplate chaddr(long mac) {
+        patch(DHCP_OFFSET + CLIENT_HW_ADDRESS_OFFSET, mac, 6, false);
+        return this;
+    }
+
+    /**
+     * 템플릿을 복사한다. 다른 thread 에서 사용할 템플릿을 만드는 경우에 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpReplyTemplate copy() {
+        return new DhcpReplyTemplate(this);
+    }
+
+    /**
+     * 프레임을 버퍼의 주어진 위치에 복사한다. <br>
+     * 버퍼의 position 은 변경하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            버퍼
+     * @param offset
+     *            기록할 위치 (절대 위치)
+     * @return 프레임 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int copyTo(ByteBuffer dst, int offset) {
+        ByteBufferUtils.put(dst, offset, this.frame, 0, this.frame.length);
+        return this.frame.length;
+    }
+
+    /**
+     * 수신자의 Ethernet MAC 주소와 IPv4 주소를 기록한다. <br>
+     * Unicast 로 응답하는 경우 사용하며, 기본값은 Broadcast (ff:ff:ff:ff:ff:ff, 255.255.255.255) 이다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param mac
+     *            Ethernet MAC 주소 (하위 48 bits)
+     * @param ip
+     *            IPv4 주소
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpReplyTemplate destination(long mac, int ip) {
+        ByteBufferUtils.putShort(this.buffer, ETHERNET_DESTINATION_OFFSET, (int) (mac >>> 32));
+        ByteBufferUtils.putInt(this.buffer, ETHERNET_DESTINATION_OFFSET + 2, (int) mac);
+        // 목적지 주소는 IPv4 헤더와 UDP pseudo header 에 모두 포함된다.
+        patch(IPV4_DESTINATION_OFFSET, ip & 0xFFFFFFFFL, 4, true);
+        return this;
+    }
+
+    /**
+     * 프레임을 반환한다. <br>
+     * 내부 배열을 그대로 반환하므로, 다음 패치 이전에 전송(예: <code>PcapHandle.sendPacket(byte[])</code>)하거나 복사해야 한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public byte[] getFrame() {
+        return this.frame;
+    }
+
+    /**
+     * Lease Time (51) 옵션 값을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param seconds
+     *            초
+     * @return 이 객체
+     * @throws IllegalStateException
+     *             템플릿에 옵션이 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#LEASE_TIME
+     */
+    public DhcpReplyTemplate leaseTime(int seconds) {
+        return optionInt(DhcpOptionCode.LEASE_TIME, seconds);
+    }
+
+    /**
+     * 프레임 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int length() {
+        return this.frame.length;
+    }
+
+    /**
+     * 4 bytes 값을 가지는 옵션의 값을 기록한다. <br>
+     * 옵션은 템플릿을 생성할 때 포함되어 있어야 하며, 길이는 변경할 수 없다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            옵션 코드
+     * @param value
+     *            값
+     * @return 이 객체
+     * @throws IllegalStateException
+     *             템플릿에 옵션이 없거나, 값의 길이가 4 bytes 가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpReplyTemplate optionInt(int code, int value) {
+        int offset = this.options.getOffset(code);
+        if (offset < 0 || this.options.getLength(code) != 4) {
+            throw ExceptionUtils.newException(IllegalStateException.class, "The template does not have a 4-byte option. code=%d, length=%d", code,
+                    this.options.getLength(code));
+        }
+        patch(offset, value & 0xFFFFFFFFL, 4, false);
+        return this;
+    }
+
+    /**
+     * Rebinding (T2) Time Value (59) 옵션 값을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param seconds
+     *            초
+     * @return 이 객체
+     * @throws IllegalStateException
+     *             템플릿에 옵션이 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#REBINDING_TIME
+     */
+    public DhcpReplyTemplate rebindingTime(int seconds) {
+        return optionInt(DhcpOptionCode.REBINDING_TIME, seconds);
+    }
+
+    /**
+     * Renewal (T1) Time Value (58) 옵션 값을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param seconds
+     *            초
+     * @return 이 객체
+     * @throws IllegalStateException
+     *             템플릿에 옵션이 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see DhcpOptionCode#RENEWAL_TIME
+     */
+    public DhcpReplyTemplate renewalTime(int seconds) {
+        return optionInt(DhcpOptionCode.RENEWAL_TIME, seconds);
+    }
+
+    /**
+     * Transaction ID (xid) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param xid
+     *            Transaction ID
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpReplyTemplate xid(int xid) {
+        patch(DHCP_OFFSET + TRANSACTION_ID_OFFSET, xid & 0xFFFFFFFFL, 4, false);
+        return this;
+    }
+
+    /**
+     * Your IP Address (yiaddr) 를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param yiaddr
+     *            IPv4 주소
+     * @return 이 객체
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpReplyTemplate yiaddr(int yiaddr) {
+        patch(DHCP_OFFSET + YOUR_IP_ADDRESS_OFFSET, yiaddr & 0xFFFFFFFFL, 4, false);
+        return this;
+    }
+
+    /**
+     * 주어진 위치에 값을 기록하고, 변경된 16 bits 단어(word)만으로 checksum 을 갱신한다. (RFC 1624) <br>
+     * IPv4 헤더와 UDP 헤더는 모두 짝수 위치에서 시작하므로, 프레임 기준으로 정렬한 단어가 각 checksum 의 단어와 일치한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param offset
+     *            기록할 위치 (프레임 기준)
+     * @param value
+     *            값 (Big-Endian)
+     * @param length
+     *            길이 (1 ~ 8)
+     * @param ipHeader
+     *            IPv4 헤더 checksum 갱신 여부
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void patch(int offset, long value, int length, boolean ipHeader) {
+        int from = offset & ~1;
+        int to = Math.min((offset + length + 1) & ~1, this.frame.length);
+
+        int before = sum(this.frame, from, to - from);
+        for (int i = length - 1, pos = offset; i >= 0; i--, pos++) {
+            this.frame[pos] = (byte) (value >>> (i * 8));
+        }
+        int after = sum(this.frame, from, to - from);
+
+        if (ipHeader) {
+            int checksum = ByteBufferUtils.getUnsignedShort(this.buffer, IPV4_CHECKSUM_OFFSET);
+            ByteBufferUtils.putShort(this.buffer, IPV4_CHECKSUM_OFFSET, update(checksum, before, after));
+        }
+
+        int checksum = ByteBufferUtils.getUnsignedShort(this.buffer, UDP_CHECKSUM_OFFSET);
+        // 0 은 checksum 을 사용하지 않는다는 의미이다. (RFC 768)
+        if (checksum != 0) {
+            checksum = update(checksum, before, after);
+            ByteBufferUtils.putShort(this.buffer, UDP_CHECKSUM_OFFSET, checksum == 0 ? 0xFFFF : checksum);
+        }
+    }
+
+    /**
+     * Internet Checksum (RFC 1071) 을 계산한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param data
+     *            데이터
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int checksum(byte[] data, int offset, int length) {
+        return ~sum(data, offset, length) & 0xFFFF;
+    }
+
+    /**
+     * 1의 보수 합(one's complement sum)을 16 bits 로 접는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param sum
+     *            합
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int fold(int sum) {
+        while ((sum >>> 16) != 0) {
+            sum = (sum & 0xFFFF) + (sum >>> 16);
+        }
+        return sum;
+    }
+
+    /**
+     * 16 bits 단어(Big-Endian)의 1의 보수 합을 계산한다. 길이가 홀수이면 마지막 byte 뒤에 0 을 덧붙인다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param data
+     *            데이터
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            길이
+     * @return 16 bits 로 접은 합
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int sum(byte[] data, int offset, int length) {
+        int sum = 0;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 1 < end; i += 2) {
+            sum += ((data[i] & 0xFF) << 8) | (data[i + 1] & 0xFF);
+        }
+        if (i < end) {
+            sum += (data[i] & 0xFF) << 8;
+        }
+        return fold(sum);
+    }
+
+    /**
+     * 데이터 일부가 변경된 경우 checksum 을 갱신한다. HC' = ~(~HC + ~m + m') (RFC 1624, Eqn. 3) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param checksum
+     *            기존 checksum (HC)
+     * @param before
+     *            변경 전 데이터의 합 (m)
+     * @param after
+     *            변경 후 데이터의 합 (m')
+     * @return 새로운 checksum
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int update(int checksum, int before, int after) {
+        return ~fold((~checksum & 0xFFFF) + (~before & 0xFFFF) + after) & 0xFFFF;
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 3:40:18
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.dhcp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import open.commons.pcap.raw.ByteSequenceInterner;
+
+/**
+ * Relay Agent Information Option (82) 의 Sub-Option 을 복사 없이 읽는 재사용 가능한 Decoder.<br>
+ * Circuit ID, Remote ID 는 {@link ByteSequenceInterner}를 통해서 문자열로 변환하므로, 같은 Relay 포트에서 들어오는 패킷은 같은 문자열 객체를 공유한다.
+ * 
+ * <pre>
+ * Code   Len     Agent Information Field
+ * +------+------+------+------+------+------+--...-+------+
+ * |  82  |   N  |  i1  |  i2  |  i3  |  i4  |      |  iN  |
+ * +------+------+------+------+------+------+--...-+------+
+ * 
+ * SubOpt  Len     Sub-option Value
+ * +------+------+------+------+------+------+--...-+
+ * |  1   |   n  |  s1  |  s2  |  s3  |  s4  |      |
+ * +------+------+------+------+------+------+--...-+
+ * </pre>
+ * 
+ * 이 객체는 thread-safe 하지 않다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * @see <a href="https://tools.ietf.org/html/rfc3046">RFC 3046</a>
+ */
+public final class RelayAgentInformation {
+
+    /** Sub-Option: Agent Circuit ID (1) */
+    public static final int CIRCUIT_ID = 1;
+    /** Sub-Option: Agent Remote ID (2) */
+    public static final int REMOTE_ID = 2;
+    /** Sub-Option: Link Selection (5), RFC 3527 */
+    public static final int LINK_SELECTION = 5;
+    /** Sub-Option: Subscriber-ID (6), RFC 3993 */
+    public static final int SUBSCRIBER_ID = 6;
+    /** Sub-Option: Server Identifier Override (11), RFC 5107 */
+    public static final int SERVER_IDENTIFIER_OVERRIDE = 11;
+
+    /** 기본 캐시 크기 */
+    public static final int DEFAULT_INTERNER_CAPACITY = 16384;
+
+    /** 별도로 지정하지 않은 경우 모든 Decoder 가 공유하는 캐시 */
+    private static final ByteSequenceInterner SHARED_INTERNER = new ByteSequenceInterner(DEFAULT_INTERNER_CAPACITY);
+
+    private static final int SLOTS = 256;
+
+    private final ByteSequenceInterner interner;
+
+    /** Sub-Option 값(value)의 버퍼 내 절대 위치 */
+    private final int[] offsets = new int[SLOTS];
+    /** Sub-Option 값(value)의 길이 */
+    private final int[] lengths = new int[SLOTS];
+    /** 슬롯이 유효한 세대(generation) */
+    private final int[] generations = new int[SLOTS];
+
+    private int generation;
+    private ByteBuffer buffer;
+    /** Sub-Option 의 길이가 영역을 벗어나서 해석을 중단했는지 여부 */
+    private boolean truncated;
+
+    /**
+     * 공유 캐시를 사용하는 객체를 생성한다.
+     * 
+     * @since 2026. 10. 17.
+     */
+    public RelayAgentInformation() {
+        this(SHARED_INTERNER);
+    }
+
+    /**
+     * 
+     * @param interner
+     *            Circuit ID, Remote ID 를 문자열로 변환할 때 사용할 캐시
+     * @since 2026. 10. 17.
+     */
+    public RelayAgentInformation(ByteSequenceInterner interner) {
+        if (interner == null) {
+            throw new NullPointerException("interner must not be null.");
+        }
+        this.interner = interner;
+    }
+
+    /**
+     * 주어진 영역(Option 82 의 값)을 해석한다. <br>
+     * 이전 해석 결과는 모두 폐기된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            Option 82 값(value) 시작 위치 (절대 위치)
+     * @param length
+     *            Option 82 값(value) 길이
+     * @return 하나 이상의 Sub-Option 을 읽은 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean decode(ByteBuffer buffer, int offset, int length) {
+        clear();
+        this.buffer = buffer;
+
+        boolean found = false;
+        int pos = offset;
+        int end = offset + length;
+        while (pos < end) {
+            if (pos + 1 >= end) {
+                this.truncated = true;
+                break;
+            }
+            int code = buffer.get(pos) & 0xFF;
+            int len = buffer.get(pos + 1) & 0xFF;
+            int valueOffset = pos + 2;
+            if (valueOffset + len > end) {
+                this.truncated = true;
+                break;
+            }
+            if (this.generations[code] != this.generation) {
+                this.generations[code] = this.generation;
+                this.offsets[code] = valueOffset;
+                this.lengths[code] = len;
+            }
+            found = true;
+            pos = valueOffset + len;
+        }
+
+        return found;
+    }
+
+    /**
+     * 색인된 옵션에서 Relay Agent Information (82) 를 찾아서 해석한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param options
+     *            옵션 색인
+     * @return Option 82 가 있고, 하나 이상의 Sub-Option 을 읽은 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean decode(DhcpOptionIndex options) {
+        if (!options.hasOption(DhcpOptionCode.RELAY_AGENT_INFORMATION)) {
+            clear();
+            return false;
+        }
+        return decode(options.getBuffer(), options.getOffset(DhcpOptionCode.RELAY_AGENT_INFORMATION), options.getLength(DhcpOptionCode.RELAY_AGENT_INFORMATION));
+    }
+
+    /**
+     * Agent Circuit ID (1) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return Sub-Option 이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String getCircuitId() {
+        return getSubOptionAsString(CIRCUIT_ID);
+    }
+
+    /**
+     * Agent Remote ID (2) 를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return Sub-Option 이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String getRemoteId() {
+        return getSubOptionAsString(REMOTE_ID);
+    }
+
+    /**
+     * Sub-Option 값(value)을 캐시를 통해서 문자열로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            Sub-Option 코드 (0 ~ 255)
+     * @return Sub-Option 이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String getSubOptionAsString(int code) {
+        return hasSubOption(code) ? this.interner.intern(this.buffer, this.offsets[code], this.lengths[code]) : null;
+    }
+
+    /**
+     * Sub-Option 값(value)의 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            Sub-Option 코드 (0 ~ 255)
+     * @return Sub-Option 이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getSubOptionLength(int code) {
+        return hasSubOption(code) ? this.lengths[code] : -1;
+    }
+
+    /**
+     * Sub-Option 값(value)의 버퍼 내 절대 위치를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            Sub-Option 코드 (0 ~ 255)
+     * @return Sub-Option 이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getSubOptionOffset(int code) {
+        return hasSubOption(code) ? this.offsets[code] : -1;
+    }
+
+    /**
+     * Sub-Option 존재 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param code
+     *            Sub-Option 코드 (0 ~ 255)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean hasSubOption(int code) {
+        return code >= 0 && code < SLOTS && this.generation != 0 && this.generations[code] == this.generation;
+    }
+
+    /**
+     * Sub-Option 의 길이가 영역을 벗어나서 해석을 중단했는지 여부를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isTruncated() {
+        return this.truncated;
+    }
+
+    private void clear() {
+        if (++this.generation == 0) {
+            Arrays.fill(this.generations, 0);
+            this.generation = 1;
+        }
+        this.buffer = null;
+        this.truncated = false;
+    }
+}
@@ -0,0 +1,571 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 6:05:42
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.listener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import open.commons.core.concurrent.DefaultThreadFactory;
+import open.commons.core.concurrent.FixedThreadPoolService;
+import open.commons.pcap.dhcp.DhcpPacket;
+
+/**
+ * 캡처한 패킷에서 DHCP 메시지를 찾아 해석하고, 등록된 리스너에게 전달하는 리스너의 공통 기능.<br>
+ * 해석한 패킷은 {@link #dispatch(DhcpPacket, int, int)}를 통해 VLAN ID 와 함께 {@link DhcpVlanPacketEvent}로 {@link BoundedDispatcher} 또는
+ * {@link ShardedDispatcher}의 큐에 넣어지며, 작업자가 {@link ListenerRegistry}에 등록된 모든 리스너에게 전달한다. 하위 클래스는 캡처한 패킷에서 DHCP 메시지를 찾는 방식만
+ * 구현하며, VLAN ID 가 필요한 리스너에게는 {@link #fireEvent(DhcpVlanPacketEvent)}로 이벤트를 전달한다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see DHCPListener
+ * @see DHCPRawListener
+ */
+public abstract class AbstractDHCPListener {
+
+    /** 기본 ThreadPool 크기 */
+    public static final int DEFAULT_POOL_SIZE = 64;
+
+    /** 기본 큐 크기 */
+    public static final int DEFAULT_QUEUE_CAPACITY = BoundedDispatcher.DEFAULT_CAPACITY;
+
+    /** 기본 처리 방식. 캡처 Thread 가 대기하지 않도록 새 패킷을 버린다. */
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP_NEWEST;
+
+    private final FixedThreadPoolService executor;
+    /** {@link #executor}를 이 객체가 생성했는지 여부. 생성한 경우에만 {@link #shutdown(long, TimeUnit)}에서 종료한다. */
+    private final boolean ownsExecutor;
+
+    /** 해석한 DHCP 패킷을 VLAN ID 와 함께 리스너에게 전달하는 Dispatcher */
+    private final Dispatcher<DhcpVlanPacketEvent> dispatcher;
+
+    /** 등록된 리스너. 패킷을 전달할 때 잠금 없이 순회한다. */
+    private final ListenerRegistry<Consumer<DhcpPacket>> listeners = new ListenerRegistry<>();
+
+    /** 등록된 batch 리스너. 종료할 때 모아둔 패킷을 전달한다. */
+    private final ListenerRegistry<BatchingConsumer<DhcpPacket>> batchListeners = new ListenerRegistry<>();
+    /** batch 리스너의 최대 지연 시간을 확인하는 Scheduler. 처음 batch 리스너를 추가할 때 생성한다. */
+    private ScheduledExecutorService batchScheduler;
+    /** 최대 지연 시간이 지난 batch 를 batch 리스너에게 전달하는 ThreadPool. batch 리스너마다 최대 하나의 Thread 를 사용한다. */
+    private ExecutorService batchExecutor;
+
+    /**
+     * 
+     * @param executor
+     *            리스너를 실행할 ThreadPool
+     * @param workers
+     *            큐를 비우면서 리스너를 실행하는 작업자 수. <code>executor</code> 의 Thread 개수보다 클 수 없다.
+     * @param queueCapacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     *
+     * @since 2026. 10. 17.
+     */
+    protected AbstractDHCPListener(FixedThreadPoolService executor, int workers, int queueCapacity, OverflowPolicy policy) {
+        this(executor, false, workers, queueCapacity, policy);
+    }
+
+    /**
+     * 같은 key 를 가진 패킷을 항상 같은 작업자에게 전달하여, key 별로 수신한 순서대로 리스너를 호출한다.
+     * 
+     * @param executor
+     *            리스너를 실행할 ThreadPool. lane 마다 Thread 를 하나씩 점유하므로, 다른 작업에 사용하지 않는 Thread 가 lane 수 이상 필요하다. ThreadPool 을 따로 관리하지 않는 경우
+     *            {@link #AbstractDHCPListener(int, int, OverflowPolicy, DhcpFlowKey, String)}를 사용한다.
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
+     * @throws IllegalArgumentException
+     *             <code>lanes</code> 가 <code>executor</code> 의 최대 Thread 개수보다 큰 경우
+     *
+     * @since 2026. 10. 17.
+     * 
+     * @see ShardedDispatcher
+     */
+    protected AbstractDHCPListener(FixedThreadPoolService executor, int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey) {
+        this(executor, false, lanes, laneCapacity, policy, flowKey);
+    }
+
+    /**
+     * @param poolSize
+     *            ThreadPool Size. 모든 Thread 가 큐를 비우는 작업자로 사용된다.
+     * @param monitor
+     *            Thread Group Name
+     * @since 2026. 10. 17.
+     */
+    protected AbstractDHCPListener(int poolSize, String monitor) {
+        this(new FixedThreadPoolService(poolSize, new DefaultThreadFactory(monitor)), true, poolSize, DEFAULT_QUEUE_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+    }
+
+    /**
+     * 같은 key 를 가진 패킷을 항상 같은 작업자에게 전달하여, key 별로 수신한 순서대로 리스너를 호출한다. <br>
+     * lane 수와 같은 크기의 ThreadPool 을 생성하여 lane 마다 Thread 를 하나씩 사용하며, {@link #shutdown(long, TimeUnit)}에서 종료한다.
+     * 
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
+     * @param monitor
+     *            Thread Group Name
+     *
+     * @since 2026. 10. 17.
+     * 
+     * @see ShardedDispatcher
+     */
+    protected AbstractDHCPListener(int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey, String monitor) {
+        this(new FixedThreadPoolService(lanes, new DefaultThreadFactory(monitor)), true, lanes, laneCapacity, policy, flowKey);
+    }
+
+    /**
+     * 
+     * @param executor
+     *            리스너를 실행할 ThreadPool
+     * @param ownsExecutor
+     *            <code>executor</code> 를 이 객체가 생성했는지 여부
+     * @param workers
+     *            큐를 비우면서 리스너를 실행하는 작업자 수
+     * @param queueCapacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     *
+     * @since 2026. 10. 17.
+     */
+    private AbstractDHCPListener(FixedThreadPoolService executor, boolean ownsExecutor, int workers, int queueCapacity, OverflowPolicy policy) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.dispatcher = new BoundedDispatcher<>(executor, workers, queueCapacity, policy, this::fire);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 
+     * @param executor
+     *            리스너를 실행할 ThreadPool
+     * @param ownsExecutor
+     *            <code>executor</code> 를 이 객체가 생성했는지 여부
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
+     *
+     * @since 2026. 10. 17.
+     */
+    private AbstractDHCPListener(FixedThreadPoolService executor, boolean ownsExecutor, int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.dispatcher = new ShardedDispatcher<>(executor, lanes, laneCapacity, policy, event -> flowKey.applyAsInt(event.getPacket()), this::fire);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 패킷을 모아서 한번에 전달받는 batch 리스너를 추가한다. <br>
+     * 패킷 수가 batch 크기에 도달하거나, 첫 패킷을 받은 후 최대 지연 시간이 지나면 전달한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			최대 지연 시간이 지난 batch 는 전용 ThreadPool 에서 전달
+     * </pre>
+     *
+     * @param sink
+     *            batch 리스너. 전달받은 목록은 호출되는 동안에만 유효하며, 이후에 사용할 패킷은 복사해야 한다.
+     * @param batchSize
+     *            batch 크기
+     * @param maxLatency
+     *            첫 패킷을 받은 후 batch 크기에 도달하지 않아도 전달하는 최대 지연 시간
+     * @param unit
+     *            시간 단위
+     * @return batch 리스너를 감싼 객체. 전달 통계를 확인하거나 {@link #removeBatchListener(BatchingConsumer)}로 삭제할 때 사용한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see BatchingConsumer
+     */
+    public BatchingConsumer<DhcpPacket> addBatchListener(Consumer<List<DhcpPacket>> sink, int batchSize, long maxLatency, TimeUnit unit) {
+        BatchingConsumer<DhcpPacket> batcher = new BatchingConsumer<>(sink, batchSize, maxLatency, unit, batchScheduler(), batchExecutor());
+        this.batchListeners.add(batcher);
+        this.listeners.add(batcher);
+        return batcher;
+    }
+
+    /**
+     * DHCP Packet 리스너를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2020. 12. 15.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link ListenerRegistry} 사용
+     * </pre>
+     *
+     * @param listener
+     *
+     * @since 2020. 12. 15.
+     * @version 1.8.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addListener(Consumer<DhcpPacket> listener) {
+        if (listener == null) {
+            return;
+        }
+
+        this.listeners.add(listener);
+    }
+
+    /**
+     * DHCP Packet 리스너를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2020. 12. 15.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link ListenerRegistry} 사용
+     * </pre>
+     *
+     * @param listeners
+     *
+     * @since 2020. 12. 15.
+     * @version 1.8.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addListeners(Collection<Consumer<DhcpPacket>> listeners) {
+        if (listeners == null) {
+            return;
+        }
+
+        this.listeners.addAll(listeners);
+    }
+
+    /**
+     * DHCP Packet 리스너를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2020. 12. 15.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listeners
+     *
+     * @since 2020. 12. 15.
+     * @version 1.8.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @SuppressWarnings("unchecked")
+    public void addListeners(Consumer<DhcpPacket>... listeners) {
+        if (listeners == null) {
+            return;
+        }
+
+        this.addListeners(Arrays.asList(listeners));
+    }
+
+    /**
+     * 해석한 DHCP 패킷을 리스너에게 전달하는 Dispatcher 를 반환한다. <br>
+     * 큐 사용량, 유실 개수 등을 확인할 때 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			반환 타입 변경 (BoundedDispatcher -> Dispatcher)
+     * 2026. 10. 17.		박준홍			큐 항목 타입 변경 (DhcpPacket -> DhcpVlanPacketEvent)
+     * </pre>
+     *
+     * @return {@link BoundedDispatcher} 또는 {@link ShardedDispatcher}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public Dispatcher<DhcpVlanPacketEvent> getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * 
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2020. 12. 15.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link ListenerRegistry} 사용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2020. 12. 15.
+     * @version _._._
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean remove(Consumer<DhcpPacket> listener) {
+        return this.listeners.remove(listener);
+    }
+
+    /**
+     * batch 리스너를 삭제한다. 모아둔 패킷은 전달한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param batcher
+     *            {@link #addBatchListener(Consumer, int, long, TimeUnit)}가 반환한 객체
+     * @return 삭제한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean removeBatchListener(BatchingConsumer<DhcpPacket> batcher) {
+        boolean removed = this.listeners.remove(batcher);
+        if (this.batchListeners.remove(batcher)) {
+            batcher.close();
+        }
+        return removed;
+    }
+
+    /**
+     * 큐에 남아 있는 패킷을 전달한 후 Dispatcher 를 종료한다. <br>
+     * batch 리스너가 모아둔 패킷도 전달한다. ThreadPool 은 이 객체가 생성한 경우에만 종료하며, 생성자로 전달받은 ThreadPool 은 호출한 쪽에서 종료한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			batch 리스너 종료 추가
+     * 2026. 10. 17.		박준홍			직접 생성한 ThreadPool 만 종료
+     * 2026. 10. 17.		박준홍			batch 리스너 ThreadPool 종료 추가
+     * </pre>
+     *
+     * @param timeout
+     *            큐에 남아 있는 패킷을 전달할 때까지 대기하는 시간
+     * @param unit
+     *            시간 단위
+     * @return 주어진 시간 안에 모든 작업자가 종료된 경우 <code>true</code>
+     * @throws InterruptedException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        this.dispatcher.shutdown();
+        boolean terminated = this.dispatcher.awaitTermination(timeout, unit);
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+
+        for (BatchingConsumer<DhcpPacket> batcher : this.batchListeners.snapshot()) {
+            batcher.close();
+        }
+        synchronized (this) {
+            if (this.batchScheduler != null) {
+                this.batchScheduler.shutdown();
+            }
+            if (this.batchExecutor != null) {
+                this.batchExecutor.shutdown();
+            }
+        }
+        return terminated;
+    }
+
+    /**
+     * 해석한 DHCP 패킷을 큐에 넣는다. VLAN ID 는 {@link DHCPRawListener#NO_VLAN}으로 전달된다. 큐가 가득 찬 경우 {@link OverflowPolicy}에 따라 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link #dispatch(DhcpPacket, int, int)} 사용
+     * </pre>
+     *
+     * @param packet
+     * @return 큐에 넣은 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    protected boolean dispatch(DhcpPacket packet) {
+        return dispatch(packet, DHCPRawListener.NO_VLAN, DHCPRawListener.NO_VLAN);
+    }
+
+    /**
+     * 해석한 DHCP 패킷을 VLAN ID 와 함께 큐에 넣는다. 큐가 가득 찬 경우 {@link OverflowPolicy}에 따라 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param packet
+     * @param outerVlanId
+     *            바깥쪽(첫번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     * @param innerVlanId
+     *            안쪽(두번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     * @return 큐에 넣은 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    protected boolean dispatch(DhcpPacket packet, int outerVlanId, int innerVlanId) {
+        return this.dispatcher.dispatch(new DhcpVlanPacketEvent(outerVlanId, innerVlanId, packet));
+    }
+
+    /**
+     * VLAN ID 가 필요한 리스너에게 이벤트를 전달한다. 작업자 Thread 에서 {@link DhcpPacket} 리스너에게 전달한 후 호출된다. <br>
+     * 기본 구현은 아무것도 하지 않으며, 하위 클래스에서 이벤트 리스너를 제공하는 경우 재정의한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param event
+     * @return 예외를 발생시킨 리스너 수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    protected int fireEvent(DhcpVlanPacketEvent event) {
+        return 0;
+    }
+
+    /**
+     * 최대 지연 시간이 지난 batch 를 전달하는 ThreadPool 을 반환한다. 없는 경우 생성한다. <br>
+     * batch 리스너마다 한번에 하나의 작업만 요청하므로, Thread 는 batch 리스너 수를 넘지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private synchronized ExecutorService batchExecutor() {
+        if (this.batchExecutor == null) {
+            this.batchExecutor = Executors.newCachedThreadPool(new DefaultThreadFactory("dhcp-batch-sink"));
+        }
+        return this.batchExecutor;
+    }
+
+    /**
+     * batch 리스너의 Scheduler 를 반환한다. 없는 경우 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private synchronized ScheduledExecutorService batchScheduler() {
+        if (this.batchScheduler == null) {
+            this.batchScheduler = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("dhcp-batch-listener"));
+        }
+        return this.batchScheduler;
+    }
+
+    /**
+     * 등록된 모든 리스너에게 패킷을 전달한다. <br>
+     * 리스너에서 발생한 예외는 다른 리스너에게 영향을 주지 않으며, 실패한 리스너 수를 Dispatcher 에 반환하여 {@link Dispatcher#getFailedCount()}에 반영한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			실패한 리스너 수 반환
+     * 2026. 10. 17.		박준홍			{@link DhcpVlanPacketEvent}를 받아 {@link #fireEvent(DhcpVlanPacketEvent)}에도 전달
+     * </pre>
+     *
+     * @param event
+     * @return 예외를 발생시킨 리스너 수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private int fire(DhcpVlanPacketEvent event) {
+        return this.listeners.fire(event.getPacket(), Consumer::accept) + fireEvent(event);
+    }
+}
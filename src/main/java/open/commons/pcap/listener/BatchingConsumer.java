@@ -0,0 +1,796 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 8:14:02
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * 항목을 모아서 한번에 전달하는 {@link Consumer}.<br>
+ * 받은 항목을 재사용하는 목록에 모아두었다가, 항목 수가 batch 크기에 도달하거나 첫 항목을 받은 후 최대 지연 시간이 지나면 batch 리스너에게 전달한다. 데이터베이스 저장,
+ * 외부 전송처럼 호출마다 비용이 큰 리스너에 사용한다.
+ *
+ * <pre>
+ * BatchingConsumer&lt;DhcpPacket&gt; batcher = new BatchingConsumer&lt;&gt;(batch -&gt; writer.insertAll(batch), 500, 200, TimeUnit.MILLISECONDS, scheduler);
+ * listener.addListener(batcher);
+ * ...
+ * batcher.close();
+ * </pre>
+ *
+ * batch 리스너에게 전달하는 목록은 변경할 수 없으며, 호출이 끝나면 비워져서 다음 batch 에 재사용된다. 호출 이후에도 사용할 항목은 복사해야 한다.<br>
+ * 목록은 2개를 번갈아 사용한다(double buffering). 잠금 안에서는 가득 찬 목록과 빈 목록을 바꾸기만 하고 batch 리스너는 잠금 밖에서 호출하므로, batch 리스너가 실행되는 동안에도
+ * 다른 Thread 는 다음 batch 에 항목을 추가할 수 있다.<br>
+ * 여러 Thread 에서 동시에 호출할 수 있으며, batch 리스너는 한번에 하나의 Thread 에서만, 목록을 바꾼 순서대로 호출된다.<br>
+ * batch 크기에 도달한 batch 는 항목을 추가한 Thread 에서, 최대 지연 시간이 지난 batch 는 생성자로 전달받은 {@link Executor}에서 전달한다. 지연 시간을 확인하는 Scheduler 에서는
+ * batch 리스너를 호출하지 않으므로, 느린 batch 리스너가 Scheduler 를 공유하는 다른 {@link BatchingConsumer}를 지연시키지 않는다.
+ *
+ * @param <T>
+ *            항목 타입
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class BatchingConsumer<T> implements Consumer<T>, AutoCloseable {
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** batch 리스너 */
+    private final Consumer<List<T>> sink;
+    /** batch 크기 */
+    private final int batchSize;
+    /** 최대 지연 시간 (ns) */
+    private final long maxLatencyNanos;
+
+    /** {@link #filling}, {@link #spare}, {@link #deadline}, {@link #closed}, {@link #tickets} 를 보호하는 잠금 */
+    private final Object lock = new Object();
+    /** batch 리스너 호출 순서를 보호하는 잠금 */
+    private final Object sinkLock = new Object();
+
+    /** 항목을 모으는 중인 목록 */
+    private Buffer<T> filling;
+    /** 전달이 끝나서 다음에 사용할 목록. batch 리스너가 사용 중인 경우 <code>null</code> */
+    private Buffer<T> spare;
+    /** 지연 시간을 확인하는 작업 */
+    private final ScheduledFuture<?> ticker;
+    /** 최대 지연 시간이 지난 batch 를 batch 리스너에게 전달하는 {@link Executor} */
+    private final Executor executor;
+
+    /** 현재 batch 를 전달해야 하는 시각 ({@link System#nanoTime()}) */
+    private long deadline;
+    /** 종료 여부 */
+    private boolean closed;
+    /** 목록을 바꾼 횟수. 바꾼 목록의 전달 순서로 사용한다. */
+    private long tickets;
+    /** 다음에 batch 리스너에게 전달할 순서. {@link #sinkLock}으로 보호한다. */
+    private long nextTicket;
+    /** 최대 지연 시간이 지나서 바꾼 목록을 아직 전달하지 않았는지 여부. batch 리스너가 느린 경우 {@link #executor}에 작업이 쌓이지 않도록 한다. */
+    private boolean timeFlushPending;
+
+    /** 전달한 batch 수 */
+    private final LongAdder batches = new LongAdder();
+    /** 전달한 항목 수 */
+    private final LongAdder items = new LongAdder();
+    /** batch 리스너가 예외를 발생시킨 batch 수 */
+    private final LongAdder failed = new LongAdder();
+    /** 종료한 이후에 받아서 버린 항목 수 */
+    private final LongAdder rejected = new LongAdder();
+    /** 전달 이유별 batch 수. index: {@link FlushReason#ordinal()} */
+    private final LongAdder[] flushes = new LongAdder[FlushReason.values().length];
+    /** 가장 큰 batch 크기 */
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+
+    /**
+     *
+     * @param sink
+     *            batch 리스너
+     * @param batchSize
+     *            batch 크기. 모아둔 항목 수가 이 값에 도달하면 전달한다.
+     * @param maxLatency
+     *            최대 지연 시간. 첫 항목을 받은 후 이 시간이 지나면 batch 크기에 도달하지 않아도 전달한다.
+     * @param unit
+     *            시간 단위
+     * @param scheduler
+     *            최대 지연 시간을 확인하고, 최대 지연 시간이 지난 batch 를 전달할 {@link ScheduledExecutorService}. 최대 지연 시간의 1/4 (최소 1ms) 주기로 실행된다. 여러
+     *            {@link BatchingConsumer}가 공유하는 경우 batch 리스너를 실행할 {@link Executor}를 따로 전달하는
+     *            {@link #BatchingConsumer(Consumer, int, long, TimeUnit, ScheduledExecutorService, Executor)}를 사용한다.
+     * @throws IllegalArgumentException
+     *             <code>batchSize</code> 또는 <code>maxLatency</code> 가 1보다 작은 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public BatchingConsumer(Consumer<List<T>> sink, int batchSize, long maxLatency, TimeUnit unit, ScheduledExecutorService scheduler) {
+        this(sink, batchSize, maxLatency, unit, scheduler, scheduler);
+    }
+
+    /**
+     *
+     * @param sink
+     *            batch 리스너
+     * @param batchSize
+     *            batch 크기. 모아둔 항목 수가 이 값에 도달하면 전달한다.
+     * @param maxLatency
+     *            최대 지연 시간. 첫 항목을 받은 후 이 시간이 지나면 batch 크기에 도달하지 않아도 전달한다.
+     * @param unit
+     *            시간 단위
+     * @param scheduler
+     *            최대 지연 시간을 확인하는 작업을 실행할 {@link ScheduledExecutorService}. 최대 지연 시간의 1/4 (최소 1ms) 주기로 실행된다.
+     * @param executor
+     *            최대 지연 시간이 지난 batch 를 batch 리스너에게 전달할 {@link Executor}. 한번에 하나의 작업만 실행을 요청한다. 종료되어 작업을 받지 않는 경우 Scheduler 에서
+     *            전달한다.
+     * @throws IllegalArgumentException
+     *             <code>batchSize</code> 또는 <code>maxLatency</code> 가 1보다 작은 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public BatchingConsumer(Consumer<List<T>> sink, int batchSize, long maxLatency, TimeUnit unit, ScheduledExecutorService scheduler, Executor executor) {
+        if (batchSize < 1 || maxLatency < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "batchSize and maxLatency MUST be greater than 0. batchSize=%,d, maxLatency=%,d", batchSize,
+                    maxLatency);
+        }
+
+        this.sink = sink;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxLatencyNanos = unit.toNanos(maxLatency);
+        this.filling = new Buffer<>(batchSize);
+        this.spare = new Buffer<>(batchSize);
+        for (int i = 0; i < this.flushes.length; i++) {
+            this.flushes[i] = new LongAdder();
+        }
+
+        long period = Math.max(TimeUnit.MILLISECONDS.toNanos(1), this.maxLatencyNanos / 4);
+        this.ticker = scheduler.scheduleAtFixedRate(this::tick, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 항목을 추가한다. batch 크기에 도달한 경우 batch 리스너에게 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			목록을 바꾼 후 잠금 밖에서 batch 리스너 호출
+     * </pre>
+     *
+     * @param item
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.util.function.Consumer#accept(java.lang.Object)
+     */
+    @Override
+    public void accept(T item) {
+        Buffer<T> full = null;
+        synchronized (this.lock) {
+            if (this.closed) {
+                this.rejected.increment();
+                return;
+            }
+
+            ArrayList<T> items = this.filling.items;
+            if (items.isEmpty()) {
+                this.deadline = System.nanoTime() + this.maxLatencyNanos;
+            }
+            items.add(item);
+
+            if (items.size() >= this.batchSize) {
+                full = swap();
+            }
+        }
+
+        if (full != null) {
+            deliver(full, FlushReason.SIZE);
+        }
+    }
+
+    /**
+     * 모아둔 항목을 전달하고 종료한다. 이후에 받은 항목은 버린다. <br>
+     * 먼저 바꾼 목록이 모두 전달된 후 반환한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			목록을 바꾼 후 잠금 밖에서 batch 리스너 호출
+     * 2026. 10. 17.		박준홍			전달 중인 목록이 끝날 때까지 대기
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        Buffer<T> full;
+        long swapped;
+        synchronized (this.lock) {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+            this.ticker.cancel(false);
+            full = swap();
+            swapped = this.tickets;
+        }
+
+        if (full != null) {
+            deliver(full, FlushReason.CLOSE);
+            return;
+        }
+
+        // 모아둔 항목이 없더라도 다른 Thread 에서 전달 중인 목록이 있으면 끝날 때까지 기다린다.
+        boolean interrupted;
+        synchronized (this.sinkLock) {
+            interrupted = awaitTicket(swapped);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 모아둔 항목을 바로 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			잠금 밖에서 batch 리스너 호출
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void flush() {
+        flush(FlushReason.MANUAL);
+    }
+
+    /**
+     * 평균 batch 크기를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public double getAverageBatchSize() {
+        long batches = this.batches.sum();
+        return batches > 0 ? (double) this.items.sum() / batches : 0;
+    }
+
+    /**
+     * 전달한 batch 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getBatchCount() {
+        return this.batches.sum();
+    }
+
+    /**
+     * batch 크기를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * batch 리스너가 예외를 발생시킨 batch 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getFailedCount() {
+        return this.failed.sum();
+    }
+
+    /**
+     * 주어진 이유로 전달한 batch 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param reason
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getFlushCount(FlushReason reason) {
+        return this.flushes[reason.ordinal()].sum();
+    }
+
+    /**
+     * 전달한 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getItemCount() {
+        return this.items.sum();
+    }
+
+    /**
+     * 가장 큰 batch 크기를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMaxBatchSize() {
+        return this.maxBatchSize.get();
+    }
+
+    /**
+     * 최대 지연 시간을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param unit
+     *            시간 단위
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(this.maxLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 종료한 이후에 받아서 버린 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * 종료 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			전용 잠금 사용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isClosed() {
+        synchronized (this.lock) {
+            return this.closed;
+        }
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("BatchingConsumer [batchSize=");
+        builder.append(this.batchSize);
+        builder.append(", maxLatencyMillis=");
+        builder.append(getMaxLatency(TimeUnit.MILLISECONDS));
+        builder.append(", batches=");
+        builder.append(getBatchCount());
+        builder.append(", items=");
+        builder.append(getItemCount());
+        builder.append(", avgBatchSize=");
+        builder.append(String.format("%.1f", getAverageBatchSize()));
+        builder.append(", maxBatchSize=");
+        builder.append(getMaxBatchSize());
+        for (FlushReason reason : FlushReason.values()) {
+            builder.append(", ");
+            builder.append(reason.name().toLowerCase());
+            builder.append("=");
+            builder.append(getFlushCount(reason));
+        }
+        builder.append(", failed=");
+        builder.append(getFailedCount());
+        builder.append(", rejected=");
+        builder.append(getRejectedCount());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 주어진 순서보다 앞선 목록이 모두 전달될 때까지 대기한다. {@link #sinkLock}을 가진 상태에서 호출해야 한다. <br>
+     * 순서를 지키기 위해서 인터럽트되어도 계속 대기하며, 인터럽트 여부를 반환한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param ticket
+     *            전달 순서
+     * @return 대기하는 동안 인터럽트된 경우 <code>true</code>. 호출한 쪽에서 잠금을 해제한 후 인터럽트 상태를 복원해야 한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private boolean awaitTicket(long ticket) {
+        boolean interrupted = false;
+        while (this.nextTicket < ticket) {
+            try {
+                this.sinkLock.wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        return interrupted;
+    }
+
+    /**
+     * 목록을 batch 리스너에게 전달하고 비운 후 다음에 사용할 목록으로 돌려둔다. 잠금을 가지지 않은 상태에서 호출해야 한다. <br>
+     * 먼저 바꾼 목록이 전달될 때까지 대기하므로 batch 리스너는 목록을 바꾼 순서대로 한번에 하나씩 호출된다. batch 리스너가 예외를 발생시킨 경우에도 목록을 비우므로, 해당 batch
+     * 의 항목은 다시 전달되지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param full
+     *            {@link #swap()}으로 꺼낸 목록
+     * @param reason
+     *            전달 이유
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void deliver(Buffer<T> full, FlushReason reason) {
+        int size = full.items.size();
+        boolean interrupted;
+
+        synchronized (this.sinkLock) {
+            interrupted = awaitTicket(full.ticket);
+
+            try {
+                this.sink.accept(full.view);
+            } catch (RuntimeException e) {
+                this.failed.increment();
+                logger.warn("The batch listener failed to handle a batch. size={}, reason={}, cause={}", size, reason, e.getMessage(), e);
+            } finally {
+                full.items.clear();
+                this.batches.increment();
+                this.items.add(size);
+                this.flushes[reason.ordinal()].increment();
+                this.maxBatchSize.accumulate(size);
+
+                this.nextTicket++;
+                this.sinkLock.notifyAll();
+            }
+        }
+
+        synchronized (this.lock) {
+            if (this.spare == null) {
+                this.spare = full;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 모아둔 항목이 있는 경우 목록을 바꾸어 batch 리스너에게 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			목록을 바꾼 후 잠금 밖에서 batch 리스너 호출
+     * </pre>
+     *
+     * @param reason
+     *            전달 이유
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void flush(FlushReason reason) {
+        Buffer<T> full;
+        synchronized (this.lock) {
+            full = swap();
+        }
+
+        if (full != null) {
+            deliver(full, reason);
+        }
+    }
+
+    /**
+     * 항목을 모으는 목록을 빈 목록으로 바꾸고, 가득 찬 목록에 전달 순서를 부여하여 반환한다. {@link #lock}을 가진 상태에서 호출해야 한다. <br>
+     * 다음에 사용할 목록이 batch 리스너에서 아직 돌아오지 않은 경우 새로운 목록을 생성한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 모아둔 항목이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private Buffer<T> swap() {
+        Buffer<T> full = this.filling;
+        if (full.items.isEmpty()) {
+            return null;
+        }
+
+        Buffer<T> next = this.spare;
+        this.spare = null;
+        this.filling = next != null ? next : new Buffer<>(this.batchSize);
+        full.ticket = this.tickets++;
+        return full;
+    }
+
+    /**
+     * 최대 지연 시간이 지난 경우 목록을 바꾸고, {@link #executor}에 전달을 요청한다. <br>
+     * Scheduler 의 Thread 에서 batch 리스너를 호출하지 않는다. 이전에 요청한 전달이 끝나지 않은 경우에는 요청하지 않고, 다음 주기에 확인한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			목록을 바꾼 후 잠금 밖에서 batch 리스너 호출
+     * 2026. 10. 17.		박준홍			batch 리스너를 Scheduler 가 아닌 Executor 에서 호출
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void tick() {
+        Buffer<T> full = null;
+        synchronized (this.lock) {
+            if (!this.timeFlushPending && !this.filling.items.isEmpty() && System.nanoTime() - this.deadline >= 0) {
+                full = swap();
+                this.timeFlushPending = full != null;
+            }
+        }
+
+        if (full == null) {
+            return;
+        }
+
+        Buffer<T> batch = full;
+        try {
+            this.executor.execute(() -> timeFlush(batch));
+        } catch (RejectedExecutionException e) {
+            // 순서를 부여한 목록은 반드시 전달해야 다음 목록이 전달된다.
+            timeFlush(batch);
+        }
+    }
+
+    /**
+     * 최대 지연 시간이 지나서 바꾼 목록을 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param full
+     *            {@link #tick()}에서 바꾼 목록
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void timeFlush(Buffer<T> full) {
+        try {
+            deliver(full, FlushReason.TIME);
+        } finally {
+            synchronized (this.lock) {
+                this.timeFlushPending = false;
+            }
+        }
+    }
+
+    /**
+     * 항목을 모아두는 목록과 batch 리스너에게 전달할 변경할 수 없는 목록을 함께 보관한다. 재사용한다.
+     *
+     * @param <T>
+     *            항목 타입
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static final class Buffer<T> {
+        /** 항목을 모아두는 목록 */
+        private final ArrayList<T> items;
+        /** {@link #items}를 변경할 수 없도록 감싼 목록. batch 리스너에게 전달한다. */
+        private final List<T> view;
+        /** 전달 순서 */
+        private long ticket;
+
+        /**
+         * @param capacity
+         *            목록의 초기 크기
+         *
+         * @since 2026. 10. 17.
+         */
+        private Buffer(int capacity) {
+            this.items = new ArrayList<>(capacity);
+            this.view = Collections.unmodifiableList(this.items);
+        }
+    }
+}
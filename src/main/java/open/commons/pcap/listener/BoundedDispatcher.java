@@ -0,0 +1,753 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 5:14:36
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.listener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * 크기가 제한된 큐에 항목을 넣고, {@link Executor}에서 실행되는 작업자(worker)가 큐를 비우면서 소비자에게 전달하는 Dispatcher.<br>
+ * 전달하는 Thread(예: pcap 캡처 Thread)는 큐에 넣기만 하므로 소비자 코드를 실행하지 않으며, 큐가 가득 찬 경우에는 {@link OverflowPolicy}에 따라 처리한다.
+ *
+ * <pre>
+ * BoundedDispatcher&lt;DhcpPacket&gt; dispatcher = new BoundedDispatcher&lt;&gt;(executor, 4, 4096, OverflowPolicy.DROP_NEWEST, consumer);
+ * dispatcher.start();
+ * ...
+ * dispatcher.dispatch(packet); // 캡처 Thread
+ * ...
+ * dispatcher.shutdown();
+ * dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+ * </pre>
+ *
+ * @param <T>
+ *            전달하는 항목 타입
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class BoundedDispatcher<T> implements Dispatcher<T> {
+
+    /** 기본 큐 크기 */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** 작업자가 종료 여부를 확인하는 주기 (ms) */
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    /** {@link OverflowPolicy#DROP_OLDEST}: 오래된 항목을 버리고 다시 넣는 최대 횟수. 다른 Thread 와 경쟁하여 계속 실패하는 경우 새 항목을 버린다. */
+    private static final int DROP_OLDEST_RETRIES = 8;
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Executor executor;
+    private final int workers;
+    private final BlockingQueue<T> queue;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    /** 항목을 처리하고 실패 횟수를 반환하는 함수 */
+    private final ToIntFunction<T> handler;
+
+    /** 종료한 작업자 수를 확인하기 위한 객체 */
+    private final CountDownLatch terminated;
+
+    /** 항목을 받는지 여부 */
+    private volatile boolean running;
+    /** {@link #dispatch(Object)}를 실행 중인 Thread 수. 작업자는 이 값이 0 이 된 후에 종료한다. */
+    private final AtomicInteger dispatching = new AtomicInteger();
+    /** 시작 여부 */
+    private boolean started;
+
+    /** {@link #dispatch(Object)}가 호출된 횟수 */
+    private final LongAdder offered = new LongAdder();
+    /** 소비자에게 전달한 항목 수 */
+    private final LongAdder delivered = new LongAdder();
+    /** 소비자가 예외를 발생시키거나 실패를 보고한 항목 수 */
+    private final LongAdder failed = new LongAdder();
+    /** {@link OverflowPolicy#BLOCK}: 큐가 가득 차서 대기한 횟수 */
+    private final LongAdder blocked = new LongAdder();
+    /** {@link OverflowPolicy#DROP_NEWEST}: 버린 새 항목 수. {@link OverflowPolicy#DROP_OLDEST}에서 넣지 못하고 버린 새 항목을 포함한다. */
+    private final LongAdder droppedNewest = new LongAdder();
+    /** {@link OverflowPolicy#DROP_OLDEST}: 큐에서 버린 오래된 항목 수 */
+    private final LongAdder droppedOldest = new LongAdder();
+    /** 시작 전 또는 종료 후에 전달되어 받지 않은 항목 수 */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     *
+     * @param executor
+     *            작업자를 실행할 {@link Executor}. 작업자는 종료할 때까지 Thread 를 하나씩 점유한다.
+     * @param workers
+     *            작업자 수. 2 이상인 경우 소비자는 thread-safe 해야 하며, 항목의 전달 순서는 보장되지 않는다.
+     * @param capacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     * @param consumer
+     *            항목을 전달받을 소비자
+     * @throws IllegalArgumentException
+     *             <code>workers</code> 또는 <code>capacity</code> 가 1보다 작거나, <code>workers</code> 가 <code>executor</code> 의 최대 Thread 개수보다 큰 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public BoundedDispatcher(Executor executor, int workers, int capacity, OverflowPolicy policy, Consumer<T> consumer) {
+        this(executor, workers, capacity, policy, item -> {
+            consumer.accept(item);
+            return 0;
+        });
+    }
+
+    /**
+     * 소비자가 예외를 발생시키지 않고 실패를 보고하는 경우에 사용한다. 예) 여러 리스너에게 전달하면서 리스너별 예외를 직접 처리하는 경우
+     * 
+     * @param executor
+     *            작업자를 실행할 {@link Executor}. 작업자는 종료할 때까지 Thread 를 하나씩 점유한다.
+     * @param workers
+     *            작업자 수. 2 이상인 경우 소비자는 thread-safe 해야 하며, 항목의 전달 순서는 보장되지 않는다.
+     * @param capacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     * @param handler
+     *            항목을 처리하고 실패 횟수를 반환하는 함수. 0 보다 큰 값을 반환한 항목은 {@link #getFailedCount()}에 포함된다.
+     * @throws IllegalArgumentException
+     *             <code>workers</code> 또는 <code>capacity</code> 가 1보다 작거나, <code>workers</code> 가 <code>executor</code> 의 최대 Thread 개수보다 큰 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    BoundedDispatcher(Executor executor, int workers, int capacity, OverflowPolicy policy, ToIntFunction<T> handler) {
+        if (workers < 1 || capacity < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "workers and capacity MUST be greater than 0. workers=%,d, capacity=%,d", workers, capacity);
+        }
+        // 작업자는 Thread 를 하나씩 점유하므로, Thread 가 부족하면 남은 작업자는 실행되지 않고 큐에 넣은 항목은 전달되지 않는다.
+        int poolSize = maximumPoolSize(executor);
+        if (poolSize > 0 && workers > poolSize) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "workers MUST NOT be greater than the pool size. workers=%,d, pool.size=%,d", workers, poolSize);
+        }
+
+        this.executor = executor;
+        this.workers = workers;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.policy = policy;
+        this.handler = handler;
+        this.terminated = new CountDownLatch(workers);
+    }
+
+    /**
+     * 모든 작업자가 종료할 때까지 대기한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timeout
+     * @param unit
+     * @return 모든 작업자가 종료한 경우 true
+     * @throws InterruptedException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #shutdown()
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.terminated.await(timeout, unit);
+    }
+
+    /**
+     * 큐의 크기를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * 항목을 큐에 넣는다. 큐가 가득 찬 경우 {@link OverflowPolicy}에 따라 처리한다. <br>
+     * 이 메소드는 소비자 코드를 실행하지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			종료 중에 받은 항목이 전달되지 않는 경쟁 상태 수정
+     * </pre>
+     *
+     * @param item
+     * @return 큐에 넣은 경우 true, 버리거나 받지 않은 경우 false
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public boolean dispatch(T item) {
+        this.offered.increment();
+
+        // 종료 여부를 확인하기 전에 증가시킨다. 작업자는 실행 중인 dispatch 가 끝날 때까지 종료하지 않으므로, 받은 항목은 반드시 전달된다.
+        this.dispatching.incrementAndGet();
+        try {
+            return offer(item);
+        } finally {
+            this.dispatching.decrementAndGet();
+        }
+    }
+
+    /**
+     * {@link OverflowPolicy#BLOCK}: 큐가 가득 차서 대기한 횟수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getBlockedCount() {
+        return this.blocked.sum();
+    }
+
+    /**
+     * 소비자에게 전달한 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public long getDeliveredCount() {
+        return this.delivered.sum();
+    }
+
+    /**
+     * 큐가 가득 차서 버린 항목 수를 반환한다. <br>
+     * {@link #getDroppedNewestCount()}와 {@link #getDroppedOldestCount()}의 합이다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public long getDroppedCount() {
+        return this.droppedNewest.sum() + this.droppedOldest.sum();
+    }
+
+    /**
+     * {@link OverflowPolicy#DROP_NEWEST}: 버린 새 항목 수를 반환한다. <br>
+     * {@link OverflowPolicy#DROP_OLDEST}에서 다른 Thread 와 경쟁하여 넣지 못하고 버린 새 항목을 포함한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			DROP_OLDEST 에서 버린 새 항목 포함
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDroppedNewestCount() {
+        return this.droppedNewest.sum();
+    }
+
+    /**
+     * {@link OverflowPolicy#DROP_OLDEST}: 큐에서 버린 오래된 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDroppedOldestCount() {
+        return this.droppedOldest.sum();
+    }
+
+    /**
+     * 소비자가 예외를 발생시키거나 실패를 보고한 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public long getFailedCount() {
+        return this.failed.sum();
+    }
+
+    /**
+     * {@link #dispatch(Object)}가 호출된 횟수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public long getOfferedCount() {
+        return this.offered.sum();
+    }
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public OverflowPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * 시작 전 또는 종료 후에 전달되어 받지 않은 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * 항목을 받는 중인지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * 더 이상 항목을 받지 않는다. 작업자는 큐에 남은 항목을 모두 전달한 후 종료한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #awaitTermination(long, TimeUnit)
+     */
+    @Override
+    public void shutdown() {
+        this.running = false;
+    }
+
+    /**
+     * 큐에 있는 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public int size() {
+        return this.queue.size();
+    }
+
+    /**
+     * 작업자를 시작한다. 이미 시작한 경우 무시한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @Override
+    public synchronized void start() {
+        if (this.started) {
+            return;
+        }
+        this.started = true;
+        this.running = true;
+
+        for (int i = 0; i < this.workers; i++) {
+            this.executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("BoundedDispatcher [policy=");
+        builder.append(this.policy);
+        builder.append(", size=");
+        builder.append(size());
+        builder.append("/");
+        builder.append(this.capacity);
+        builder.append(", offered=");
+        builder.append(getOfferedCount());
+        builder.append(", delivered=");
+        builder.append(getDeliveredCount());
+        builder.append(", failed=");
+        builder.append(getFailedCount());
+        builder.append(", blocked=");
+        builder.append(getBlockedCount());
+        builder.append(", droppedNewest=");
+        builder.append(getDroppedNewestCount());
+        builder.append(", droppedOldest=");
+        builder.append(getDroppedOldestCount());
+        builder.append(", rejected=");
+        builder.append(getRejectedCount());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 소비자에게 항목을 전달한다. 소비자가 발생시킨 예외는 기록만 하고 다음 항목을 계속 전달한다. <br>
+     * 소비자가 예외를 발생시키거나 실패 횟수를 반환한 항목은 실패한 항목으로 센다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			소비자가 보고한 실패를 실패한 항목 수에 반영
+     * </pre>
+     *
+     * @param item
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void deliver(T item) {
+        try {
+            if (this.handler.applyAsInt(item) > 0) {
+                this.failed.increment();
+            } else {
+                this.delivered.increment();
+            }
+        } catch (RuntimeException e) {
+            this.failed.increment();
+            logger.warn("The consumer failed to handle an item. item={}", item, e);
+        }
+    }
+
+    /**
+     * 작업자. {@link #shutdown()} 이후 실행 중인 {@link #dispatch(Object)}가 끝나고 큐가 빌 때까지 항목을 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			실행 중인 dispatch 가 끝날 때까지 종료하지 않음
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void drain() {
+        try {
+            while (this.running || this.dispatching.get() > 0 || !this.queue.isEmpty()) {
+                T item = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    deliver(item);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.terminated.countDown();
+        }
+    }
+
+    /**
+     * 항목을 큐에 넣는다. 큐가 가득 찬 경우 {@link OverflowPolicy}에 따라 처리한다. <br>
+     * {@link OverflowPolicy#DROP_OLDEST}는 다른 Thread 와 경쟁하여 {@value #DROP_OLDEST_RETRIES}번 모두 넣지 못한 경우 새 항목을 버린다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param item
+     * @return 큐에 넣은 경우 true, 버리거나 받지 않은 경우 false
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private boolean offer(T item) {
+        if (!this.running) {
+            this.rejected.increment();
+            return false;
+        }
+
+        if (this.queue.offer(item)) {
+            return true;
+        }
+
+        switch (this.policy) {
+            case BLOCK:
+                this.blocked.increment();
+                try {
+                    while (!this.queue.offer(item, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (!this.running) {
+                            this.rejected.increment();
+                            return false;
+                        }
+                    }
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.rejected.increment();
+                    return false;
+                }
+            case DROP_OLDEST:
+                for (int i = 0; i < DROP_OLDEST_RETRIES; i++) {
+                    if (this.queue.poll() != null) {
+                        this.droppedOldest.increment();
+                    }
+                    if (this.queue.offer(item)) {
+                        return true;
+                    }
+                }
+                this.droppedNewest.increment();
+                return false;
+            case DROP_NEWEST:
+            default:
+                this.droppedNewest.increment();
+                return false;
+        }
+    }
+
+    /**
+     * 항목을 처리하고 실패 횟수를 반환하는 함수로 {@link BoundedDispatcher}를 생성한다. <br>
+     * 소비자가 예외를 발생시키지 않고 실패를 보고하는 경우에 사용한다. 예) {@link ListenerRegistry#fire(Object, java.util.function.BiConsumer)}의 반환값 <br>
+     * 같은 인자의 생성자는 {@link Consumer}를 받는 생성자와 메소드 참조가 모호해지므로 공개하지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param <T>
+     *            항목 타입
+     * @param executor
+     *            작업자를 실행할 {@link Executor}. 작업자는 종료할 때까지 Thread 를 하나씩 점유한다.
+     * @param workers
+     *            작업자 수. 2 이상인 경우 소비자는 thread-safe 해야 하며, 항목의 전달 순서는 보장되지 않는다.
+     * @param capacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     * @param handler
+     *            항목을 처리하고 실패 횟수를 반환하는 함수. 0 보다 큰 값을 반환한 항목은 {@link #getFailedCount()}에 포함된다.
+     * @return
+     * @throws IllegalArgumentException
+     *             <code>workers</code> 또는 <code>capacity</code> 가 1보다 작거나, <code>workers</code> 가 <code>executor</code> 의 최대 Thread 개수보다 큰 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static <T> BoundedDispatcher<T> withHandler(Executor executor, int workers, int capacity, OverflowPolicy policy, ToIntFunction<T> handler) {
+        return new BoundedDispatcher<>(executor, workers, capacity, policy, handler);
+    }
+
+    /**
+     * {@link Executor}가 실행할 수 있는 최대 Thread 개수를 반환한다. <br>
+     * 작업자는 종료할 때까지 Thread 를 하나씩 점유하므로, 작업자 수가 이 값보다 큰 지 확인하는데 사용한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param executor
+     * @return 알 수 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    static int maximumPoolSize(Executor executor) {
+        return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getMaximumPoolSize() : -1;
+    }
+}
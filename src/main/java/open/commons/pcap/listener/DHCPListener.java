@@ -26,11 +26,6 @@
 
 package open.commons.pcap.listener;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Vector;
-import java.util.function.Consumer;
-
 import org.pcap4j.core.PacketListener;
 import org.pcap4j.packet.ArpPacket;
 import org.pcap4j.packet.ArpPacket.ArpHeader;
@@ -48,7 +43,6 @@ import org.pcap4j.packet.namednumber.IpNumber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import open.commons.core.concurrent.DefaultThreadFactory;
 import open.commons.core.concurrent.FixedThreadPoolService;
 import open.commons.core.utils.ByteUtils;
 import open.commons.pcap.dhcp.DhcpPacket;
@@ -59,120 +53,94 @@ import open.commons.pcap.dhcp.DhcpPacket;
  * @version _._._
  * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
  */
-public class DHCPListener implements PacketListener {
+public class DHCPListener extends AbstractDHCPListener implements PacketListener {
 
     private Logger logger = LoggerFactory.getLogger(getClass());
 
-    private final FixedThreadPoolService executor;
-
-    private Vector<Consumer<DhcpPacket>> listeners = new Vector<>();
-
     /**
      * 
      * @since 2020. 12. 15.
      */
     public DHCPListener() {
-        this(64, "dhcp-listener");
+        this(DEFAULT_POOL_SIZE, "dhcp-listener");
     }
 
     /**
      * @param executor
+     *            리스너를 실행할 ThreadPool. 1개의 작업자가 큐를 비운다.
      * @since 2020. 12. 15.
      */
     public DHCPListener(FixedThreadPoolService executor) {
-        this.executor = executor;
+        this(executor, 1, DEFAULT_QUEUE_CAPACITY, DEFAULT_OVERFLOW_POLICY);
     }
 
     /**
-     * @param poolSize
-     *            ThreadPool Size
-     * @param monitor
-     *            Thread Group Name
-     * @since 2020. 12. 15.
+     * 
+     * @param executor
+     *            리스너를 실행할 ThreadPool
+     * @param workers
+     *            큐를 비우면서 리스너를 실행하는 작업자 수. <code>executor</code> 의 Thread 개수보다 클 수 없다.
+     * @param queueCapacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     *
+     * @since 2026. 10. 17.
      */
-    public DHCPListener(int poolSize, String monitor) {
-        this(new FixedThreadPoolService(poolSize, new DefaultThreadFactory(monitor)));
+    public DHCPListener(FixedThreadPoolService executor, int workers, int queueCapacity, OverflowPolicy policy) {
+        super(executor, workers, queueCapacity, policy);
     }
 
     /**
-     * DHCP Packet 리스너를 추가한다. <br>
+     * 같은 key 를 가진 패킷을 항상 같은 작업자에게 전달하여, key 별로 수신한 순서대로 리스너를 호출한다.
      * 
-     * <pre>
-     * [개정이력]
-     *      날짜    	| 작성자	|	내용
-     * ------------------------------------------
-     * 2020. 12. 15.		박준홍			최초 작성
-     * </pre>
-     *
-     * @param listener
+     * @param executor
+     *            리스너를 실행할 ThreadPool. lane 마다 Thread 를 하나씩 점유하므로, 다른 작업에 사용하지 않는 Thread 가 lane 수 이상 필요하다. ThreadPool 을 따로 관리하지 않는 경우
+     *            {@link #DHCPListener(int, int, OverflowPolicy, DhcpFlowKey, String)}를 사용한다.
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
      *
-     * @since 2020. 12. 15.
-     * @version 1.8.0
-     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * @since 2026. 10. 17.
      */
-    public void addListener(Consumer<DhcpPacket> listener) {
-        if (listener == null) {
-            return;
-        }
-
-        if (this.listeners == null) {
-            this.listeners = new Vector<>();
-        }
-
-        this.listeners.add(listener);
+    public DHCPListener(FixedThreadPoolService executor, int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey) {
+        super(executor, lanes, laneCapacity, policy, flowKey);
     }
 
     /**
-     * DHCP Packet 리스너를 추가한다. <br>
-     * 
-     * <pre>
-     * [개정이력]
-     *      날짜    	| 작성자	|	내용
-     * ------------------------------------------
-     * 2020. 12. 15.		박준홍			최초 작성
-     * </pre>
-     *
-     * @param listeners
-     *
+     * @param poolSize
+     *            ThreadPool Size
+     * @param monitor
+     *            Thread Group Name
      * @since 2020. 12. 15.
-     * @version 1.8.0
-     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
-    public void addListeners(Collection<Consumer<DhcpPacket>> listeners) {
-        if (listeners == null) {
-            return;
-        }
-
-        if (this.listeners == null) {
-            this.listeners = new Vector<>();
-        }
-
-        this.listeners.addAll(listeners);
+    public DHCPListener(int poolSize, String monitor) {
+        super(poolSize, monitor);
     }
 
     /**
-     * DHCP Packet 리스너를 추가한다. <br>
+     * 같은 key 를 가진 패킷을 항상 같은 작업자에게 전달하여, key 별로 수신한 순서대로 리스너를 호출한다. lane 수와 같은 크기의 ThreadPool 을 생성한다.
      * 
-     * <pre>
-     * [개정이력]
-     *      날짜    	| 작성자	|	내용
-     * ------------------------------------------
-     * 2020. 12. 15.		박준홍			최초 작성
-     * </pre>
-     *
-     * @param listeners
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
+     * @param monitor
+     *            Thread Group Name
      *
-     * @since 2020. 12. 15.
-     * @version 1.8.0
-     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * @since 2026. 10. 17.
      */
-    @SuppressWarnings("unchecked")
-    public void addListeners(Consumer<DhcpPacket>... listeners) {
-        if (listeners == null) {
-            return;
-        }
-
-        this.addListeners(Arrays.asList(listeners));
+    public DHCPListener(int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey, String monitor) {
+        super(lanes, laneCapacity, policy, flowKey, monitor);
     }
 
     /**
@@ -183,6 +151,8 @@ public class DHCPListener implements PacketListener {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2020. 12. 15.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			해석한 패킷을 {@link BoundedDispatcher}를 통해 리스너에 전달
+     * 2026. 10. 17.		박준홍			출발지 또는 목적지 UDP Port 가 67, 68 인 경우를 DHCP 로 판단
      * </pre>
      *
      * @param packet
@@ -209,23 +179,24 @@ public class DHCPListener implements PacketListener {
                     case 0x0011: // IpNumber.UDP
                         UdpPacket udpPkt = (UdpPacket) ipv4Packet.getPayload();
                         UdpHeader udpHd = udpPkt.getHeader();
-                        switch (udpHd.getSrcPort().valueAsInt()) {
-                            // Bootstrap Protocol Server
-                            case 67:
-                            case 69:
-                                logger.debug(">>>" + ByteUtils.hexBinString(udpPkt.getPayload().getRawData()) + "<< ");
-                                byte[] udpPayload = udpPkt.getPayload().getRawData();
-                                DhcpPacket dhcpPkt;
-                                try {
-                                    dhcpPkt = DhcpPacket.newPacket(udpPayload, 0, udpPayload.length);
-                                    logger.debug("{}", dhcpPkt);
-                                } catch (IllegalRawDataException e) {
-                                    e.printStackTrace();
-                                }
-                                break;
-                            default:
-                                logger.debug(" * * * * * * * * NO DHCP * * * * * * * * ");
-                                break;
+                        int srcPort = udpHd.getSrcPort().valueAsInt();
+                        int dstPort = udpHd.getDstPort().valueAsInt();
+                        // Bootstrap Protocol Server(67) / Client(68): 요청(68 -> 67), 응답(67 -> 68), Relay Agent(67 -> 67)
+                        if (DHCPRawListener.isDhcpPort(srcPort) || DHCPRawListener.isDhcpPort(dstPort)) {
+                            byte[] udpPayload = udpPkt.getPayload().getRawData();
+                            if (logger.isDebugEnabled()) {
+                                logger.debug(">>>" + ByteUtils.hexBinString(udpPayload) + "<< ");
+                            }
+                            DhcpPacket dhcpPkt;
+                            try {
+                                dhcpPkt = DhcpPacket.newPacket(udpPayload, 0, udpPayload.length);
+                                logger.debug("{}", dhcpPkt);
+                                dispatch(dhcpPkt);
+                            } catch (IllegalRawDataException e) {
+                                logger.warn("Failed to decode a DHCP packet. cause={}", e.getMessage());
+                            }
+                        } else {
+                            logger.debug(" * * * * * * * * NO DHCP * * * * * * * * ");
                         }
 
                         break;
@@ -267,25 +238,4 @@ public class DHCPListener implements PacketListener {
         }
 
     }
-
-    /**
-     * 
-     * <br>
-     * 
-     * <pre>
-     * [개정이력]
-     *      날짜    	| 작성자	|	내용
-     * ------------------------------------------
-     * 2020. 12. 15.		박준홍			최초 작성
-     * </pre>
-     *
-     * @return
-     *
-     * @since 2020. 12. 15.
-     * @version _._._
-     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
-     */
-    public boolean remove(Consumer<DhcpPacket> listener) {
-        return this.listeners.remove(listener);
-    }
 }
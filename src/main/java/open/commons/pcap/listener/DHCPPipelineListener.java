@@ -0,0 +1,757 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 7:18:40
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.pcap4j.core.PcapHandle;
+import org.pcap4j.core.RawPacketListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import open.commons.core.concurrent.DefaultThreadFactory;
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * LMAX Disruptor 의 Ring Buffer 를 이용하여 캡처 Thread 에서 리스너까지 패킷을 전달하는 리스너.<br>
+ * {@link DHCPListener}, {@link DHCPRawListener}는 패킷마다 {@link open.commons.pcap.dhcp.DhcpPacket} 객체를 생성하여 큐에 넣지만, 이 리스너는
+ * 미리 할당한 {@link DhcpFrameEvent}를 재사용하므로 패킷마다 객체를 생성하지 않는다.
+ *
+ * <pre>
+ * capture thread ──publish──▶ [ring buffer] ──▶ decode ──▶ enrich ──▶ deliver
+ * </pre>
+ *
+ * <ul>
+ * <li>capture: {@link #gotPacket(byte[])}. DHCP 가 아닌 프레임을 byte 위치로 확인하여 버리고, DHCP 프레임만 이벤트의 배열에 복사하여 발행한다.
+ * <li>decode: DHCP 메시지를 {@link open.commons.pcap.dhcp.DhcpPacketView}로 연결한다.
+ * <li>enrich: 옵션을 색인하여 Message Type 을 설정하고, {@link #addEnricher(Consumer)}로 등록한 함수를 호출한다.
+ * <li>deliver: {@link #addListener(Consumer)}로 등록한 리스너에게 전달한 후 이벤트를 초기화한다.
+ * </ul>
+ *
+ * 각 단계는 전용 Thread 에서 실행되며, 다음 이벤트를 기다리는 방식은 {@link PipelineWaitStrategy}로 설정한다. 각 단계는 밀린 이벤트를 한번에(batch) 처리한다.<br>
+ * Ring Buffer 가 가득 찬 경우 {@link OverflowPolicy#BLOCK}은 캡처 Thread 를 대기시키고, {@link OverflowPolicy#DROP_NEWEST}는 새 프레임을 버린다.
+ * {@link OverflowPolicy#DROP_OLDEST}는 지원하지 않는다.<br>
+ * {@link #gotPacket(byte[])}는 하나의 Thread 에서만 호출해야 한다.
+ *
+ * <pre>
+ * DHCPPipelineListener listener = new DHCPPipelineListener(8192, 2048, PipelineWaitStrategy.YIELDING, OverflowPolicy.DROP_NEWEST, "dhcp-pipeline");
+ * listener.addListener(event -&gt; ...);
+ * handle.loop(-1, listener);
+ * ...
+ * listener.shutdown(5, TimeUnit.SECONDS);
+ * </pre>
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see PcapHandle#loop(int, RawPacketListener)
+ */
+public class DHCPPipelineListener implements RawPacketListener {
+
+    /** 기본 Ring Buffer 크기 */
+    public static final int DEFAULT_RING_SIZE = 4096;
+    /** 기본 최대 프레임 길이 */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 2048;
+    /** 최대 프레임 길이의 최소값: Ethernet(14) + VLAN 태그 2개(8) + 최대 IPv4 헤더(60) + UDP(8). DHCP 메시지 시작 위치가 항상 배열 안에 있어야 한다. */
+    public static final int MIN_FRAME_LENGTH = 90;
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Disruptor<DhcpFrameEvent> disruptor;
+    private final RingBuffer<DhcpFrameEvent> ringBuffer;
+    private final OverflowPolicy policy;
+    private final PipelineWaitStrategy waitStrategy;
+
+    /** 'enrich' 단계에서 호출하는 함수 */
+    private final ListenerRegistry<Consumer<DhcpFrameEvent>> enrichers = new ListenerRegistry<>();
+    /** 'deliver' 단계에서 호출하는 리스너 */
+    private final ListenerRegistry<Consumer<DhcpFrameEvent>> listeners = new ListenerRegistry<>();
+
+    /** 프레임을 받는지 여부 */
+    private volatile boolean running;
+
+    /** 전달받은 프레임 수 */
+    private final LongAdder received = new LongAdder();
+    /** DHCP 가 아니어서 버린 프레임 수 */
+    private final LongAdder filtered = new LongAdder();
+    /** 발행한 프레임 수 */
+    private final LongAdder published = new LongAdder();
+    /** Ring Buffer 가 가득 차서 버린 프레임 수 */
+    private final LongAdder dropped = new LongAdder();
+    /** 최대 프레임 길이보다 길어서 잘린 프레임 수 */
+    private final LongAdder truncated = new LongAdder();
+    /** 해석하지 못한 프레임 수 */
+    private final LongAdder malformed = new LongAdder();
+    /** 리스너에게 전달한 프레임 수 */
+    private final LongAdder delivered = new LongAdder();
+    /** 종료한 이후에 전달받아 버린 프레임 수 */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     *
+     * @since 2026. 10. 17.
+     */
+    public DHCPPipelineListener() {
+        this(DEFAULT_RING_SIZE, DEFAULT_MAX_FRAME_LENGTH, PipelineWaitStrategy.BLOCKING, AbstractDHCPListener.DEFAULT_OVERFLOW_POLICY, "dhcp-pipeline");
+    }
+
+    /**
+     *
+     * @param ringSize
+     *            Ring Buffer 크기. 2의 거듭제곱이어야 한다.
+     * @param maxFrameLength
+     *            이벤트마다 미리 할당하는 프레임 배열의 크기. {@link #MIN_FRAME_LENGTH} 이상이어야 하며, 이보다 긴 프레임은 잘린다.
+     * @param waitStrategy
+     *            처리 단계가 다음 이벤트를 기다리는 방식
+     * @param policy
+     *            Ring Buffer 가 가득 찼을 때의 처리 방식. {@link OverflowPolicy#BLOCK} 또는 {@link OverflowPolicy#DROP_NEWEST}
+     * @param monitor
+     *            Thread Group Name
+     * @throws IllegalArgumentException
+     *             <code>ringSize</code> 가 2의 거듭제곱이 아니거나, <code>maxFrameLength</code> 가 {@link #MIN_FRAME_LENGTH}보다 작거나, <code>policy</code> 가
+     *             {@link OverflowPolicy#DROP_OLDEST} 인 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public DHCPPipelineListener(int ringSize, int maxFrameLength, PipelineWaitStrategy waitStrategy, OverflowPolicy policy, String monitor) {
+        if (ringSize < 1 || Integer.bitCount(ringSize) != 1 || maxFrameLength < MIN_FRAME_LENGTH) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class,
+                    "ringSize MUST be a power of 2 and maxFrameLength MUST be greater than or equal to %,d. ringSize=%,d, maxFrameLength=%,d", MIN_FRAME_LENGTH, ringSize,
+                    maxFrameLength);
+        }
+        if (policy == OverflowPolicy.DROP_OLDEST) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "A ring buffer can not drop the oldest event. policy=%s", policy);
+        }
+
+        this.policy = policy;
+        this.waitStrategy = waitStrategy;
+        this.disruptor = new Disruptor<>(() -> new DhcpFrameEvent(maxFrameLength), ringSize, new DefaultThreadFactory(monitor), ProducerType.SINGLE,
+                waitStrategy.newWaitStrategy());
+        this.disruptor.handleEventsWith(this::decode) //
+                .then(this::enrich) //
+                .then(this::deliver);
+        this.ringBuffer = this.disruptor.start();
+        this.running = true;
+    }
+
+    /**
+     * 'enrich' 단계에서 호출할 함수를 추가한다. <br>
+     * 등록된 순서대로 호출된다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param enricher
+     *            DHCP 메시지를 해석한 이벤트만 전달된다. {@link DhcpFrameEvent#setAttachment(Object)}로 부가 정보를 설정할 수 있다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addEnricher(Consumer<DhcpFrameEvent> enricher) {
+        this.enrichers.add(enricher);
+    }
+
+    /**
+     * 리스너를 추가한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     *            DHCP 메시지를 해석한 이벤트만 전달된다. 이벤트는 호출되는 동안에만 유효하다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addListener(Consumer<DhcpFrameEvent> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * 리스너에게 전달한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDeliveredCount() {
+        return this.delivered.sum();
+    }
+
+    /**
+     * Ring Buffer 가 가득 차서 버린 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * DHCP 가 아니어서 버린 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getFilteredCount() {
+        return this.filtered.sum();
+    }
+
+    /**
+     * 해석하지 못한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMalformedCount() {
+        return this.malformed.sum();
+    }
+
+    /**
+     * Ring Buffer 가 가득 찼을 때의 처리 방식을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public OverflowPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Ring Buffer 에 발행한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getPublishedCount() {
+        return this.published.sum();
+    }
+
+    /**
+     * 전달받은 전체 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getReceivedCount() {
+        return this.received.sum();
+    }
+
+    /**
+     * 종료한 이후에 전달받아 버린 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * 최대 프레임 길이보다 길어서 잘린 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getTruncatedCount() {
+        return this.truncated.sum();
+    }
+
+    /**
+     * 처리 단계가 다음 이벤트를 기다리는 방식을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public PipelineWaitStrategy getWaitStrategy() {
+        return this.waitStrategy;
+    }
+
+    /**
+     * 캡처 시각으로 프레임을 받은 시각(ms 정밀도)을 사용한다. pcap 이 기록한 캡처 시각이 필요한 경우 {@link #gotPacket(byte[], long)}를 사용한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link #gotPacket(byte[], long)}에 위임
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see org.pcap4j.core.RawPacketListener#gotPacket(byte[])
+     */
+    @Override
+    public void gotPacket(byte[] frame) {
+        gotPacket(frame, currentTimeNanos());
+    }
+
+    /**
+     * pcap 이 기록한 캡처 시각과 함께 프레임을 전달받는다. <br>
+     * {@link #gotPacket(byte[])}와 같이 하나의 Thread 에서만 호출해야 한다.
+     *
+     * <pre>
+     * handle.loop(-1, (RawPacketListener) frame -&gt; listener.gotPacket(frame, DHCPPipelineListener.toEpochNanos(handle.getTimestamp())));
+     * </pre>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @param timestamp
+     *            캡처 시각 (epoch, ns)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #toEpochNanos(Timestamp)
+     * @see PcapHandle#getTimestamp()
+     */
+    public void gotPacket(byte[] frame, long timestamp) {
+        this.received.increment();
+
+        if (!this.running) {
+            this.rejected.increment();
+            return;
+        }
+
+        int payloadOffset = DHCPRawListener.dhcpPayloadOffset(frame);
+        if (payloadOffset < 0) {
+            this.filtered.increment();
+            return;
+        }
+
+        long sequence;
+        if (this.policy == OverflowPolicy.BLOCK) {
+            sequence = this.ringBuffer.next();
+        } else {
+            try {
+                sequence = this.ringBuffer.tryNext();
+            } catch (InsufficientCapacityException e) {
+                this.dropped.increment();
+                return;
+            }
+        }
+
+        try {
+            DhcpFrameEvent event = this.ringBuffer.get(sequence);
+            event.set(frame, payloadOffset, timestamp);
+            if (event.isTruncated()) {
+                this.truncated.increment();
+            }
+        } finally {
+            this.ringBuffer.publish(sequence);
+        }
+        this.published.increment();
+    }
+
+    /**
+     * 리스너를 삭제한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     * @return 삭제한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean remove(Consumer<DhcpFrameEvent> listener) {
+        return this.listeners.remove(listener);
+    }
+
+    /**
+     * 'enrich' 단계의 함수를 삭제한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param enricher
+     * @return 삭제한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean removeEnricher(Consumer<DhcpFrameEvent> enricher) {
+        return this.enrichers.remove(enricher);
+    }
+
+    /**
+     * 새로운 프레임을 받지 않고, 발행한 이벤트를 모두 처리한 후 처리 단계를 종료한다. <br>
+     * 주어진 시간 안에 처리하지 못한 경우 남은 이벤트를 버리고 종료한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timeout
+     *            발행한 이벤트를 모두 처리할 때까지 대기하는 시간
+     * @param unit
+     *            시간 단위
+     * @return 주어진 시간 안에 모든 이벤트를 처리한 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        this.running = false;
+        try {
+            this.disruptor.shutdown(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Timed out waiting for the pipeline to drain. timeout={} {}", timeout, unit);
+            this.disruptor.halt();
+            return false;
+        }
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DHCPPipelineListener [waitStrategy=");
+        builder.append(this.waitStrategy);
+        builder.append(", policy=");
+        builder.append(this.policy);
+        builder.append(", ringSize=");
+        builder.append(this.ringBuffer.getBufferSize());
+        builder.append(", received=");
+        builder.append(getReceivedCount());
+        builder.append(", filtered=");
+        builder.append(getFilteredCount());
+        builder.append(", published=");
+        builder.append(getPublishedCount());
+        builder.append(", dropped=");
+        builder.append(getDroppedCount());
+        builder.append(", truncated=");
+        builder.append(getTruncatedCount());
+        builder.append(", malformed=");
+        builder.append(getMalformedCount());
+        builder.append(", delivered=");
+        builder.append(getDeliveredCount());
+        builder.append(", rejected=");
+        builder.append(getRejectedCount());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 'decode' 단계. DHCP 메시지를 {@link open.commons.pcap.dhcp.DhcpPacketView}로 연결한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param event
+     * @param sequence
+     * @param endOfBatch
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void decode(DhcpFrameEvent event, long sequence, boolean endOfBatch) {
+        if (!event.decode()) {
+            this.malformed.increment();
+        }
+    }
+
+    /**
+     * 'deliver' 단계. 리스너에게 전달한 후 이벤트를 초기화한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param event
+     * @param sequence
+     * @param endOfBatch
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void deliver(DhcpFrameEvent event, long sequence, boolean endOfBatch) {
+        try {
+            if (event.isDecoded()) {
+                this.listeners.fire(event, Consumer::accept);
+                this.delivered.increment();
+            }
+        } finally {
+            event.clear();
+        }
+    }
+
+    /**
+     * 'enrich' 단계. 옵션을 색인하여 Message Type 을 설정하고, 등록된 함수를 호출한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param event
+     * @param sequence
+     * @param endOfBatch
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private void enrich(DhcpFrameEvent event, long sequence, boolean endOfBatch) {
+        if (!event.isDecoded()) {
+            return;
+        }
+
+        try {
+            event.setMessageType(event.getView().getOptions().getMessageType());
+        } catch (RuntimeException e) {
+            // 옵션 영역이 잘못된 경우에도 고정 헤더는 전달한다.
+            logger.debug("Failed to index DHCP options. cause={}", e.getMessage());
+        }
+        this.enrichers.fire(event, Consumer::accept);
+    }
+
+    /**
+     * 현재 시각을 epoch 기준 ns 로 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static long currentTimeNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+
+    /**
+     * pcap 캡처 시각을 epoch 기준 ns 로 변환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timestamp
+     *            {@link PcapHandle#getTimestamp()}가 반환한 시각. <code>null</code> 인 경우 현재 시각(ms 정밀도)을 사용한다.
+     * @return epoch 기준 ns
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static long toEpochNanos(Timestamp timestamp) {
+        if (timestamp == null) {
+            return currentTimeNanos();
+        }
+        return TimeUnit.SECONDS.toNanos(Math.floorDiv(timestamp.getTime(), 1000L)) + timestamp.getNanos();
+    }
+}
@@ -0,0 +1,699 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 6:21:17
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.listener;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.pcap4j.core.PcapHandle;
+import org.pcap4j.core.RawPacketListener;
+import org.pcap4j.packet.IllegalRawDataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.concurrent.FixedThreadPoolService;
+import open.commons.pcap.dhcp.DhcpPacket;
+import open.commons.pcap.dhcp.DhcpPacket.DhcpHeader;
+
+/**
+ * pcap4j 의 패킷 객체를 만들지 않고, 캡처한 Ethernet 프레임의 byte 위치만으로 DHCP 메시지를 찾는 리스너.<br>
+ * {@link DHCPListener}는 pcap4j 가 Ethernet, IPv4, UDP 를 모두 객체로 해석한 후 UDP payload 를 다시 복사하지만, 이 리스너는 EtherType, IP 프로토콜,
+ * UDP 포트(67, 68)를 byte 위치로 확인하고 일치하지 않는 프레임은 바로 버린다. 일치하는 경우에도 프레임을 복사하지 않고 DHCP 메시지 영역을 공유하여 해석한다.
+ *
+ * <pre>
+ * DHCPRawListener listener = new DHCPRawListener();
+ * listener.addListener(packet -&gt; ...);
+ * listener.addEventListener(event -&gt; ... event.getOuterVlanId() ...);
+ * handle.loop(-1, listener);
+ * </pre>
+ *
+ * 802.1Q(0x8100), 802.1ad QinQ(0x88A8) VLAN 태그는 2개까지 건너뛰며, 태그 수와 관계없이 같은 개수의 byte 만 확인한다. VLAN ID 는 캡처 Thread 에서
+ * {@link #outerVlanId(byte[], int)}, {@link #innerVlanId(byte[], int)}로 읽어 패킷과 함께 큐에 넣으며, {@link #addEventListener(Consumer)}로 추가한 리스너에게
+ * {@link DhcpVlanPacketEvent}로 전달한다.
+ *
+ * 다음의 프레임은 DHCP 메시지가 아닌 것으로 처리한다.
+ * <ul>
+ * <li>IPv4 가 아닌 프레임 (VLAN 태그가 3개 이상인 프레임 포함)
+ * <li>UDP 가 아니거나, 출발지/목적지 포트가 모두 67, 68 이 아닌 패킷
+ * <li>분할된(fragmented) IPv4 패킷
+ * </ul>
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see PcapHandle#loop(int, RawPacketListener)
+ */
+public class DHCPRawListener extends AbstractDHCPListener implements RawPacketListener {
+
+    /** Bootstrap Protocol Server */
+    public static final int BOOTPS_PORT = 67;
+    /** Bootstrap Protocol Client */
+    public static final int BOOTPC_PORT = 68;
+
+    /** EtherType: 802.1Q VLAN 태그 */
+    public static final int ETHER_TYPE_VLAN = 0x8100;
+    /** EtherType: 802.1ad (QinQ) Service VLAN 태그 */
+    public static final int ETHER_TYPE_QINQ = 0x88A8;
+    /** VLAN 태그가 없는 경우의 VLAN ID */
+    public static final int NO_VLAN = -1;
+
+    /** Ethernet 헤더 크기 */
+    private static final int ETHERNET_HEADER_SIZE = 14;
+    /** Ethernet 헤더의 EtherType 위치 */
+    private static final int ETHER_TYPE_OFFSET = 12;
+    /** EtherType: IPv4 */
+    private static final int ETHER_TYPE_IPV4 = 0x0800;
+    /** VLAN 태그 크기 (TPID 2 bytes + TCI 2 bytes) */
+    private static final int VLAN_TAG_SIZE = 4;
+    /** TCI 의 VLAN ID */
+    private static final int VLAN_ID_MASK = 0x0FFF;
+
+    /** IPv4 헤더의 최소 크기 */
+    private static final int IPV4_MIN_HEADER_SIZE = 20;
+    /** IPv4 헤더의 Flags/Fragment Offset 위치 */
+    private static final int IPV4_FRAGMENT_OFFSET = 6;
+    /** IPv4 헤더의 Protocol 위치 */
+    private static final int IPV4_PROTOCOL_OFFSET = 9;
+    /** More Fragments 플래그와 Fragment Offset */
+    private static final int IPV4_FRAGMENT_MASK = 0x3FFF;
+    /** IP Protocol: UDP */
+    private static final int IP_PROTOCOL_UDP = 17;
+
+    /** UDP 헤더 크기 */
+    private static final int UDP_HEADER_SIZE = 8;
+    /** UDP 헤더의 Length 위치 */
+    private static final int UDP_LENGTH_OFFSET = 4;
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** 전달받은 프레임 수 */
+    private final LongAdder received = new LongAdder();
+    /** DHCP 포트로 확인된 프레임 수 */
+    private final LongAdder matched = new LongAdder();
+    /** DHCP 포트로 확인되었으나 해석하지 못한 프레임 수 */
+    private final LongAdder malformed = new LongAdder();
+
+    /** VLAN ID 와 함께 패킷을 전달받는 리스너 */
+    private final ListenerRegistry<Consumer<DhcpVlanPacketEvent>> eventListeners = new ListenerRegistry<>();
+
+    /**
+     *
+     * @since 2026. 10. 17.
+     */
+    public DHCPRawListener() {
+        this(DEFAULT_POOL_SIZE, "dhcp-raw-listener");
+    }
+
+    /**
+     *
+     * @param executor
+     *            리스너를 실행할 ThreadPool
+     * @param workers
+     *            큐를 비우면서 리스너를 실행하는 작업자 수. <code>executor</code> 의 Thread 개수보다 클 수 없다.
+     * @param queueCapacity
+     *            큐 크기
+     * @param policy
+     *            큐가 가득 찼을 때의 처리 방식
+     *
+     * @since 2026. 10. 17.
+     */
+    public DHCPRawListener(FixedThreadPoolService executor, int workers, int queueCapacity, OverflowPolicy policy) {
+        super(executor, workers, queueCapacity, policy);
+    }
+
+    /**
+     * 같은 key 를 가진 패킷을 항상 같은 작업자에게 전달하여, key 별로 수신한 순서대로 리스너를 호출한다.
+     * 
+     * @param executor
+     *            리스너를 실행할 ThreadPool. lane 마다 Thread 를 하나씩 점유하므로, 다른 작업에 사용하지 않는 Thread 가 lane 수 이상 필요하다. ThreadPool 을 따로 관리하지 않는 경우
+     *            {@link #DHCPRawListener(int, int, OverflowPolicy, DhcpFlowKey, String)}를 사용한다.
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
+     *
+     * @since 2026. 10. 17.
+     */
+    public DHCPRawListener(FixedThreadPoolService executor, int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey) {
+        super(executor, lanes, laneCapacity, policy, flowKey);
+    }
+
+    /**
+     * @param poolSize
+     *            ThreadPool Size
+     * @param monitor
+     *            Thread Group Name
+     * @since 2026. 10. 17.
+     */
+    public DHCPRawListener(int poolSize, String monitor) {
+        super(poolSize, monitor);
+    }
+
+    /**
+     * 같은 key 를 가진 패킷을 항상 같은 작업자에게 전달하여, key 별로 수신한 순서대로 리스너를 호출한다. lane 수와 같은 크기의 ThreadPool 을 생성한다.
+     * 
+     * @param lanes
+     *            작업자(lane) 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param flowKey
+     *            패킷을 전달할 lane 을 결정하는 key
+     * @param monitor
+     *            Thread Group Name
+     *
+     * @since 2026. 10. 17.
+     */
+    public DHCPRawListener(int lanes, int laneCapacity, OverflowPolicy policy, DhcpFlowKey flowKey, String monitor) {
+        super(lanes, laneCapacity, policy, flowKey, monitor);
+    }
+
+    /**
+     * VLAN ID 와 함께 패킷을 전달받는 리스너를 추가한다. <br>
+     * {@link #addListener(Consumer)}로 추가한 리스너와 같은 작업자 Thread 에서 호출된다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addEventListener(Consumer<DhcpVlanPacketEvent> listener) {
+        if (listener == null) {
+            return;
+        }
+
+        this.eventListeners.add(listener);
+    }
+
+    /**
+     * DHCP 포트로 확인되었으나 해석하지 못한 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMalformedCount() {
+        return this.malformed.sum();
+    }
+
+    /**
+     * DHCP 포트로 확인된 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getMatchedCount() {
+        return this.matched.sum();
+    }
+
+    /**
+     * 전달받은 전체 프레임 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getReceivedCount() {
+        return this.received.sum();
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			지연 해석(lazy)을 명시적으로 사용
+     * 2026. 10. 17.		박준홍			{@link #decodeFrame(byte[], LongAdder)} 사용
+     * 2026. 10. 17.		박준홍			VLAN ID 를 함께 전달
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임. pcap4j 가 패킷마다 새로 생성한 배열이므로 복사하지 않고 공유한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see org.pcap4j.core.RawPacketListener#gotPacket(byte[])
+     */
+    @Override
+    public void gotPacket(byte[] frame) {
+        this.received.increment();
+
+        try {
+            DhcpPacket packet = decodeFrame(frame, this.matched);
+            if (packet != null) {
+                dispatch(packet, outerVlanId(frame, frame.length), innerVlanId(frame, frame.length));
+            }
+        } catch (IllegalRawDataException e) {
+            this.malformed.increment();
+            logger.warn("Failed to decode a DHCP packet. cause={}", e.getMessage());
+        }
+    }
+
+    /**
+     * VLAN ID 와 함께 패킷을 전달받는 리스너를 삭제한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     * @return 삭제한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean removeEventListener(Consumer<DhcpVlanPacketEvent> listener) {
+        return this.eventListeners.remove(listener);
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DHCPRawListener [received=");
+        builder.append(getReceivedCount());
+        builder.append(", matched=");
+        builder.append(getMatchedCount());
+        builder.append(", malformed=");
+        builder.append(getMalformedCount());
+        builder.append(", dispatcher=");
+        builder.append(getDispatcher());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * {@link #addEventListener(Consumer)}로 추가한 리스너에게 이벤트를 전달한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param event
+     * @return 예외를 발생시킨 리스너 수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.AbstractDHCPListener#fireEvent(open.commons.pcap.listener.DhcpVlanPacketEvent)
+     */
+    @Override
+    protected int fireEvent(DhcpVlanPacketEvent event) {
+        return this.eventListeners.fire(event, Consumer::accept);
+    }
+
+    /**
+     * 마지막 EtherType 의 위치를 반환한다. VLAN 태그는 2개까지 건너뛴다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임. VLAN 태그 2개를 포함한 Ethernet 헤더 길이 이상이어야 한다.
+     * @return 태그가 없는 경우 12, 1개인 경우 16, 2개인 경우 20
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int etherTypeOffset(byte[] frame) {
+        int offset = ETHER_TYPE_OFFSET;
+        if (isVlanTag(readUnsignedShort(frame, offset))) {
+            offset += VLAN_TAG_SIZE;
+            if (isVlanTag(readUnsignedShort(frame, offset))) {
+                offset += VLAN_TAG_SIZE;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * VLAN 태그의 TPID 인지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param etherType
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static boolean isVlanTag(int etherType) {
+        return etherType == ETHER_TYPE_VLAN || etherType == ETHER_TYPE_QINQ;
+    }
+
+    /**
+     * 주어진 위치의 2 byte 를 부호 없는 정수(Network Byte Order)로 읽는다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param data
+     * @param offset
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int readUnsignedShort(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+    }
+
+    /**
+     * Ethernet 프레임에서 DHCP 메시지를 찾아 {@link DhcpPacket}을 생성한다. 캡처 Thread 의 처리 비용을 줄이기 위해서 헤더와 옵션은 해석하지 않으며(lazy), 리스너가 필드를 조회할 때
+     * 해석한다. <br>
+     * DHCP 메시지를 찾은 경우 <code>matched</code>를 증가시킨다. 프레임은 복사하지 않고 공유한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @param matched
+     *            DHCP 메시지를 찾은 프레임 개수
+     * @return DHCP 메시지가 아닌 경우 <code>null</code>
+     * @throws IllegalRawDataException
+     *             DHCP 메시지가 고정 헤더보다 짧거나 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static DhcpPacket decodeFrame(byte[] frame, LongAdder matched) throws IllegalRawDataException {
+        int offset = dhcpPayloadOffset(frame);
+        if (offset < 0) {
+            return null;
+        }
+        matched.increment();
+
+        int length = dhcpPayloadLength(frame, frame.length, offset);
+        if (length < DhcpHeader.OPTIONS_OFFSET) {
+            throw new IllegalRawDataException("The DHCP message is too short. length=" + length + ", expected.min=" + DhcpHeader.OPTIONS_OFFSET);
+        }
+
+        return DhcpPacket.newPacket(ByteBuffer.wrap(frame), offset, length, true);
+    }
+
+    /**
+     * Ethernet 프레임에서 DHCP 메시지(UDP payload)의 길이를 반환한다. <br>
+     * UDP 헤더의 Length 필드 값과 캡처된 길이 중 작은 값이므로, 캡처 길이(snaplen)에 의해 잘린 경우에는 실제 메시지보다 짧을 수 있다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @param length
+     *            프레임 길이
+     * @param payloadOffset
+     *            {@link #dhcpPayloadOffset(byte[], int)}가 반환한 DHCP 메시지의 시작 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int dhcpPayloadLength(byte[] frame, int length, int payloadOffset) {
+        // UDP Length 는 헤더를 포함한다.
+        return Math.min(readUnsignedShort(frame, payloadOffset - UDP_HEADER_SIZE + UDP_LENGTH_OFFSET) - UDP_HEADER_SIZE, length - payloadOffset);
+    }
+
+    /**
+     * Ethernet 프레임에서 DHCP 메시지(UDP payload)의 시작 위치를 반환한다. <br>
+     * IPv4/UDP 이면서 출발지 또는 목적지 포트가 67, 68 인 경우에만 위치를 반환하며, 이외의 경우 또는 헤더가 잘린 경우에는 -1 을 반환한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			VLAN 태그(802.1Q, QinQ) 2개까지 지원
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @return DHCP 메시지의 시작 위치. 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #dhcpPayloadOffset(byte[], int)
+     */
+    public static int dhcpPayloadOffset(byte[] frame) {
+        return dhcpPayloadOffset(frame, frame.length);
+    }
+
+    /**
+     * Ethernet 프레임에서 DHCP 메시지(UDP payload)의 시작 위치를 반환한다. <br>
+     * 미리 할당한 배열처럼 배열의 앞부분만 프레임인 경우에 사용한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			VLAN 태그(802.1Q, QinQ) 2개까지 지원
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @param length
+     *            프레임 길이
+     * @return DHCP 메시지의 시작 위치. 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int dhcpPayloadOffset(byte[] frame, int length) {
+        if (length < ETHERNET_HEADER_SIZE + IPV4_MIN_HEADER_SIZE + UDP_HEADER_SIZE) {
+            return -1;
+        }
+
+        int etherType = etherTypeOffset(frame);
+        int ip = etherType + 2;
+        if (length < ip + IPV4_MIN_HEADER_SIZE + UDP_HEADER_SIZE //
+                || readUnsignedShort(frame, etherType) != ETHER_TYPE_IPV4) {
+            return -1;
+        }
+
+        int versionAndIhl = frame[ip] & 0xFF;
+        int ihl = (versionAndIhl & 0x0F) << 2;
+        if ((versionAndIhl >>> 4) != 4 //
+                || ihl < IPV4_MIN_HEADER_SIZE //
+                || (frame[ip + IPV4_PROTOCOL_OFFSET] & 0xFF) != IP_PROTOCOL_UDP //
+                || (readUnsignedShort(frame, ip + IPV4_FRAGMENT_OFFSET) & IPV4_FRAGMENT_MASK) != 0) {
+            return -1;
+        }
+
+        int udp = ip + ihl;
+        if (length < udp + UDP_HEADER_SIZE //
+                || !(isDhcpPort(readUnsignedShort(frame, udp)) || isDhcpPort(readUnsignedShort(frame, udp + 2)))) {
+            return -1;
+        }
+
+        return udp + UDP_HEADER_SIZE;
+    }
+
+    /**
+     * 안쪽(두번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @param length
+     *            프레임 길이
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 2개가 아닌 경우 {@link #NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int innerVlanId(byte[] frame, int length) {
+        if (length < ETHERNET_HEADER_SIZE + VLAN_TAG_SIZE * 2 //
+                || !isVlanTag(readUnsignedShort(frame, ETHER_TYPE_OFFSET)) //
+                || !isVlanTag(readUnsignedShort(frame, ETHER_TYPE_OFFSET + VLAN_TAG_SIZE))) {
+            return NO_VLAN;
+        }
+        return readUnsignedShort(frame, ETHER_TYPE_OFFSET + VLAN_TAG_SIZE + 2) & VLAN_ID_MASK;
+    }
+
+    /**
+     * DHCP(BOOTP) 포트인지 여부를 반환한다. <br>
+     * 요청(68 → 67), 응답(67 → 68), Relay Agent 간 전달(67 → 67)을 구분하지 않도록 출발지, 목적지 포트 모두에 사용한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			{@link DHCPListener}와 공유하기 위해서 public 으로 변경
+     * </pre>
+     *
+     * @param port
+     *            UDP 포트
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static boolean isDhcpPort(int port) {
+        return port == BOOTPS_PORT || port == BOOTPC_PORT;
+    }
+
+    /**
+     * 바깥쪽(첫번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param frame
+     *            Ethernet 프레임
+     * @param length
+     *            프레임 길이
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 없는 경우 {@link #NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int outerVlanId(byte[] frame, int length) {
+        if (length < ETHERNET_HEADER_SIZE + VLAN_TAG_SIZE //
+                || !isVlanTag(readUnsignedShort(frame, ETHER_TYPE_OFFSET))) {
+            return NO_VLAN;
+        }
+        return readUnsignedShort(frame, ETHER_TYPE_OFFSET + 2) & VLAN_ID_MASK;
+    }
+}
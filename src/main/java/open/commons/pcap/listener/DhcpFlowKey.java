@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 7:44:30
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+import java.util.function.ToIntFunction;
+
+import open.commons.pcap.dhcp.DhcpPacket;
+
+/**
+ * {@link ShardedDispatcher}가 DHCP 패킷을 전달할 작업자(lane)를 결정하는 key.<br>
+ * 같은 key 를 가진 패킷은 항상 같은 작업자에게 전달되므로, 수신한 순서대로 처리된다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public enum DhcpFlowKey implements ToIntFunction<DhcpPacket> {
+    /**
+     * Client Hardware Address (chaddr). 한 단말의 DISCOVER, OFFER, REQUEST, ACK, RELEASE 등 모든 메시지가 순서대로 처리된다.
+     */
+    CHADDR {
+        @Override
+        public int applyAsInt(DhcpPacket packet) {
+            return Long.hashCode(packet.getHeader().getChaddrAsLong());
+        }
+    },
+    /**
+     * Transaction ID (xid). 하나의 교환(DISCOVER→OFFER→REQUEST→ACK) 안의 메시지만 순서대로 처리되며, 작업자 간 분배가 더 고르다.
+     */
+    XID {
+        @Override
+        public int applyAsInt(DhcpPacket packet) {
+            return packet.getHeader().getXidAsInt();
+        }
+    };
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 7:04:26
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+import java.nio.ByteBuffer;
+
+import org.pcap4j.packet.IllegalRawDataException;
+
+import open.commons.pcap.dhcp.DhcpPacket.DhcpHeader;
+import open.commons.pcap.dhcp.DhcpPacketView;
+
+/**
+ * {@link DHCPPipelineListener}의 Ring Buffer 에 미리 할당되어 재사용되는 이벤트.<br>
+ * 캡처 Thread 가 프레임을 고정 크기 배열에 복사하여 발행(publish)하면, 'decode' 단계가 DHCP 메시지를 {@link DhcpPacketView}로 연결하고, 'enrich' 단계가
+ * 메시지 타입 등 부가 정보를 설정한 후, 'deliver' 단계가 리스너에게 전달한다.
+ *
+ * 이 객체와 {@link #getView()}가 반환하는 객체는 리스너가 호출되는 동안에만 유효하다. 리스너가 반환된 이후 같은 객체가 다른 프레임에 재사용되므로, 이후에 사용할 값은
+ * 리스너 안에서 복사해야 한다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public final class DhcpFrameEvent {
+
+    /** 프레임을 복사하는 배열 */
+    private final byte[] frame;
+    /** {@link #frame}을 감싼 버퍼 */
+    private final ByteBuffer buffer;
+    /** DHCP 메시지 */
+    private final DhcpPacketView view = new DhcpPacketView();
+
+    /** 복사한 프레임 길이 */
+    private int frameLength;
+    /** 캡처한 프레임 길이 */
+    private int originalLength;
+    /** 캡처 시각 (epoch, ns) */
+    private long timestamp;
+    /** DHCP 메시지 시작 위치 */
+    private int payloadOffset;
+    /** 바깥쪽(첫번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN} */
+    private int outerVlanId = DHCPRawListener.NO_VLAN;
+    /** 안쪽(두번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN} */
+    private int innerVlanId = DHCPRawListener.NO_VLAN;
+
+    /** DHCP 메시지 해석 여부 */
+    private boolean decoded;
+    /** DHCP Message Type (53). 없는 경우 -1 */
+    private int messageType = -1;
+    /** 'enrich' 단계에서 설정한 사용자 정보 */
+    private Object attachment;
+
+    /**
+     *
+     * @param capacity
+     *            복사할 수 있는 최대 프레임 길이
+     *
+     * @since 2026. 10. 17.
+     */
+    DhcpFrameEvent(int capacity) {
+        this.frame = new byte[capacity];
+        this.buffer = ByteBuffer.wrap(this.frame);
+    }
+
+    /**
+     * 'enrich' 단계에서 설정한 사용자 정보를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public Object getAttachment() {
+        return this.attachment;
+    }
+
+    /**
+     * 복사한 프레임 길이를 반환한다. <br>
+     * {@link #isTruncated()}가 <code>true</code> 인 경우 캡처한 길이보다 짧다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getFrameLength() {
+        return this.frameLength;
+    }
+
+    /**
+     * 안쪽(두번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 2개가 아닌 경우 {@link DHCPRawListener#NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getInnerVlanId() {
+        return this.innerVlanId;
+    }
+
+    /**
+     * DHCP Message Type (53)을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getMessageType() {
+        return this.messageType;
+    }
+
+    /**
+     * 캡처한 프레임 길이를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOriginalLength() {
+        return this.originalLength;
+    }
+
+    /**
+     * 바깥쪽(첫번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOuterVlanId() {
+        return this.outerVlanId;
+    }
+
+    /**
+     * 캡처 시각을 반환한다. <br>
+     * {@link DHCPPipelineListener#gotPacket(byte[], long)}로 전달받은 경우 pcap 이 기록한 캡처 시각이고, {@link DHCPPipelineListener#gotPacket(byte[])}로 전달받은 경우
+     * 프레임을 받은 시각(ms 정밀도)이다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			pcap 캡처 시각과 수신 시각 구분 설명
+     * </pre>
+     *
+     * @return epoch 기준 ns
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * DHCP 메시지를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     * @throws IllegalStateException
+     *             DHCP 메시지를 해석하지 못한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacketView getView() {
+        if (!this.decoded) {
+            throw new IllegalStateException("The frame has not been decoded as a DHCP message.");
+        }
+        return this.view;
+    }
+
+    /**
+     * DHCP 메시지 해석 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isDecoded() {
+        return this.decoded;
+    }
+
+    /**
+     * 프레임이 이벤트의 배열보다 길어서 잘렸는지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isTruncated() {
+        return this.frameLength < this.originalLength;
+    }
+
+    /**
+     * 'enrich' 단계에서 사용자 정보를 설정한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param attachment
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void setAttachment(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpFrameEvent [timestamp=");
+        builder.append(this.timestamp);
+        builder.append(", frameLength=");
+        builder.append(this.frameLength);
+        builder.append(", originalLength=");
+        builder.append(this.originalLength);
+        builder.append(", outerVlanId=");
+        builder.append(this.outerVlanId);
+        builder.append(", innerVlanId=");
+        builder.append(this.innerVlanId);
+        builder.append(", decoded=");
+        builder.append(this.decoded);
+        builder.append(", messageType=");
+        builder.append(this.messageType);
+        if (this.decoded) {
+            builder.append(", view=");
+            builder.append(this.view);
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 다음 프레임을 위해 초기화한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			VLAN ID 추가
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void clear() {
+        this.frameLength = 0;
+        this.originalLength = 0;
+        this.timestamp = 0;
+        this.payloadOffset = -1;
+        this.outerVlanId = DHCPRawListener.NO_VLAN;
+        this.innerVlanId = DHCPRawListener.NO_VLAN;
+        this.decoded = false;
+        this.messageType = -1;
+        this.attachment = null;
+    }
+
+    /**
+     * DHCP 메시지를 {@link DhcpPacketView}로 연결한다. <br>
+     * 프레임이 DHCP 메시지 시작 위치 이전에서 잘렸거나, DHCP 고정 헤더보다 짧은 경우 해석하지 않는다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			프레임이 UDP 헤더 이전에서 잘린 경우 해석하지 않음
+     * </pre>
+     *
+     * @return 해석한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    boolean decode() {
+        // 프레임이 UDP 헤더 이전에서 잘린 경우 UDP 길이를 읽을 수 없다.
+        if (this.payloadOffset < 0 || this.payloadOffset > this.frameLength) {
+            this.decoded = false;
+            return false;
+        }
+
+        int length = DHCPRawListener.dhcpPayloadLength(this.frame, this.frameLength, this.payloadOffset);
+        if (length < DhcpHeader.OPTIONS_OFFSET) {
+            this.decoded = false;
+            return false;
+        }
+
+        try {
+            this.view.reset(this.buffer, this.payloadOffset, length);
+            this.decoded = true;
+        } catch (IllegalRawDataException e) {
+            this.decoded = false;
+        }
+        return this.decoded;
+    }
+
+    /**
+     * 프레임을 복사한다. <br>
+     * 이벤트의 배열보다 긴 경우 배열 크기만큼만 복사한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			VLAN ID 추가
+     * </pre>
+     *
+     * @param frame
+     *            캡처한 프레임
+     * @param payloadOffset
+     *            DHCP 메시지 시작 위치
+     * @param timestamp
+     *            캡처 시각 (epoch, ns)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void set(byte[] frame, int payloadOffset, long timestamp) {
+        this.originalLength = frame.length;
+        this.frameLength = Math.min(frame.length, this.frame.length);
+        System.arraycopy(frame, 0, this.frame, 0, this.frameLength);
+        this.payloadOffset = payloadOffset;
+        this.outerVlanId = DHCPRawListener.outerVlanId(frame, frame.length);
+        this.innerVlanId = DHCPRawListener.innerVlanId(frame, frame.length);
+        this.timestamp = timestamp;
+        this.decoded = false;
+        this.messageType = -1;
+        this.attachment = null;
+    }
+
+    /**
+     * DHCP Message Type (53)을 설정한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param messageType
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    void setMessageType(int messageType) {
+        this.messageType = messageType;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:49:26
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.listener;
+
+import open.commons.pcap.dhcp.DhcpPacket;
+
+/**
+ * {@link DHCPRawListener}가 Ethernet 프레임에서 해석한 DHCP 패킷과 함께 VLAN ID 를 전달할 때 사용하는 이벤트.<br>
+ * VLAN ID 는 캡처 Thread 에서 프레임을 확인할 때 함께 읽은 값이므로, 리스너가 VLAN 별로 패킷을 구분할 때 프레임이나 패킷을 다시 해석하지 않아도 된다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ * @see DHCPRawListener#addEventListener(java.util.function.Consumer)
+ */
+public final class DhcpVlanPacketEvent {
+
+    /** 바깥쪽(첫번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN} */
+    private final int outerVlanId;
+    /** 안쪽(두번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN} */
+    private final int innerVlanId;
+    private final DhcpPacket packet;
+
+    /**
+     *
+     * @param outerVlanId
+     *            바깥쪽(첫번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     * @param innerVlanId
+     *            안쪽(두번째) VLAN ID. 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     * @param packet
+     *            DHCP 패킷
+     *
+     * @since 2026. 10. 17.
+     */
+    public DhcpVlanPacketEvent(int outerVlanId, int innerVlanId, DhcpPacket packet) {
+        this.outerVlanId = outerVlanId;
+        this.innerVlanId = innerVlanId;
+        this.packet = packet;
+    }
+
+    /**
+     * 안쪽(두번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 2개가 아닌 경우 {@link DHCPRawListener#NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getInnerVlanId() {
+        return this.innerVlanId;
+    }
+
+    /**
+     * 바깥쪽(첫번째) VLAN 태그의 VLAN ID 를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return VLAN ID (0 ~ 4095). VLAN 태그가 없는 경우 {@link DHCPRawListener#NO_VLAN}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getOuterVlanId() {
+        return this.outerVlanId;
+    }
+
+    /**
+     * DHCP 패킷을 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public DhcpPacket getPacket() {
+        return this.packet;
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("DhcpVlanPacketEvent [outerVlanId=");
+        builder.append(this.outerVlanId);
+        builder.append(", innerVlanId=");
+        builder.append(this.innerVlanId);
+        builder.append(", packet=");
+        builder.append(this.packet);
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 8:10:51
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+/**
+ * {@link BatchingConsumer}가 모아둔 항목을 전달(flush)한 이유.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public enum FlushReason {
+    /** 모아둔 항목 수가 batch 크기에 도달하였다. */
+    SIZE,
+    /** 첫 항목을 받은 후 최대 지연 시간이 지났다. */
+    TIME,
+    /** {@link BatchingConsumer#flush()}를 직접 호출하였다. */
+    MANUAL,
+    /** {@link BatchingConsumer#close()}로 종료하였다. */
+    CLOSE;
+}
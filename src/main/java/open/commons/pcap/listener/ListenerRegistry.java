@@ -0,0 +1,377 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 5:48:30
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.listener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copy-on-write 방식의 리스너 저장소.<br>
+ * 리스너 목록은 변경되지 않는 배열(snapshot)로 관리하며, 추가/삭제는 새로운 배열을 만들어 {@link AtomicReference#compareAndSet(Object, Object)}로
+ * 교체한다. 이벤트를 전달할 때는 잠금 없이 현재 배열을 순회하므로, 여러 Thread 가 동시에 전달해도 서로 경쟁하지 않는다.<br>
+ * 리스너는 자주 변경되지 않고 이벤트는 매우 자주 전달되는 경우에 적합하다.
+ *
+ * <pre>
+ * ListenerRegistry&lt;Consumer&lt;DhcpPacket&gt;&gt; registry = new ListenerRegistry&lt;&gt;();
+ * registry.add(packet -&gt; ...);
+ * ...
+ * registry.fire(packet, Consumer::accept);
+ * </pre>
+ *
+ * @param <L>
+ *            리스너 타입
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ListenerRegistry<L> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** 리스너 목록. 배열의 내용은 변경하지 않는다. */
+    private final AtomicReference<Object[]> listeners = new AtomicReference<>(EMPTY);
+
+    /**
+     *
+     * @since 2026. 10. 17.
+     */
+    public ListenerRegistry() {
+    }
+
+    /**
+     * 리스너를 추가한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     *            리스너. <code>null</code> 인 경우 무시한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void add(L listener) {
+        if (listener == null) {
+            return;
+        }
+
+        Object[] cur;
+        Object[] next;
+        do {
+            cur = this.listeners.get();
+            next = Arrays.copyOf(cur, cur.length + 1);
+            next[cur.length] = listener;
+        } while (!this.listeners.compareAndSet(cur, next));
+    }
+
+    /**
+     * 리스너를 추가한다. 주어진 리스너는 한번에 추가된다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listeners
+     *            리스너 목록. <code>null</code> 인 리스너는 무시한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void addAll(Collection<? extends L> listeners) {
+        if (listeners == null || listeners.isEmpty()) {
+            return;
+        }
+
+        Object[] added = listeners.stream().filter(l -> l != null).toArray();
+        if (added.length < 1) {
+            return;
+        }
+
+        Object[] cur;
+        Object[] next;
+        do {
+            cur = this.listeners.get();
+            next = Arrays.copyOf(cur, cur.length + added.length);
+            System.arraycopy(added, 0, next, cur.length, added.length);
+        } while (!this.listeners.compareAndSet(cur, next));
+    }
+
+    /**
+     * 모든 리스너를 삭제한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public void clear() {
+        this.listeners.set(EMPTY);
+    }
+
+    /**
+     * 리스너가 등록되어 있는지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean contains(L listener) {
+        return indexOf(this.listeners.get(), listener) >= 0;
+    }
+
+    /**
+     * 현재 등록된 모든 리스너에게 이벤트를 전달한다. <br>
+     * 호출 시점의 목록(snapshot)을 잠금 없이 순회하며, 전달 중에 추가/삭제된 리스너는 다음 호출부터 반영된다. 리스너에서 발생한 예외는 기록만 하고 다음
+     * 리스너에게 계속 전달한다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            이벤트 타입
+     * @param event
+     *            이벤트
+     * @param invoker
+     *            리스너에게 이벤트를 전달하는 함수. 예: <code>Consumer::accept</code>
+     * @return 예외를 발생시킨 리스너 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @SuppressWarnings("unchecked")
+    public <E> int fire(E event, BiConsumer<? super L, ? super E> invoker) {
+        Object[] snapshot = this.listeners.get();
+        int failed = 0;
+        for (Object listener : snapshot) {
+            try {
+                invoker.accept((L) listener, event);
+            } catch (RuntimeException e) {
+                failed++;
+                logger.warn("The listener failed to handle an event. listener={}, cause={}", listener, e.getMessage(), e);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 등록된 리스너가 없는지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean isEmpty() {
+        return this.listeners.get().length < 1;
+    }
+
+    /**
+     * 리스너를 삭제한다. 같은 리스너가 여러 번 등록된 경우 처음 등록된 하나만 삭제한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param listener
+     * @return 삭제한 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public boolean remove(L listener) {
+        Object[] cur;
+        Object[] next;
+        do {
+            cur = this.listeners.get();
+            int index = indexOf(cur, listener);
+            if (index < 0) {
+                return false;
+            }
+
+            if (cur.length == 1) {
+                next = EMPTY;
+            } else {
+                next = new Object[cur.length - 1];
+                System.arraycopy(cur, 0, next, 0, index);
+                System.arraycopy(cur, index + 1, next, index, cur.length - index - 1);
+            }
+        } while (!this.listeners.compareAndSet(cur, next));
+
+        return true;
+    }
+
+    /**
+     * 등록된 리스너 개수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int size() {
+        return this.listeners.get().length;
+    }
+
+    /**
+     * 현재 등록된 리스너 목록을 반환한다. 반환된 목록은 변경할 수 없으며, 이후의 추가/삭제가 반영되지 않는다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    @SuppressWarnings("unchecked")
+    public List<L> snapshot() {
+        return Collections.unmodifiableList((List<L>) Arrays.asList(this.listeners.get()));
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("ListenerRegistry [listeners=");
+        builder.append(Arrays.toString(this.listeners.get()));
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * 배열에서 리스너의 위치를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param array
+     * @param listener
+     * @return 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static int indexOf(Object[] array, Object listener) {
+        if (listener == null) {
+            return -1;
+        }
+
+        for (int i = 0; i < array.length; i++) {
+            if (listener.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
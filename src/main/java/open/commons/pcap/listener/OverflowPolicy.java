@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 5:12:09
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.listener;
+
+/**
+ * {@link BoundedDispatcher}의 큐가 가득 찼을 때의 처리 방식.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public enum OverflowPolicy {
+    /**
+     * 큐에 공간이 생길 때까지 패킷을 전달하는 Thread 를 대기시킨다.<br>
+     * 패킷을 잃지 않지만, 소비자가 느린 경우 캡처 Thread 가 대기하므로 커널 버퍼에서 패킷이 유실될 수 있다.
+     */
+    BLOCK,
+    /** 새로 전달된 패킷을 버린다. 캡처 Thread 는 대기하지 않는다. */
+    DROP_NEWEST,
+    /** 큐에서 가장 오래된 패킷을 버리고 새로운 패킷을 추가한다. 캡처 Thread 는 대기하지 않는다. */
+    DROP_OLDEST;
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 6:52:03
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+/**
+ * {@link DHCPPipelineListener}의 처리 단계가 다음 이벤트를 기다리는 방식.<br>
+ * 지연 시간이 짧을수록 CPU 사용량이 많아진다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public enum PipelineWaitStrategy {
+    /** Lock/Condition 으로 대기한다. CPU 사용량이 가장 적고 지연 시간이 가장 길다. */
+    BLOCKING,
+    /** 잠시 spin/yield 한 후 짧게 sleep 한다. CPU 사용량과 지연 시간이 중간 정도이다. */
+    SLEEPING,
+    /** spin 한 후 {@link Thread#yield()}로 대기한다. 처리 단계마다 CPU core 를 거의 하나씩 사용한다. */
+    YIELDING,
+    /** busy-spin 으로 대기한다. 지연 시간이 가장 짧지만 처리 단계마다 CPU core 를 하나씩 점유하므로, 전용 core 가 있는 경우에만 사용한다. */
+    BUSY_SPIN;
+
+    /**
+     * Disruptor 의 {@link WaitStrategy}를 생성한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public WaitStrategy newWaitStrategy() {
+        switch (this) {
+            case BLOCKING:
+                return new BlockingWaitStrategy();
+            case SLEEPING:
+                return new SleepingWaitStrategy();
+            case YIELDING:
+                return new YieldingWaitStrategy();
+            case BUSY_SPIN:
+                return new BusySpinWaitStrategy();
+            default:
+                throw new IllegalStateException("Unsupported wait strategy. strategy=" + this);
+        }
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 7:52:18
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+
+
+package open.commons.pcap.listener;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * 항목의 key 에 따라 고정된 작업자(lane)에게 전달하는 Dispatcher.<br>
+ * 각 lane 은 자신의 큐와 하나의 작업자를 가지는 {@link BoundedDispatcher}이며, 같은 key 를 가진 항목은 항상 같은 lane 으로 전달되므로 수신한 순서대로 처리된다.
+ * 서로 다른 key 는 lane 에 나뉘어 병렬로 처리되므로, 처리량은 lane 수에 비례한다.<br>
+ * 하나의 key 는 하나의 Thread 에서만 처리되므로, 소비자는 key 별 상태를 잠금 없이 관리할 수 있다.
+ *
+ * <pre>
+ * ShardedDispatcher&lt;DhcpPacket&gt; dispatcher = new ShardedDispatcher&lt;&gt;(executor, 8, 1024, OverflowPolicy.BLOCK, DhcpFlowKey.CHADDR, consumer);
+ * dispatcher.start();
+ * </pre>
+ *
+ * @param <T>
+ *            전달하는 항목 타입
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ShardedDispatcher<T> implements Dispatcher<T> {
+
+    private final BoundedDispatcher<T>[] lanes;
+    private final ToIntFunction<? super T> keyFunction;
+
+    /**
+     *
+     * @param executor
+     *            작업자를 실행할 {@link Executor}. lane 마다 Thread 를 하나씩 점유하므로, lane 수 이상의 Thread 가 필요하다.
+     * @param lanes
+     *            lane 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param keyFunction
+     *            항목의 key 의 hash 값을 반환하는 함수
+     * @param consumer
+     *            항목을 전달받을 소비자. 여러 lane 에서 동시에 호출된다.
+     * @throws IllegalArgumentException
+     *             <code>lanes</code> 또는 <code>laneCapacity</code> 가 1보다 작거나, <code>lanes</code> 가 <code>executor</code> 의 최대 Thread 개수보다 큰 경우
+     *
+     * @since 2026. 10. 17.
+     */
+    public ShardedDispatcher(Executor executor, int lanes, int laneCapacity, OverflowPolicy policy, ToIntFunction<? super T> keyFunction, Consumer<T> consumer) {
+        this(executor, lanes, laneCapacity, policy, keyFunction, item -> {
+            consumer.accept(item);
+            return 0;
+        });
+    }
+
+    /**
+     * 소비자가 예외를 발생시키지 않고 실패를 보고하는 경우에 사용한다.
+     *
+     * @param executor
+     *            작업자를 실행할 {@link Executor}. lane 마다 Thread 를 하나씩 점유하므로, lane 수 이상의 Thread 가 필요하다.
+     * @param lanes
+     *            lane 수
+     * @param laneCapacity
+     *            lane 별 큐 크기
+     * @param policy
+     *            lane 의 큐가 가득 찼을 때의 처리 방식
+     * @param keyFunction
+     *            항목의 key 의 hash 값을 반환하는 함수
+     * @param handler
+     *            항목을 처리하고 실패 횟수를 반환하는 함수. 여러 lane 에서 동시에 호출된다.
+     * @throws IllegalArgumentException
+     *             <code>lanes</code> 또는 <code>laneCapacity</code> 가 1보다 작거나, <code>lanes</code> 가 <code>executor</code> 의 최대 Thread 개수보다 큰 경우
+     *
+     * @since 2026. 10. 17.
+     * 
+     * @see BoundedDispatcher#BoundedDispatcher(Executor, int, int, OverflowPolicy, ToIntFunction)
+     */
+    @SuppressWarnings("unchecked")
+    ShardedDispatcher(Executor executor, int lanes, int laneCapacity, OverflowPolicy policy, ToIntFunction<? super T> keyFunction, ToIntFunction<T> handler) {
+        if (lanes < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "lanes MUST be greater than 0. lanes=%,d", lanes);
+        }
+        // Thread 가 부족한 경우 실행되지 않은 lane 의 항목은 전달되지 않는다.
+        int poolSize = BoundedDispatcher.maximumPoolSize(executor);
+        if (poolSize > 0 && lanes > poolSize) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "lanes MUST NOT be greater than the pool size. lanes=%,d, pool.size=%,d", lanes, poolSize);
+        }
+
+        this.lanes = new BoundedDispatcher[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new BoundedDispatcher<>(executor, 1, laneCapacity, policy, handler);
+        }
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * 모든 lane 의 작업자가 종료할 때까지 대기한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param timeout
+     *            모든 lane 에 대해 대기하는 전체 시간
+     * @param unit
+     * @return 모든 작업자가 종료한 경우 true
+     * @throws InterruptedException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#awaitTermination(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 항목의 key 에 해당하는 lane 의 큐에 넣는다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param item
+     * @return 큐에 넣은 경우 true
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#dispatch(java.lang.Object)
+     */
+    @Override
+    public boolean dispatch(T item) {
+        return this.lanes[laneOf(item)].dispatch(item);
+    }
+
+    /**
+     * 모든 lane 의 소비자에게 전달한 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#getDeliveredCount()
+     */
+    @Override
+    public long getDeliveredCount() {
+        long sum = 0;
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            sum += lane.getDeliveredCount();
+        }
+        return sum;
+    }
+
+    /**
+     * 모든 lane 의 큐가 가득 차서 버린 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#getDroppedCount()
+     */
+    @Override
+    public long getDroppedCount() {
+        long sum = 0;
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            sum += lane.getDroppedCount();
+        }
+        return sum;
+    }
+
+    /**
+     * 모든 lane 의 소비자가 예외를 발생시킨 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#getFailedCount()
+     */
+    @Override
+    public long getFailedCount() {
+        long sum = 0;
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            sum += lane.getFailedCount();
+        }
+        return sum;
+    }
+
+    /**
+     * lane 을 반환한다. lane 별 큐 사용량 등을 확인할 때 사용한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param index
+     *            lane 번호 (0 ~ lane 수 - 1)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public BoundedDispatcher<T> getLane(int index) {
+        return this.lanes[index];
+    }
+
+    /**
+     * lane 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int getLaneCount() {
+        return this.lanes.length;
+    }
+
+    /**
+     * 모든 lane 의 {@link #dispatch(Object)}가 호출된 횟수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#getOfferedCount()
+     */
+    @Override
+    public long getOfferedCount() {
+        long sum = 0;
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            sum += lane.getOfferedCount();
+        }
+        return sum;
+    }
+
+    /**
+     * 모든 lane 의 시작 전 또는 종료 후에 전달되어 받지 않은 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#getRejectedCount()
+     */
+    @Override
+    public long getRejectedCount() {
+        long sum = 0;
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            sum += lane.getRejectedCount();
+        }
+        return sum;
+    }
+
+    /**
+     * 항목을 받는지 여부를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#isRunning()
+     */
+    @Override
+    public boolean isRunning() {
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            if (lane.isRunning()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 항목을 전달할 lane 번호를 반환한다. <br>
+     * key 의 hash 값을 섞은 후 lane 수로 나눈 나머지이므로, hash 값의 하위 bit 가 고르지 않아도 lane 에 고르게 분배된다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param item
+     * @return 0 ~ lane 수 - 1
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int laneOf(T item) {
+        int h = this.keyFunction.applyAsInt(item) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % this.lanes.length;
+    }
+
+    /**
+     * 모든 lane 을 종료한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#shutdown()
+     */
+    @Override
+    public void shutdown() {
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * 모든 lane 의 큐에 남아 있는 항목 수를 반환한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#size()
+     */
+    @Override
+    public int size() {
+        int sum = 0;
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            sum += lane.size();
+        }
+        return sum;
+    }
+
+    /**
+     * 모든 lane 의 작업자를 시작한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.listener.Dispatcher#start()
+     */
+    @Override
+    public void start() {
+        for (BoundedDispatcher<T> lane : this.lanes) {
+            lane.start();
+        }
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("ShardedDispatcher [lanes=");
+        builder.append(this.lanes.length);
+        builder.append(", size=");
+        builder.append(size());
+        builder.append(", offered=");
+        builder.append(getOfferedCount());
+        builder.append(", delivered=");
+        builder.append(getDeliveredCount());
+        builder.append(", failed=");
+        builder.append(getFailedCount());
+        builder.append(", dropped=");
+        builder.append(getDroppedCount());
+        builder.append(", rejected=");
+        builder.append(getRejectedCount());
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 2:31:10
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.raw;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 최대 4 bytes 정수 필드를 int 로 보관하는 불변 객체.<br>
+ * {@link ByteArrayInteger}와 달리 값을 읽을 때 boxing 이나 배열 복사가 없으며, {@link #equals(Object)}, {@link #hashCode()}가 값으로 동작하므로 Map 의 key 로
+ * 사용할 수 있다. {@link #expr()} 문자열은 처음 조회할 때 만든다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ByteArrayIntValue extends ByteArrayNumberValue<ByteArrayIntValue> {
+
+    /** 값 (Big-Endian 으로 해석한 결과) */
+    protected final int value;
+
+    /**
+     * 
+     * @param value
+     *            값
+     * @param length
+     *            데이터 길이 (1 ~ 4)
+     *
+     * @since 2026. 10. 17.
+     */
+    public ByteArrayIntValue(int value, int length) {
+        super(length, 4);
+        this.value = value;
+    }
+
+    /**
+     * 값을 int 로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int asInt() {
+        return this.value;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			데이터 길이만큼만 사용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.raw.ByteArrayNumberValue#bits()
+     */
+    @Override
+    protected long bits() {
+        return this.value & (0xFFFFFFFFL >>> ((4 - this.length) * 8));
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * 2026. 10. 17.		박준홍			부호 없는 값으로 표현
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.raw.ByteArrayNumberValue#render()
+     */
+    @Override
+    protected String render() {
+        return Integer.toUnsignedString((int) bits());
+    }
+
+    /**
+     * 버퍼의 주어진 위치에서 Big-Endian 값을 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @param length
+     *            길이 (1 ~ 4)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static ByteArrayIntValue valueOf(ByteBuffer buffer, int index, int length) {
+        return new ByteArrayIntValue((int) ByteBufferUtils.getLong(buffer, index, length), length);
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 10:04:37
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.raw;
+
+import java.nio.ByteBuffer;
+
+import open.commons.core.utils.ByteUtils;
+
+/**
+ * Big-Endian 정수 필드를 primitive 값으로 보관하는 불변 객체의 공통 기능.<br>
+ * 값의 저장 타입만 다른 {@link ByteArrayIntValue}, {@link ByteArrayLongValue}가 비교, 버퍼 쓰기, 문자열 캐시를 공유한다. 하위 클래스는 값을 부호 없는 long 으로 반환하는
+ * {@link #bits()}와 문자열 표현을 만드는 {@link #render()}만 구현한다.
+ * 
+ * @param <T>
+ *            비교 대상 타입
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public abstract class ByteArrayNumberValue<T extends ByteArrayNumberValue<T>> implements Comparable<T> {
+
+    /** 데이터 길이 (bytes) */
+    protected final int length;
+    /** {@link #expr()} 캐시 */
+    private String expr;
+
+    /**
+     * 
+     * @param length
+     *            데이터 길이
+     * @param maxLength
+     *            허용하는 최대 길이
+     *
+     * @since 2026. 10. 17.
+     */
+    protected ByteArrayNumberValue(int length, int maxLength) {
+        if (length < 1 || length > maxLength) {
+            throw new IllegalArgumentException("length must be between 1 and " + maxLength + ". length=" + length);
+        }
+        this.length = length;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param o
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(T o) {
+        return Long.compareUnsigned(bits(), o.bits());
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param obj
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ByteArrayNumberValue<?> other = (ByteArrayNumberValue<?>) obj;
+        return bits() == other.bits() && this.length == other.length;
+    }
+
+    /**
+     * 값을 문자열로 반환한다. 처음 호출할 때 만든 문자열을 재사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String expr() {
+        String expr = this.expr;
+        if (expr == null) {
+            this.expr = expr = render();
+        }
+        return expr;
+    }
+
+    /**
+     * 값을 Big-Endian 배열로 반환한다. 호출할 때마다 새로운 배열을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * 
+     * @see #writeTo(ByteBuffer, int)
+     */
+    public byte[] getRawData() {
+        long bits = bits();
+        byte[] raw = new byte[this.length];
+        for (int i = 0; i < this.length; i++) {
+            raw[i] = (byte) (bits >>> ((this.length - 1 - i) * 8));
+        }
+        return raw;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.length + Long.hashCode(bits());
+    }
+
+    /**
+     * 데이터의 길이(bytes)를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(expr());
+        builder.append(" (");
+        builder.append(ByteUtils.hexBinString("0x", getRawData()));
+        builder.append(")");
+        return builder.toString();
+    }
+
+    /**
+     * 값을 Big-Endian 으로 버퍼의 주어진 위치에 기록한다. <br>
+     * 버퍼의 position 은 변경하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            버퍼
+     * @param index
+     *            기록할 위치 (절대 위치)
+     * @return 기록한 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int writeTo(ByteBuffer dst, int index) {
+        long bits = bits();
+        for (int i = 0; i < this.length; i++) {
+            dst.put(index + i, (byte) (bits >>> ((this.length - 1 - i) * 8)));
+        }
+        return this.length;
+    }
+
+    /**
+     * 데이터 길이만큼의 값을 부호 없는 long 으로 반환한다. <br>
+     * 비교, 버퍼 쓰기, hash 계산에 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    protected abstract long bits();
+
+    /**
+     * {@link #expr()}가 반환할 문자열을 만든다. <br>
+     * 하위 클래스에서 표현 방식을 변경할 때 재정의한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    protected abstract String render();
+}
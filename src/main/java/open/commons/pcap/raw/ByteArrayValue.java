@@ -26,7 +26,7 @@
 
 package open.commons.pcap.raw;
 
-import java.nio.charset.Charset;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import open.commons.core.utils.ByteUtils;
@@ -51,11 +51,33 @@ public abstract class ByteArrayValue<T> {
         this.rawData = rawData;
     }
 
+    /**
+     * 데이터를 복사하지 않고 공유하는 읽기 전용 버퍼를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * 
+     * @see #getRawData()
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return ByteBuffer.wrap(this.rawData).asReadOnlyBuffer();
+    }
+
     public abstract T expr();
 
     /**
      *
-     * @return the rawData
+     * @return the rawData. 복사본을 반환한다. 복사가 필요하지 않은 경우 {@link #asReadOnlyBuffer()}를 사용한다.
      *
      * @since 2020. 12. 17.
      */
@@ -63,6 +85,26 @@ public abstract class ByteArrayValue<T> {
         return Arrays.copyOf(this.rawData, this.rawData.length);
     }
 
+    /**
+     * 데이터의 길이를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int length() {
+        return this.rawData.length;
+    }
+
     /**
      * <br>
      * 
@@ -90,42 +132,54 @@ public abstract class ByteArrayValue<T> {
         return builder.toString();
     }
 
+    /**
+     * 데이터를 복사본을 만들지 않고 버퍼의 주어진 위치에 기록한다. <br>
+     * 버퍼의 position 은 변경하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param dst
+     *            버퍼
+     * @param index
+     *            기록할 위치 (절대 위치)
+     * @return 기록한 길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int writeTo(ByteBuffer dst, int index) {
+        ByteBufferUtils.put(dst, index, this.rawData, 0, this.rawData.length);
+        return this.rawData.length;
+    }
+
     /**
      * byte 배열을 문자열로 반환한다. 단, <code>terminated</code> 캐릭터인 경우 빈문자열("")을 반환한다. <br>
+     * NUL(0x00) 이전의 데이터만 문자열로 변환하며, 같은 데이터는 항상 같은 문자열을 반환한다.
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2020. 12. 17.        박준홍         최초 작성
+     * 2026. 10. 17.        박준홍         NulTerminatedStringUtils 사용. NUL 이후 데이터를 무시하고 임의의 값(System.nanoTime())을 붙이지 않음.
      * </pre>
      *
      * @param bytes
      * @return
      *
      * @since 2020. 12. 17.
-     * @version _._._
+     * @version 0.2.0
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see NulTerminatedStringUtils#decode(byte[])
      */
     public static String readAsString(byte[] bytes) {
-        String str = new String(bytes, Charset.forName("UTF-8"));
-        if (str.trim().isEmpty()) {
-            return "";
-        }
-
-        StringBuffer sb = new StringBuffer();
-
-        for (byte b : bytes) {
-            if (b != 0) {
-                sb.append((char) b);
-            } else {
-                sb.append("@");
-                sb.append(System.nanoTime());
-                sb.append("-C_R_A_S_H_E_D-T_E_R_M_I_N_A_T_E_D-C_H_A_R_A_C_T_E_R-");
-                break;
-            }
-        }
-
-        return sb.toString();
+        return NulTerminatedStringUtils.decode(bytes);
     }
 }
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오전 10:12:40
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.raw;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * {@link ByteBuffer}의 절대 위치(absolute index)에서 Network Byte Order(Big-Endian) 값을 읽고 쓰는 유틸리티.<br>
+ * {@link ByteBuffer}의 position/limit/order 를 변경하지 않으며, 읽기/쓰기에서 객체를 생성하지 않는다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ByteBufferUtils {
+
+    private ByteBufferUtils() {
+    }
+
+    /**
+     * 주어진 영역을 새로운 배열로 복사한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static byte[] copyOfRange(ByteBuffer buffer, int offset, int length) {
+        byte[] dst = new byte[length];
+        if (buffer.hasArray()) {
+            System.arraycopy(buffer.array(), buffer.arrayOffset() + offset, dst, 0, length);
+        } else {
+            ByteBuffer dup = buffer.duplicate();
+            // JDK 9 이상에서 컴파일하더라도 Java 8 에서 동작하도록 Buffer 의 메소드를 호출한다.
+            ((Buffer) dup).position(offset);
+            dup.get(dst);
+        }
+        return dst;
+    }
+
+    /**
+     * 주어진 영역을 같은 값으로 채운다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @param length
+     *            길이
+     * @param value
+     *            값
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static void fill(ByteBuffer buffer, int index, int length, byte value) {
+        if (buffer.hasArray()) {
+            int base = buffer.arrayOffset() + index;
+            Arrays.fill(buffer.array(), base, base + length, value);
+        } else {
+            for (int i = 0; i < length; i++) {
+                buffer.put(index + i, value);
+            }
+        }
+    }
+
+    /**
+     * 주어진 위치의 4 bytes 값을 Big-Endian 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int getInt(ByteBuffer buffer, int index) {
+        int v = buffer.getInt(index);
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? v : Integer.reverseBytes(v);
+    }
+
+    /**
+     * 주어진 위치부터 최대 8 bytes 를 Big-Endian 정수로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @param length
+     *            읽을 길이 (0 ~ 8)
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static long getLong(ByteBuffer buffer, int index, int length) {
+        if (length < 0 || length > 8) {
+            throw new IllegalArgumentException("length must be between 0 and 8. length=" + length);
+        }
+
+        long v = 0;
+        for (int i = 0; i < length; i++) {
+            v = (v << 8) | (buffer.get(index + i) & 0xFF);
+        }
+        return v;
+    }
+
+    /**
+     * 주어진 위치의 바이트 값을 부호 없는 정수(0 ~ 255)로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int getUnsignedByte(ByteBuffer buffer, int index) {
+        return buffer.get(index) & 0xFF;
+    }
+
+    /**
+     * 주어진 위치의 4 bytes 값을 Big-Endian, 부호 없는 정수(0 ~ 4,294,967,295)로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static long getUnsignedInt(ByteBuffer buffer, int index) {
+        return getInt(buffer, index) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 주어진 위치의 2 bytes 값을 Big-Endian, 부호 없는 정수(0 ~ 65,535)로 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static int getUnsignedShort(ByteBuffer buffer, int index) {
+        short v = buffer.getShort(index);
+        if (buffer.order() != ByteOrder.BIG_ENDIAN) {
+            v = Short.reverseBytes(v);
+        }
+        return v & 0xFFFF;
+    }
+
+    /**
+     * 배열의 데이터를 버퍼의 주어진 위치에 기록한다. <br>
+     * Java 8 에는 절대 위치 bulk put 이 없으므로, heap 버퍼는 배열에 직접 복사하고 그 외에는 1 byte 씩 기록한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @param src
+     *            기록할 데이터
+     * @param srcOffset
+     *            데이터 시작 위치
+     * @param length
+     *            길이
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static void put(ByteBuffer buffer, int index, byte[] src, int srcOffset, int length) {
+        if (index < 0 || length < 0 || index + length > buffer.limit()) {
+            throw new IndexOutOfBoundsException("buffer.limit: " + buffer.limit() + ", index: " + index + ", length: " + length);
+        }
+        if (buffer.hasArray()) {
+            System.arraycopy(src, srcOffset, buffer.array(), buffer.arrayOffset() + index, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                buffer.put(index + i, src[srcOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * 주어진 위치에 4 bytes 정수를 Big-Endian 으로 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @param value
+     *            값
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static void putInt(ByteBuffer buffer, int index, int value) {
+        buffer.putInt(index, buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value));
+    }
+
+    /**
+     * 주어진 위치에 2 bytes 정수를 Big-Endian 으로 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @param value
+     *            값 (하위 16 bits 를 사용한다)
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static void putShort(ByteBuffer buffer, int index, int value) {
+        short v = (short) value;
+        buffer.putShort(index, buffer.order() == ByteOrder.BIG_ENDIAN ? v : Short.reverseBytes(v));
+    }
+
+    /**
+     * 주어진 영역을 공유하는 읽기 전용 버퍼를 생성한다. <br>
+     * 데이터는 복사하지 않으며, 반환하는 버퍼의 위치 0 이 원래 버퍼의 <code>offset</code> 위치에 해당한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer dup = buffer.asReadOnlyBuffer();
+        ((Buffer) dup).limit(offset + length);
+        ((Buffer) dup).position(offset);
+        return dup.slice();
+    }
+
+    /**
+     * 주어진 영역이 버퍼 안에 있는지 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @throws NullPointerException
+     *             버퍼가 <code>null</code> 인 경우
+     * @throws IndexOutOfBoundsException
+     *             영역이 버퍼의 limit 를 벗어나는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static void validateBounds(ByteBuffer buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null.");
+        }
+        if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+            StringBuilder sb = new StringBuilder(80);
+            sb.append("buffer.limit: ").append(buffer.limit()).append(", offset: ").append(offset).append(", length: ").append(length);
+            throw new IndexOutOfBoundsException(sb.toString());
+        }
+    }
+}
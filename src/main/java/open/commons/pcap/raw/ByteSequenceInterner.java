@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 3:02:51
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.raw;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import open.commons.core.utils.ByteUtils;
+
+/**
+ * 반복해서 나타나는 byte 배열을 하나의 문자열 객체로 제공하는 크기가 고정된 캐시.<br>
+ * 같은 내용의 byte 배열이 캐시에 있는 경우 버퍼를 복사하거나 객체를 생성하지 않고 캐시된 문자열을 반환한다. 캐시는 크기가 고정된 2-way 해시 테이블이며, 슬롯이 가득 찬
+ * 경우 기존 항목을 덮어쓰므로 서로 다른 값이 아무리 많이 들어와도 메모리 사용량이 늘어나지 않는다.<br>
+ * 캐시 항목은 불변(immutable) 객체이므로 여러 thread 에서 공유할 수 있다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ByteSequenceInterner {
+
+    /**
+     * 출력 가능한 ASCII 문자로만 구성된 경우 문자열로, 그 외의 경우 16진수 문자열("0x...")로 변환한다.
+     */
+    public static final Function<byte[], String> EXPR_ASCII_OR_HEX = bs -> {
+        for (byte b : bs) {
+            if (b < 0x20 || b > 0x7E) {
+                return ByteUtils.hexBinString("0x", bs);
+            }
+        }
+        return new String(bs, StandardCharsets.US_ASCII);
+    };
+
+    /** 캐시 슬롯 */
+    private final Entry[] entries;
+    /** 슬롯 위치 계산을 위한 mask */
+    private final int mask;
+    /** byte 배열을 문자열로 변환하는 함수 */
+    private final Function<byte[], String> expr;
+
+    /**
+     * 
+     * @param capacity
+     *            캐시 크기. 2의 거듭제곱으로 올림한다.
+     * @since 2026. 10. 17.
+     */
+    public ByteSequenceInterner(int capacity) {
+        this(capacity, EXPR_ASCII_OR_HEX);
+    }
+
+    /**
+     * 
+     * @param capacity
+     *            캐시 크기. 2의 거듭제곱으로 올림한다.
+     * @param expr
+     *            byte 배열을 문자열로 변환하는 함수
+     * @since 2026. 10. 17.
+     */
+    public ByteSequenceInterner(int capacity, Function<byte[], String> expr) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30. capacity=" + capacity);
+        }
+        if (expr == null) {
+            throw new NullPointerException("expr must not be null.");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+        this.expr = expr;
+    }
+
+    /**
+     * 캐시 크기를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public int capacity() {
+        return this.entries.length;
+    }
+
+    /**
+     * 주어진 영역의 byte 배열에 해당하는 문자열을 반환한다. <br>
+     * 캐시에 없는 경우에만 영역을 복사하여 문자열을 생성하고 캐시에 저장한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼 (heap, direct 모두 가능)
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String intern(ByteBuffer buffer, int offset, int length) {
+        int hash = hash(buffer, offset, length);
+        int slot = hash & this.mask;
+
+        Entry[] entries = this.entries;
+        Entry first = entries[slot];
+        if (first != null && first.matches(hash, buffer, offset, length)) {
+            return first.value;
+        }
+        int alt = slot ^ 1;
+        Entry second = entries[alt];
+        if (second != null && second.matches(hash, buffer, offset, length)) {
+            return second.value;
+        }
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        Entry entry = new Entry(hash, bytes, this.expr.apply(bytes));
+
+        // 비어있는 슬롯을 우선 사용하고, 모두 사용 중인 경우 두번째 슬롯의 항목을 첫번째 슬롯으로 옮긴다.
+        if (first == null) {
+            entries[slot] = entry;
+        } else if (second == null) {
+            entries[alt] = entry;
+        } else {
+            entries[alt] = first;
+            entries[slot] = entry;
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * 주어진 byte 배열에 해당하는 문자열을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public String intern(byte[] bytes, int offset, int length) {
+        return intern(ByteBuffer.wrap(bytes), offset, length);
+    }
+
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+        // FNV-1a
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h ^= buffer.get(offset + i) & 0xFF;
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 캐시 항목.
+     * 
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String value;
+
+        private Entry(int hash, byte[] bytes, String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+
+        private boolean matches(int hash, ByteBuffer buffer, int offset, int length) {
+            if (this.hash != hash || this.bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (this.bytes[i] != buffer.get(offset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
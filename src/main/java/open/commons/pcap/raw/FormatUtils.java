@@ -0,0 +1,276 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 3:41:05
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ *
+ */
+
+package open.commons.pcap.raw;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Appendable}에 16진수, 10진수, IPv4 주소, MAC 주소를 직접 기록하는 유틸리티.<br>
+ * {@link String#format(String, Object...)}, 중간 문자열을 사용하지 않으며, 16진수는 미리 계산한 조회 테이블을 사용한다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class FormatUtils {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** 1 byte 값에 대한 16진수 2자리 문자. index = (value &amp; 0xFF) * 2 */
+    private static final char[] HEX_TABLE = new char[256 * 2];
+
+    /** 공백 문자. {@link #appendPadding(Appendable, int)}에서 사용한다. */
+    private static final String SPACES = "                                ";
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            HEX_TABLE[i * 2] = HEX_DIGITS[i >>> 4];
+            HEX_TABLE[i * 2 + 1] = HEX_DIGITS[i & 0x0F];
+        }
+    }
+
+    private FormatUtils() {
+    }
+
+    /**
+     * 부호 없는 10진수를 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param value
+     *            0 이상의 값
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendDecimal(Appendable out, long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("The value MUST NOT be negative. value=" + value);
+        }
+
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + (value / divisor) % 10));
+        }
+        return out;
+    }
+
+    /**
+     * 1 byte 값을 16진수 2자리로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param value
+     *            값. 하위 8 bit 만 사용한다.
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendHex(Appendable out, int value) throws IOException {
+        int i = (value & 0xFF) << 1;
+        return out.append(HEX_TABLE[i]).append(HEX_TABLE[i + 1]);
+    }
+
+    /**
+     * 버퍼의 주어진 영역을 구분자 없는 16진수 문자열로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendHex(Appendable out, ByteBuffer buffer, int offset, int length) throws IOException {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            appendHex(out, buffer.get(i));
+        }
+        return out;
+    }
+
+    /**
+     * 값을 주어진 자릿수의 16진수로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param value
+     *            값
+     * @param bytes
+     *            byte 개수 (1 ~ 8)
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendHex(Appendable out, long value, int bytes) throws IOException {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+            appendHex(out, (int) (value >>> shift));
+        }
+        return out;
+    }
+
+    /**
+     * IPv4 주소를 점으로 구분된 10진수(dotted-decimal)로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param address
+     *            IPv4 주소 (Network Byte Order)
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendIPv4(Appendable out, int address) throws IOException {
+        appendDecimal(out, (address >>> 24) & 0xFF).append('.');
+        appendDecimal(out, (address >>> 16) & 0xFF).append('.');
+        appendDecimal(out, (address >>> 8) & 0xFF).append('.');
+        return appendDecimal(out, address & 0xFF);
+    }
+
+    /**
+     * 버퍼의 주어진 영역을 ':' 로 구분된 MAC 주소 형식으로 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            길이
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendMAC(Appendable out, ByteBuffer buffer, int offset, int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.append(':');
+            }
+            appendHex(out, buffer.get(offset + i));
+        }
+        return out;
+    }
+
+    /**
+     * 주어진 개수만큼 공백을 기록한다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param out
+     *            출력 대상
+     * @param count
+     *            공백 개수. 0 이하인 경우 기록하지 않는다.
+     * @return
+     * @throws IOException
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static Appendable appendPadding(Appendable out, int count) throws IOException {
+        while (count > 0) {
+            int n = Math.min(count, SPACES.length());
+            out.append(SPACES, 0, n);
+            count -= n;
+        }
+        return out;
+    }
+}
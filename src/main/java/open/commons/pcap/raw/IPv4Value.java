@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 2:33:02
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.raw;
+
+import java.nio.ByteBuffer;
+
+import open.commons.core.utils.ByteUtils;
+
+/**
+ * IPv4 주소를 int 로 보관하는 불변 객체.<br>
+ * Map 의 key 로 사용할 때 문자열 대신 사용하며, {@link #expr()}는 {@link ByteUtils#toIPv4Expr(byte[])}와 같은 형식의 문자열을 처음 조회할 때 만든다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class IPv4Value extends ByteArrayIntValue {
+
+    /**
+     * 
+     * @param address
+     *            IPv4 주소
+     *
+     * @since 2026. 10. 17.
+     */
+    public IPv4Value(int address) {
+        super(address, 4);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.raw.ByteArrayNumberValue#render()
+     */
+    @Override
+    protected String render() {
+        return ByteUtils.toIPv4Expr(getRawData());
+    }
+
+    /**
+     * 버퍼의 주어진 위치에서 IPv4 주소를 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param index
+     *            절대 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static IPv4Value valueOf(ByteBuffer buffer, int index) {
+        return new IPv4Value(ByteBufferUtils.getInt(buffer, index));
+    }
+
+    /**
+     * IPv4 주소 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param address
+     *            IPv4 주소
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see open.commons.pcap.dhcp.DhcpPacketView#getYiaddr()
+     */
+    public static IPv4Value valueOf(int address) {
+        return new IPv4Value(address);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 3:02:17
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.pcap.raw;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 'sname', 'file' 필드, Host Name (12) 옵션 등 NUL(0x00) 로 끝나는 문자열을 읽는 유틸리티.<br>
+ * 변환한 문자열은 크기가 고정된 {@link ByteSequenceInterner}에 캐시하므로, 반복해서 나타나는 서버 이름, 파일 이름 등은 객체를 생성하지 않는다.
+ *
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class NulTerminatedStringUtils {
+
+    /** 빈 문자열 */
+    public static final String EMPTY = "";
+
+    /** 캐시 크기 */
+    public static final int INTERNER_CAPACITY = 1024;
+
+    private static final ByteSequenceInterner INTERNER = new ByteSequenceInterner(INTERNER_CAPACITY, bs -> new String(bs, StandardCharsets.UTF_8));
+
+    private NulTerminatedStringUtils() {
+    }
+
+    /**
+     * NUL(0x00) 로 끝나는 문자열을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            데이터
+     * @return NUL 이전에 공백이 아닌 문자가 없는 경우 {@link #EMPTY}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #decode(ByteBuffer, int, int)
+     */
+    public static String decode(byte[] bytes) {
+        return decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * NUL(0x00) 로 끝나는 문자열을 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            데이터
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            최대 길이
+     * @return NUL 이전에 공백이 아닌 문자가 없는 경우 {@link #EMPTY}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     *
+     * @see #decode(ByteBuffer, int, int)
+     */
+    public static String decode(byte[] bytes, int offset, int length) {
+        return decode(ByteBuffer.wrap(bytes), offset, length);
+    }
+
+    /**
+     * NUL(0x00) 로 끝나는 문자열을 반환한다. <br>
+     * NUL 을 먼저 찾고 그 이전의 데이터만 UTF-8 로 변환한다. 모두 0 으로 채워진 필드는 객체를 생성하지 않고 {@link #EMPTY}를 반환하며, 자주 나타나는 값은 캐시된 문자열을 반환한다.<br>
+     * 같은 데이터는 항상 같은 문자열을 반환한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 17.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            버퍼
+     * @param offset
+     *            시작 위치 (절대 위치)
+     * @param length
+     *            최대 길이. NUL 이 없는 경우 전체를 사용한다.
+     * @return NUL 이전에 공백이 아닌 문자가 없는 경우 {@link #EMPTY}
+     *
+     * @since 2026. 10. 17.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    public static String decode(ByteBuffer buffer, int offset, int length) {
+        int end = offset + length;
+        boolean blank = true;
+        int pos = offset;
+        for (; pos < end; pos++) {
+            int b = buffer.get(pos) & 0xFF;
+            if (b == 0) {
+                break;
+            }
+            // String.trim() 과 같이 0x20 이하의 문자는 공백으로 본다.
+            if (b > 0x20) {
+                blank = false;
+            }
+        }
+
+        return blank ? EMPTY : INTERNER.intern(buffer, offset, pos - offset);
+    }
+}
@@ -33,7 +33,6 @@ import org.pcap4j.core.PacketListener;
 import org.pcap4j.core.PcapHandle;
 import org.pcap4j.core.PcapNativeException;
 import org.pcap4j.core.PcapNetworkInterface;
-import org.pcap4j.core.PcapNetworkInterface.PromiscuousMode;
 import org.pcap4j.packet.EthernetPacket;
 import org.pcap4j.packet.EthernetPacket.EthernetHeader;
 import org.pcap4j.packet.IllegalRawDataException;
@@ -49,6 +48,7 @@ import org.pcap4j.packet.namednumber.IpNumber;
 import org.pcap4j.util.NifSelector;
 
 import open.commons.core.utils.ByteUtils;
+import open.commons.pcap.capture.DhcpCaptureProfile;
 import open.commons.pcap.dhcp.DhcpPacket;
 
 /**
@@ -82,11 +82,9 @@ public class App {
             System.exit(1);
         }
 
-        // Open the device and get a handle
-        int snapshotLength = 65536; // in bytes
-        int readTimeout = 50; // in milliseconds
+        // Open the device with a kernel BPF filter so that only DHCP packets reach the JVM.
         final PcapHandle handle;
-        handle = device.openLive(snapshotLength, PromiscuousMode.PROMISCUOUS, readTimeout);
+        handle = DhcpCaptureProfile.DEFAULT.open(device);
 
         // Create a listener that defines what to do with the received packets
         PacketListener listener = new PacketListener() {
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:38:05
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+import open.commons.pcap.listener.BatchingConsumer;
+import open.commons.pcap.listener.FlushReason;
+
+/**
+ * {@link BatchingConsumer}의 {@link FlushReason}별 전달과 순서를 검증한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class BatchingConsumerTest extends TestCase {
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+    private List<List<Integer>> batches;
+
+    public void testCloseFlushesRemainder() {
+        BatchingConsumer<Integer> batcher = new BatchingConsumer<>(this::record, 10, 1, TimeUnit.HOURS, this.scheduler, this.executor);
+        batcher.accept(1);
+        batcher.accept(2);
+        batcher.close();
+        batcher.accept(3);
+
+        assertTrue(batcher.isClosed());
+        assertEquals("[[1, 2]]", this.batches.toString());
+        assertEquals(1, batcher.getFlushCount(FlushReason.CLOSE));
+        assertEquals(1, batcher.getRejectedCount());
+    }
+
+    public void testConcurrentProducersKeepOrder() throws InterruptedException {
+        BatchingConsumer<Integer> batcher = new BatchingConsumer<>(this::record, 50, 5, TimeUnit.MILLISECONDS, this.scheduler, this.executor);
+        int producers = 4;
+        int count = 10_000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * count;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    batcher.accept(base + i);
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        batcher.close();
+
+        assertEquals(producers * count, batcher.getItemCount());
+        assertTrue(batcher.getMaxBatchSize() <= 50);
+        // 같은 Thread 가 추가한 항목은 추가한 순서대로 전달된다.
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        int total = 0;
+        for (List<Integer> batch : this.batches) {
+            for (int item : batch) {
+                int p = item / count;
+                assertTrue("item=" + item, item % count > last[p]);
+                last[p] = item % count;
+                total++;
+            }
+        }
+        assertEquals(producers * count, total);
+    }
+
+    public void testSizeFlush() {
+        BatchingConsumer<Integer> batcher = new BatchingConsumer<>(this::record, 3, 1, TimeUnit.HOURS, this.scheduler, this.executor);
+        for (int i = 0; i < 7; i++) {
+            batcher.accept(i);
+        }
+
+        assertEquals("[[0, 1, 2], [3, 4, 5]]", this.batches.toString());
+        assertEquals(2, batcher.getFlushCount(FlushReason.SIZE));
+        assertEquals(3, batcher.getMaxBatchSize());
+
+        batcher.flush();
+        assertEquals("[[0, 1, 2], [3, 4, 5], [6]]", this.batches.toString());
+        assertEquals(1, batcher.getFlushCount(FlushReason.MANUAL));
+        batcher.close();
+        assertEquals(0, batcher.getFlushCount(FlushReason.CLOSE));
+    }
+
+    /**
+     * 느린 batch 리스너가 Scheduler 를 공유하는 다른 batch 리스너의 시간 초과 전달을 지연시키지 않는다.
+     */
+    public void testSlowSinkDoesNotBlockScheduler() throws InterruptedException {
+        CountDownLatch slowCalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BatchingConsumer<Integer> slow = new BatchingConsumer<>(batch -> {
+            slowCalled.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 100, 10, TimeUnit.MILLISECONDS, this.scheduler, this.executor);
+        CountDownLatch fastCalled = new CountDownLatch(1);
+        BatchingConsumer<Integer> fast = new BatchingConsumer<>(batch -> fastCalled.countDown(), 100, 10, TimeUnit.MILLISECONDS, this.scheduler, this.executor);
+
+        try {
+            slow.accept(1);
+            assertTrue(slowCalled.await(5, TimeUnit.SECONDS));
+            // 느린 batch 리스너가 실행 중인 동안 추가한 항목은 이전 전달이 끝날 때까지 기다린다.
+            slow.accept(2);
+            fast.accept(1);
+            assertTrue(fastCalled.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            slow.close();
+            fast.close();
+        }
+        assertEquals(1, fast.getFlushCount(FlushReason.TIME));
+        assertEquals(2, slow.getItemCount());
+    }
+
+    public void testTimeFlush() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        BatchingConsumer<Integer> batcher = new BatchingConsumer<>(batch -> {
+            record(batch);
+            flushed.countDown();
+        }, 100, 20, TimeUnit.MILLISECONDS, this.scheduler, this.executor);
+        batcher.accept(1);
+        batcher.accept(2);
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        // 통계는 batch 리스너가 반환한 후에 반영되며, close() 는 먼저 바꾼 목록의 전달이 끝날 때까지 기다린다.
+        batcher.close();
+        assertEquals("[[1, 2]]", this.batches.toString());
+        assertEquals(1, batcher.getFlushCount(FlushReason.TIME));
+        assertEquals(0, batcher.getFlushCount(FlushReason.CLOSE));
+    }
+
+    /**
+     * @see junit.framework.TestCase#setUp()
+     */
+    @Override
+    protected void setUp() throws Exception {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.executor = Executors.newCachedThreadPool();
+        this.batches = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * @see junit.framework.TestCase#tearDown()
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        this.scheduler.shutdownNow();
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * 전달받은 목록은 호출이 끝나면 재사용되므로 복사한다.
+     */
+    private void record(List<Integer> batch) {
+        this.batches.add(new ArrayList<>(batch));
+    }
+}
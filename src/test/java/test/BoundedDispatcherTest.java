@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 10:48:03
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+import open.commons.pcap.listener.BoundedDispatcher;
+import open.commons.pcap.listener.OverflowPolicy;
+
+/**
+ * {@link BoundedDispatcher}의 {@link OverflowPolicy}별 동작을 검증한다.<br>
+ * 작업자 1개가 첫 항목을 처리하는 중에 멈춰 있는 동안 큐(크기 2)를 넘치게 한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class BoundedDispatcherTest extends TestCase {
+
+    private static final int CAPACITY = 2;
+
+    private ExecutorService executor;
+    private CountDownLatch taken;
+    private CountDownLatch gate;
+    private List<Integer> delivered;
+
+    public void testBlock() throws InterruptedException {
+        BoundedDispatcher<Integer> dispatcher = start(OverflowPolicy.BLOCK);
+        fill(dispatcher);
+
+        CountDownLatch dispatched = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            dispatcher.dispatch(3);
+            dispatched.countDown();
+        });
+        producer.start();
+
+        // 큐가 가득 차 있는 동안에는 대기한다.
+        assertFalse(dispatched.await(200, TimeUnit.MILLISECONDS));
+        this.gate.countDown();
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+
+        stop(dispatcher);
+        assertEquals(1, dispatcher.getBlockedCount());
+        assertEquals(0, dispatcher.getDroppedCount());
+        assertEquals(4, dispatcher.getDeliveredCount());
+        assertEquals("[0, 1, 2, 3]", this.delivered.toString());
+    }
+
+    public void testConsumerFailure() throws InterruptedException {
+        BoundedDispatcher<Integer> dispatcher = new BoundedDispatcher<>(this.executor, 1, CAPACITY, OverflowPolicy.BLOCK, item -> {
+            if (item % 2 == 0) {
+                throw new IllegalStateException("fail: " + item);
+            }
+        });
+        dispatcher.start();
+        for (int i = 0; i < 4; i++) {
+            dispatcher.dispatch(i);
+        }
+        stop(dispatcher);
+
+        assertEquals(2, dispatcher.getFailedCount());
+        assertEquals(2, dispatcher.getDeliveredCount());
+    }
+
+    public void testDropNewest() throws InterruptedException {
+        BoundedDispatcher<Integer> dispatcher = start(OverflowPolicy.DROP_NEWEST);
+        fill(dispatcher);
+
+        assertFalse(dispatcher.dispatch(3));
+        assertFalse(dispatcher.dispatch(4));
+
+        this.gate.countDown();
+        stop(dispatcher);
+        assertEquals(2, dispatcher.getDroppedNewestCount());
+        assertEquals(2, dispatcher.getDroppedCount());
+        assertEquals("[0, 1, 2]", this.delivered.toString());
+    }
+
+    public void testDropOldest() throws InterruptedException {
+        BoundedDispatcher<Integer> dispatcher = start(OverflowPolicy.DROP_OLDEST);
+        fill(dispatcher);
+
+        assertTrue(dispatcher.dispatch(3));
+        assertTrue(dispatcher.dispatch(4));
+
+        this.gate.countDown();
+        stop(dispatcher);
+        assertEquals(2, dispatcher.getDroppedOldestCount());
+        assertEquals(2, dispatcher.getDroppedCount());
+        assertEquals("[0, 3, 4]", this.delivered.toString());
+    }
+
+    public void testRejectedBeforeStartAndAfterShutdown() throws InterruptedException {
+        BoundedDispatcher<Integer> dispatcher = new BoundedDispatcher<>(this.executor, 1, CAPACITY, OverflowPolicy.BLOCK, this.delivered::add);
+        assertFalse(dispatcher.dispatch(0));
+
+        dispatcher.start();
+        assertTrue(dispatcher.dispatch(1));
+        stop(dispatcher);
+        assertFalse(dispatcher.dispatch(2));
+
+        assertEquals(2, dispatcher.getRejectedCount());
+        assertEquals(3, dispatcher.getOfferedCount());
+        assertEquals("[1]", this.delivered.toString());
+    }
+
+    /**
+     * 종료하는 동안 여러 Thread 가 전달한 항목도 모두 전달되거나, 버려지거나, 거부된다.
+     */
+    public void testShutdownWhileDispatching() throws InterruptedException {
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            BoundedDispatcher<Integer> dispatcher = new BoundedDispatcher<>(this.executor, 2, CAPACITY, policy, this.delivered::add);
+            dispatcher.start();
+
+            CountDownLatch started = new CountDownLatch(4);
+            Thread[] producers = new Thread[4];
+            for (int i = 0; i < producers.length; i++) {
+                producers[i] = new Thread(() -> {
+                    started.countDown();
+                    for (int n = 0; n < 20_000; n++) {
+                        dispatcher.dispatch(n);
+                    }
+                });
+                producers[i].start();
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            stop(dispatcher);
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(policy.name(), dispatcher.getOfferedCount(),
+                    dispatcher.getDeliveredCount() + dispatcher.getDroppedCount() + dispatcher.getRejectedCount());
+            assertEquals(policy.name(), dispatcher.getDeliveredCount(), this.delivered.size());
+            this.delivered.clear();
+        }
+    }
+
+    /**
+     * @see junit.framework.TestCase#setUp()
+     */
+    @Override
+    protected void setUp() throws Exception {
+        this.executor = Executors.newCachedThreadPool();
+        this.taken = new CountDownLatch(1);
+        this.gate = new CountDownLatch(1);
+        this.delivered = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * @see junit.framework.TestCase#tearDown()
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        this.gate.countDown();
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * 작업자가 첫 항목(0)에서 멈춘 뒤 큐를 가득 채운다(1, 2).
+     */
+    private void fill(BoundedDispatcher<Integer> dispatcher) throws InterruptedException {
+        assertTrue(dispatcher.dispatch(0));
+        assertTrue(this.taken.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= CAPACITY; i++) {
+            assertTrue(dispatcher.dispatch(i));
+        }
+        assertEquals(CAPACITY, dispatcher.size());
+    }
+
+    private BoundedDispatcher<Integer> start(OverflowPolicy policy) {
+        BoundedDispatcher<Integer> dispatcher = new BoundedDispatcher<>(this.executor, 1, CAPACITY, policy, item -> {
+            this.taken.countDown();
+            try {
+                this.gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.delivered.add(item);
+        });
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private static void stop(BoundedDispatcher<Integer> dispatcher) throws InterruptedException {
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
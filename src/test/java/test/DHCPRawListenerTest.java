@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 10:41:27
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+import open.commons.pcap.dhcp.DhcpPacket;
+import open.commons.pcap.listener.DHCPRawListener;
+import open.commons.pcap.listener.DhcpVlanPacketEvent;
+
+/**
+ * {@link DHCPRawListener}가 VLAN 태그(802.1Q, QinQ) 개수에 따라 DHCP 메시지 위치를 올바르게 찾고, VLAN ID 를 리스너에게 전달하는지 검증한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class DHCPRawListenerTest extends TestCase {
+
+    private static final int DHCP_LENGTH = 300;
+
+    public void testEventListenerReceivesVlanIds() throws InterruptedException {
+        List<DhcpPacket> packets = new CopyOnWriteArrayList<>();
+        List<DhcpVlanPacketEvent> events = new CopyOnWriteArrayList<>();
+        DHCPRawListener listener = new DHCPRawListener(1, "dhcp-raw-listener-test");
+        listener.addListener(packets::add);
+        listener.addEventListener(events::add);
+
+        byte[] untagged = frame(DHCPRawListener.BOOTPC_PORT, DHCPRawListener.BOOTPS_PORT);
+        byte[] qinq = tag(tag(untagged, DHCPRawListener.ETHER_TYPE_VLAN, 100), DHCPRawListener.ETHER_TYPE_QINQ, 4000);
+        listener.gotPacket(untagged);
+        listener.gotPacket(qinq);
+        listener.gotPacket(frame(53, 53));
+        assertTrue(listener.shutdown(5, TimeUnit.SECONDS));
+
+        assertEquals(2, packets.size());
+        assertEquals(2, events.size());
+        assertEquals(DHCPRawListener.NO_VLAN, events.get(0).getOuterVlanId());
+        assertEquals(DHCPRawListener.NO_VLAN, events.get(0).getInnerVlanId());
+        assertEquals(4000, events.get(1).getOuterVlanId());
+        assertEquals(100, events.get(1).getInnerVlanId());
+        assertSame(packets.get(1), events.get(1).getPacket());
+
+        assertEquals(3, listener.getReceivedCount());
+        assertEquals(2, listener.getMatchedCount());
+    }
+
+    public void testNotDhcp() {
+        byte[] frame = frame(DHCPRawListener.BOOTPS_PORT, DHCPRawListener.BOOTPC_PORT);
+        assertEquals(-1, DHCPRawListener.dhcpPayloadOffset(frame, 41));
+
+        // UDP 53 -> 53
+        assertEquals(-1, DHCPRawListener.dhcpPayloadOffset(frame(53, 53)));
+
+        // 분할된(fragment) IPv4
+        byte[] fragment = frame(DHCPRawListener.BOOTPC_PORT, DHCPRawListener.BOOTPS_PORT);
+        fragment[14 + 6] = 0x20;
+        assertEquals(-1, DHCPRawListener.dhcpPayloadOffset(fragment));
+    }
+
+    public void testPayloadOffset() {
+        byte[] untagged = frame(DHCPRawListener.BOOTPC_PORT, DHCPRawListener.BOOTPS_PORT);
+        assertEquals(42, DHCPRawListener.dhcpPayloadOffset(untagged));
+        assertEquals(DHCP_LENGTH, DHCPRawListener.dhcpPayloadLength(untagged, untagged.length, 42));
+        assertEquals(DHCPRawListener.NO_VLAN, DHCPRawListener.outerVlanId(untagged, untagged.length));
+        assertEquals(DHCPRawListener.NO_VLAN, DHCPRawListener.innerVlanId(untagged, untagged.length));
+
+        byte[] single = tag(untagged, DHCPRawListener.ETHER_TYPE_VLAN, 100);
+        assertEquals(46, DHCPRawListener.dhcpPayloadOffset(single));
+        assertEquals(DHCP_LENGTH, DHCPRawListener.dhcpPayloadLength(single, single.length, 46));
+        assertEquals(100, DHCPRawListener.outerVlanId(single, single.length));
+        assertEquals(DHCPRawListener.NO_VLAN, DHCPRawListener.innerVlanId(single, single.length));
+
+        byte[] qinq = tag(single, DHCPRawListener.ETHER_TYPE_QINQ, 4000);
+        assertEquals(50, DHCPRawListener.dhcpPayloadOffset(qinq));
+        assertEquals(DHCP_LENGTH, DHCPRawListener.dhcpPayloadLength(qinq, qinq.length, 50));
+        assertEquals(4000, DHCPRawListener.outerVlanId(qinq, qinq.length));
+        assertEquals(100, DHCPRawListener.innerVlanId(qinq, qinq.length));
+
+        // 3개 이상의 태그는 지원하지 않는다.
+        assertEquals(-1, DHCPRawListener.dhcpPayloadOffset(tag(qinq, DHCPRawListener.ETHER_TYPE_VLAN, 7)));
+    }
+
+    /**
+     * Ethernet/IPv4/UDP 프레임을 생성한다. DHCP 메시지 영역은 0 으로 채운다.
+     */
+    private static byte[] frame(int srcPort, int dstPort) {
+        ByteBuffer frame = ByteBuffer.allocate(14 + 20 + 8 + DHCP_LENGTH);
+        frame.putShort(12, (short) 0x0800);
+        frame.put(14, (byte) 0x45);
+        frame.putShort(14 + 2, (short) (20 + 8 + DHCP_LENGTH));
+        frame.put(14 + 8, (byte) 64);
+        frame.put(14 + 9, (byte) 17);
+        frame.putShort(34, (short) srcPort);
+        frame.putShort(34 + 2, (short) dstPort);
+        frame.putShort(34 + 4, (short) (8 + DHCP_LENGTH));
+        return frame.array();
+    }
+
+    /**
+     * 주어진 프레임의 MAC 주소 뒤에 VLAN 태그를 추가한다.
+     */
+    private static byte[] tag(byte[] frame, int tpid, int vid) {
+        byte[] tagged = new byte[frame.length + 4];
+        System.arraycopy(frame, 0, tagged, 0, 12);
+        tagged[12] = (byte) (tpid >>> 8);
+        tagged[13] = (byte) tpid;
+        tagged[14] = (byte) (vid >>> 8);
+        tagged[15] = (byte) vid;
+        System.arraycopy(frame, 12, tagged, 16, frame.length - 12);
+        return tagged;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:52:08
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+import open.commons.pcap.dhcp.DhcpOptionCode;
+import open.commons.pcap.dhcp.DhcpOptionIndex;
+import open.commons.pcap.dhcp.DhcpPacket.DhcpHeader;
+import open.commons.pcap.dhcp.DhcpPacketWriter;
+
+/**
+ * {@link DhcpOptionIndex}의 TLV 색인과 Option Overload (52) 처리 검증.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class DhcpOptionIndexTest extends TestCase {
+
+    private final DhcpOptionIndex index = new DhcpOptionIndex();
+
+    public void testFirstOccurrenceWins() {
+        ByteBuffer options = options(DhcpOptionCode.HOST_NAME, 1, 'a', DhcpOptionCode.HOST_NAME, 1, 'b', DhcpOptionCode.END);
+
+        assertTrue(this.index.index(options, 0, options.limit()));
+        assertEquals(1, this.index.size());
+        assertEquals("a", this.index.getString(DhcpOptionCode.HOST_NAME, null));
+    }
+
+    public void testInvalidMagicCookie() {
+        ByteBuffer options = options(DhcpOptionCode.HOST_NAME, 1, 'a', DhcpOptionCode.END);
+        options.put(0, (byte) 0);
+
+        assertFalse(this.index.index(options, 0, options.limit()));
+        assertFalse(this.index.isValid());
+        assertEquals(0, this.index.size());
+        assertFalse(this.index.hasOption(DhcpOptionCode.HOST_NAME));
+
+        // Magic Cookie 보다 짧은 영역
+        assertFalse(this.index.index(options, 0, DhcpOptionIndex.MAGIC_COOKIE_LENGTH - 1));
+    }
+
+    public void testOverloadFileOnly() {
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        int length = overloaded(buffer, DhcpOptionIndex.OVERLOAD_FILE);
+
+        assertTrue(this.index.indexMessage(buffer, 0, length));
+        assertEquals(DhcpOptionIndex.OVERLOAD_FILE, this.index.getOverload());
+        assertEquals("file", this.index.getString(DhcpOptionCode.HOST_NAME, null));
+        // 'sname' 필드는 옵션 영역이 아니다.
+        assertFalse(this.index.hasOption(DhcpOptionCode.DOMAIN_NAME));
+    }
+
+    public void testOverloadOrder() {
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        int length = overloaded(buffer, DhcpOptionIndex.OVERLOAD_BOTH);
+
+        assertTrue(this.index.indexMessage(buffer, 0, length));
+        assertEquals(DhcpOptionIndex.OVERLOAD_BOTH, this.index.getOverload());
+        assertFalse(this.index.isTruncated());
+
+        // options, file, sname 순서로 색인하며, 같은 옵션은 처음 나타난 옵션만 기록한다.
+        assertEquals(4, this.index.size());
+        assertEquals(DhcpOptionCode.OPTION_OVERLOAD, this.index.codeAt(0));
+        assertEquals(DhcpOptionCode.MESSAGE_TYPE, this.index.codeAt(1));
+        assertEquals(DhcpOptionCode.HOST_NAME, this.index.codeAt(2));
+        assertEquals(DhcpOptionCode.DOMAIN_NAME, this.index.codeAt(3));
+        assertEquals("file", this.index.getString(DhcpOptionCode.HOST_NAME, null));
+        assertEquals(DhcpHeader.BOOT_FILE_NAME_OFFSET + 2, this.index.getOffset(DhcpOptionCode.HOST_NAME));
+        assertEquals("d", this.index.getString(DhcpOptionCode.DOMAIN_NAME, null));
+        assertEquals(DhcpHeader.SERVER_NAME_OFFSET + 7 + 2, this.index.getOffset(DhcpOptionCode.DOMAIN_NAME));
+    }
+
+    public void testPadAndEnd() {
+        ByteBuffer options = options(DhcpOptionCode.PAD, DhcpOptionCode.PAD, DhcpOptionCode.HOST_NAME, 2, 'h', 'n', DhcpOptionCode.END, DhcpOptionCode.DOMAIN_NAME, 1, 'x');
+
+        assertTrue(this.index.index(options, 0, options.limit()));
+        assertFalse(this.index.isTruncated());
+        assertEquals(1, this.index.size());
+        assertEquals(DhcpOptionCode.HOST_NAME, this.index.codeAt(0));
+        assertEquals(DhcpOptionIndex.MAGIC_COOKIE_LENGTH + 4, this.index.getOffset(DhcpOptionCode.HOST_NAME));
+        assertEquals(2, this.index.getLength(DhcpOptionCode.HOST_NAME));
+        // END 이후의 옵션은 색인하지 않는다.
+        assertFalse(this.index.hasOption(DhcpOptionCode.DOMAIN_NAME));
+    }
+
+    public void testReuseDiscardsPreviousIndex() {
+        ByteBuffer first = options(DhcpOptionCode.HOST_NAME, 1, 'a', DhcpOptionCode.END);
+        ByteBuffer second = options(DhcpOptionCode.DOMAIN_NAME, 1, 'b', DhcpOptionCode.END);
+
+        assertTrue(this.index.index(first, 0, first.limit()));
+        assertTrue(this.index.index(second, 0, second.limit()));
+        assertEquals(1, this.index.size());
+        assertFalse(this.index.hasOption(DhcpOptionCode.HOST_NAME));
+        assertEquals("b", this.index.getString(DhcpOptionCode.DOMAIN_NAME, null));
+    }
+
+    public void testTruncatedCode() {
+        // 옵션 코드만 있고 길이가 없다.
+        ByteBuffer options = options(DhcpOptionCode.HOST_NAME, 1, 'a', DhcpOptionCode.DOMAIN_NAME);
+
+        assertTrue(this.index.index(options, 0, options.limit()));
+        assertTrue(this.index.isTruncated());
+        assertEquals(1, this.index.size());
+        assertTrue(this.index.hasOption(DhcpOptionCode.HOST_NAME));
+        assertFalse(this.index.hasOption(DhcpOptionCode.DOMAIN_NAME));
+
+        // 영역의 길이로 자른 경우
+        ByteBuffer complete = options(DhcpOptionCode.HOST_NAME, 3, 'a', 'b', 'c', DhcpOptionCode.END);
+        assertTrue(this.index.index(complete, 0, DhcpOptionIndex.MAGIC_COOKIE_LENGTH + 4));
+        assertTrue(this.index.isTruncated());
+        assertEquals(0, this.index.size());
+    }
+
+    public void testTruncatedLength() {
+        // 옵션 길이(10)가 영역을 벗어난다.
+        ByteBuffer options = options(DhcpOptionCode.HOST_NAME, 3, 'a', 'b', 'c', DhcpOptionCode.DOMAIN_NAME, 10, 'x', 'y');
+
+        assertTrue(this.index.index(options, 0, options.limit()));
+        assertTrue(this.index.isValid());
+        assertTrue(this.index.isTruncated());
+        assertEquals(1, this.index.size());
+        assertEquals("abc", this.index.getString(DhcpOptionCode.HOST_NAME, null));
+        assertFalse(this.index.hasOption(DhcpOptionCode.DOMAIN_NAME));
+        assertNull(this.index.optionSlice(DhcpOptionCode.DOMAIN_NAME));
+    }
+
+    /**
+     * 'sname', 'file' 필드에 옵션을 기록하고, Options 영역에 Option Overload (52) 를 기록한 DHCP 메시지를 생성한다.
+     */
+    private static int overloaded(ByteBuffer buffer, int overload) {
+        byte[] sname = { DhcpOptionCode.HOST_NAME, 5, 's', 'n', 'a', 'm', 'e', DhcpOptionCode.DOMAIN_NAME, 1, 'd', (byte) DhcpOptionCode.END };
+        byte[] file = { DhcpOptionCode.HOST_NAME, 4, 'f', 'i', 'l', 'e', (byte) DhcpOptionCode.END };
+        return new DhcpPacketWriter().reset(buffer, 0) //
+                .op(1).htype(1).hlen(6).xid(1) //
+                .sname(sname).file(file) //
+                .optionByte(DhcpOptionCode.OPTION_OVERLOAD, overload) //
+                .optionByte(DhcpOptionCode.MESSAGE_TYPE, 1) //
+                .finish();
+    }
+
+    /**
+     * Magic Cookie 뒤에 주어진 byte 를 기록한 Options 영역을 생성한다.
+     */
+    private static ByteBuffer options(int... data) {
+        ByteBuffer buffer = ByteBuffer.allocate(DhcpOptionIndex.MAGIC_COOKIE_LENGTH + data.length);
+        buffer.putInt(DhcpOptionIndex.MAGIC_COOKIE);
+        for (int b : data) {
+            buffer.put((byte) b);
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
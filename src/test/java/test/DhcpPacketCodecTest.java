@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 10:21:12
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.pcap4j.packet.IllegalRawDataException;
+
+import junit.framework.TestCase;
+import open.commons.core.utils.ByteUtils;
+import open.commons.pcap.dhcp.DhcpMessageType;
+import open.commons.pcap.dhcp.DhcpOptionCode;
+import open.commons.pcap.dhcp.DhcpOptionIndex;
+import open.commons.pcap.dhcp.DhcpPacket;
+import open.commons.pcap.dhcp.DhcpPacketCodec;
+import open.commons.pcap.dhcp.DhcpPacketView;
+import open.commons.pcap.dhcp.DhcpPacketWriter;
+
+/**
+ * {@link DhcpPacketView}, {@link DhcpOptionIndex}, {@link DhcpPacketCodec} 검증.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class DhcpPacketCodecTest extends TestCase {
+
+    /** DHCPACK: xid=0x9EA03D7A, yiaddr=192.168.252.129, lease=1800, domain=localdomain ({@link DhcpPacketTest}) */
+    static final String ACK_HEX = "020106009EA03D7A0000000000000000C0A8FC81C0A8FCFE00000000000C29AAC43B00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000638253633501053604C0A8FCFE3304000007080104FFFFFF001C04C0A8FCFF0304C0A8FC020F0B6C6F63616C646F6D61696E0604C0A8FC022C04C0A8FC02FF00";
+
+    public void testKnownVector() throws IllegalRawDataException {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(ACK_HEX);
+        DhcpPacketView view = DhcpPacketView.wrap(ByteBuffer.wrap(raw), 0, raw.length);
+
+        assertEquals(2, view.getOp());
+        assertEquals(1, view.getHtype());
+        assertEquals(6, view.getHlen());
+        assertEquals(0x9EA03D7A, view.getXid());
+        assertEquals(0xC0A8FC81, view.getYiaddr());
+        assertEquals(0xC0A8FCFE, view.getSiaddr());
+        assertEquals(0x000C29AAC43BL, view.getChaddrAsLong());
+        assertEquals("192.168.252.129", view.getYiaddrValue().expr());
+
+        DhcpOptionIndex options = view.getOptions();
+        assertTrue(options.isValid());
+        assertFalse(options.isTruncated());
+        assertEquals(DhcpMessageType.ACK, options.getDhcpMessageType());
+        assertEquals(0xC0A8FCFE, options.getServerIdentifier());
+        assertEquals(1800, options.getLeaseTime());
+        assertEquals(0xFFFFFF00, options.getSubnetMask());
+        assertEquals("localdomain", options.getString(DhcpOptionCode.DOMAIN_NAME, null));
+        assertEquals(9, options.size());
+
+        DhcpPacket packet = DhcpPacket.newPacket(raw, 0, raw.length);
+        assertEquals(0x9EA03D7A, packet.getHeader().getXidAsInt());
+        assertEquals(1800, packet.getHeader().getOptionIndex().getLeaseTime());
+        assertEquals(DhcpMessageType.ACK, packet.getOptions().getDhcpMessageType());
+    }
+
+    public void testOptionOverload() throws IllegalRawDataException {
+        byte[] sname = { DhcpOptionCode.HOST_NAME, 3, 'a', 'b', 'c', (byte) DhcpOptionCode.END };
+        byte[] file = { DhcpOptionCode.DOMAIN_NAME, 2, 'x', 'y', (byte) DhcpOptionCode.END };
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        int length = new DhcpPacketWriter().reset(buffer, 0) //
+                .op(1).htype(1).hlen(6).xid(1) //
+                .sname(sname).file(file) //
+                .optionByte(DhcpOptionCode.OPTION_OVERLOAD, DhcpOptionIndex.OVERLOAD_BOTH) //
+                .optionByte(DhcpOptionCode.MESSAGE_TYPE, 1) //
+                .finish();
+
+        DhcpOptionIndex options = DhcpPacketView.wrap(buffer, 0, length).getOptions();
+        assertEquals(DhcpOptionIndex.OVERLOAD_BOTH, options.getOverload());
+        assertEquals("abc", options.getHostName());
+        assertEquals("xy", options.getString(DhcpOptionCode.DOMAIN_NAME, null));
+        assertEquals(1, options.getMessageType());
+    }
+
+    public void testRejectCorruptedIndex() throws IllegalRawDataException {
+        // entry 0: code(1), offset(2), length(1) - PAD
+        assertCorrupted(0, (byte) DhcpOptionCode.PAD);
+        // END
+        assertCorrupted(0, (byte) DhcpOptionCode.END);
+        // 메시지 영역 밖을 가리키는 offset
+        assertCorrupted(1, (byte) 0xFF);
+        // 레코드 끝을 넘어서는 count
+        ByteBuffer record = newRecord();
+        int index = indexPosition(record);
+        record.put(index + 2, (byte) (record.get(index + 2) + 1));
+        try {
+            DhcpPacketCodec.decode(record, 0, new DhcpPacketView());
+            fail("The index exceeds the record.");
+        } catch (IllegalRawDataException expected) {
+        }
+    }
+
+    public void testRoundTrip() throws IllegalRawDataException {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(ACK_HEX);
+        DhcpPacketView view = DhcpPacketView.wrap(ByteBuffer.wrap(raw), 0, raw.length);
+
+        for (boolean withIndex : new boolean[] { true, false }) {
+            ByteBuffer record = ByteBuffer.allocate(1024);
+            int recordLength = DhcpPacketCodec.encode(record, 16, 1234567890123L, view, withIndex);
+            assertEquals(recordLength, DhcpPacketCodec.recordLength(record, 16));
+
+            DhcpPacketView decoded = new DhcpPacketView();
+            assertEquals(1234567890123L, DhcpPacketCodec.decode(record, 16, decoded));
+            assertEquals(raw.length, decoded.getLength());
+            byte[] data = new byte[decoded.getLength()];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = decoded.getBuffer().get(decoded.getOffset() + i);
+            }
+            assertTrue(Arrays.equals(raw, data));
+            assertEquals(view.getOptions().size(), decoded.getOptions().size());
+            for (int i = 0; i < view.getOptions().size(); i++) {
+                int code = view.getOptions().codeAt(i);
+                assertEquals(code, decoded.getOptions().codeAt(i));
+                assertEquals(view.getOptions().getOffset(code) - view.getOffset(), decoded.getOptions().getOffset(code) - decoded.getOffset());
+                assertEquals(view.getOptions().getLength(code), decoded.getOptions().getLength(code));
+            }
+
+            DhcpPacket packet = DhcpPacketCodec.decodePacket(record, 16);
+            assertEquals(0x9EA03D7A, packet.getHeader().getXidAsInt());
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(1024);
+        DhcpPacketCodec.encode(record, 0, DhcpPacketCodec.NO_TIMESTAMP, view, false);
+        assertEquals(DhcpPacketCodec.NO_TIMESTAMP, DhcpPacketCodec.decode(record, 0, new DhcpPacketView()));
+    }
+
+    public void testSerializedForm() throws IOException, ClassNotFoundException, IllegalRawDataException {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(ACK_HEX);
+        DhcpPacket packet = DhcpPacket.newPacket(raw, 0, raw.length);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(packet);
+        }
+        DhcpPacket read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (DhcpPacket) in.readObject();
+        }
+
+        assertEquals(0x9EA03D7A, read.getHeader().getXidAsInt());
+        assertEquals(0x000C29AAC43BL, read.getHeader().getChaddrAsLong());
+        assertEquals(1800, read.getHeader().getOptionIndex().getLeaseTime());
+        assertEquals(DhcpMessageType.ACK, read.getOptions().getDhcpMessageType());
+    }
+
+    public void testWriterRoundTrip() throws IllegalRawDataException {
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        int length = new DhcpPacketWriter().reset(buffer, 0) //
+                .op(1).htype(1).hlen(6).xid(0x1A2B3C4D).secs(3).flags(DhcpPacketView.FLAG_BROADCAST) //
+                .ciaddr(0x0A000001).giaddr(0x0A0000FE).chaddr(0x001122334455L) //
+                .optionByte(DhcpOptionCode.MESSAGE_TYPE, 3) //
+                .option(DhcpOptionCode.HOST_NAME, "host-a".getBytes()) //
+                .optionInt(DhcpOptionCode.REQUESTED_IP_ADDRESS, 0x0A000005) //
+                .finish();
+
+        DhcpPacketView view = DhcpPacketView.wrap(buffer, 0, length);
+        assertEquals(0x1A2B3C4D, view.getXid());
+        assertEquals(3, view.getSecs());
+        assertTrue(view.isBroadcast());
+        assertEquals(0x0A000001, view.getCiaddr());
+        assertEquals(0x0A0000FE, view.getGiaddr());
+        assertEquals("00:11:22:33:44:55", view.getChaddrValue().expr().toUpperCase());
+        assertEquals(DhcpMessageType.REQUEST, view.getOptions().getDhcpMessageType());
+        assertEquals("host-a", view.getOptions().getHostName());
+        assertEquals(0x0A000005, view.getOptions().getRequestedIpAddress());
+    }
+
+    private void assertCorrupted(int entryByte, byte value) throws IllegalRawDataException {
+        ByteBuffer record = newRecord();
+        record.put(indexPosition(record) + 3 + entryByte, value);
+        try {
+            DhcpPacketCodec.decode(record, 0, new DhcpPacketView());
+            fail("The index MUST be rejected. entry.byte=" + entryByte + ", value=" + value);
+        } catch (IllegalRawDataException expected) {
+        }
+    }
+
+    private static int indexPosition(ByteBuffer record) {
+        // prefix(8), timestamp(8), data length(4), data
+        return DhcpPacketCodec.PREFIX_LENGTH + 8 + 4 + record.getInt(DhcpPacketCodec.PREFIX_LENGTH + 8);
+    }
+
+    private static ByteBuffer newRecord() throws IllegalRawDataException {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(ACK_HEX);
+        DhcpPacketView view = DhcpPacketView.wrap(ByteBuffer.wrap(raw), 0, raw.length);
+        ByteBuffer record = ByteBuffer.allocate(1024);
+        DhcpPacketCodec.encode(record, 0, 1L, view, true);
+        return record;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:02:41
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+import open.commons.core.utils.ByteUtils;
+import open.commons.pcap.dhcp.DhcpOptionCode;
+import open.commons.pcap.dhcp.DhcpOptionIndex;
+import open.commons.pcap.dhcp.DhcpPacketFormatter;
+import open.commons.pcap.dhcp.DhcpPacketWriter;
+
+/**
+ * {@link DhcpPacketFormatter} 검증.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class DhcpPacketFormatterTest extends TestCase {
+
+    public void testCompact() {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(DhcpPacketCodecTest.ACK_HEX);
+        String text = DhcpPacketFormatter.COMPACT.toString(ByteBuffer.wrap(raw), 0, raw.length);
+
+        assertTrue(text, text.startsWith("DHCP len=300 op=2 htype=1 hlen=6 hops=0 xid=0x9EA03D7A secs=0 flags=0x0000 ciaddr=0.0.0.0 yiaddr=192.168.252.129"));
+        assertTrue(text, text.contains(" chaddr=00:0C:29:AA:C4:3B sname= file= options={53=05 54=C0A8FCFE 51=00000708 "));
+        assertTrue(text, text.endsWith(" 44=C0A8FC02}"));
+        assertEquals(text, -1, text.indexOf('\n'));
+    }
+
+    public void testMultiLine() {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(DhcpPacketCodecTest.ACK_HEX);
+        String text = DhcpPacketFormatter.MULTI_LINE.toString(ByteBuffer.wrap(raw), 0, raw.length);
+
+        assertTrue(text, text.startsWith("[DHCP Packet (300 bytes)]\n  (op)      OP Code        : 2 (BOOTREPLY)\n"));
+        assertTrue(text, text.contains("  (xid)     Transaction ID : 0x9EA03D7A\n"));
+        assertTrue(text, text.contains("  (yiaddr)  Your IP        : 192.168.252.129\n"));
+        assertTrue(text, text.contains("  (chaddr)  Client H/W     : 00:0C:29:AA:C4:3B\n"));
+        assertTrue(text, text.contains("  (sname)   Server Name    : \n  (file)    Boot File Name : \n"));
+        assertTrue(text, text.contains("\n    [53] 05 (DHCPACK)\n    [54] C0A8FCFE\n"));
+        assertTrue(text, text.contains("\n    [15] 6C6F63616C646F6D61696E\n"));
+    }
+
+    public void testOverloadedFields() throws IOException {
+        byte[] sname = { DhcpOptionCode.HOST_NAME, 3, 'a', 'b', 'c', (byte) DhcpOptionCode.END };
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        int length = new DhcpPacketWriter().reset(buffer, 0) //
+                .op(1).htype(1).hlen(6).xid(1) //
+                .sname(sname).file("boot.img".getBytes("US-ASCII")) //
+                .optionByte(DhcpOptionCode.OPTION_OVERLOAD, DhcpOptionIndex.OVERLOAD_SNAME) //
+                .optionByte(DhcpOptionCode.MESSAGE_TYPE, 1) //
+                .finish();
+
+        String compact = DhcpPacketFormatter.COMPACT.toString(buffer, 0, length);
+        assertTrue(compact, compact.contains(" sname={12=616263} file=boot.img options={52=02 53=01}"));
+
+        String multiLine = DhcpPacketFormatter.MULTI_LINE.toString(buffer, 0, length);
+        assertTrue(multiLine, multiLine.contains("  (sname)   Server Name    : 0x0C03616263FF00"));
+        assertTrue(multiLine, multiLine.contains("\n    [12] 616263\n  (file)    Boot File Name : boot.img\n"));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:58:19
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.pcap4j.packet.IllegalRawDataException;
+
+import junit.framework.TestCase;
+import open.commons.core.utils.ByteUtils;
+import open.commons.pcap.dhcp.DhcpPacketPool;
+import open.commons.pcap.dhcp.DhcpPacketView;
+
+/**
+ * {@link DhcpPacketPool}의 재사용, 반환 이후 사용 검출, 다른 thread 에서의 반환 검증.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class DhcpPacketPoolTest extends TestCase {
+
+    private static final ByteBuffer ACK = ByteBuffer.wrap(ByteUtils.hexBinStringToByteArray(DhcpPacketCodecTest.ACK_HEX));
+
+    public void testCapacity() {
+        DhcpPacketPool pool = new DhcpPacketPool(2, false);
+        DhcpPacketView a = pool.acquire();
+        DhcpPacketView b = pool.acquire();
+        DhcpPacketView c = pool.acquire();
+        a.release();
+        b.release();
+        c.release();
+
+        assertEquals(2, pool.size());
+        assertEquals(3, pool.getAllocatedCount());
+    }
+
+    public void testCrossThreadRelease() throws InterruptedException {
+        final int count = 1000;
+        final int threads = 4;
+        DhcpPacketPool pool = new DhcpPacketPool(count, false);
+        List<DhcpPacketView> views = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            views.add(pool.acquire());
+        }
+
+        // 여러 thread 에서 동시에 반환한다.
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> releasers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<DhcpPacketView> part = views.subList(t * count / threads, (t + 1) * count / threads);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                part.forEach(DhcpPacketView::release);
+            });
+            thread.start();
+            releasers.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : releasers) {
+            thread.join();
+        }
+
+        // 다른 thread 에서 반환한 객체는 acquire() 에서 가져온다.
+        assertEquals(0, pool.size());
+
+        Set<DhcpPacketView> reacquired = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < count; i++) {
+            reacquired.add(pool.acquire());
+        }
+        assertEquals(count, reacquired.size());
+        assertEquals(count, pool.getAllocatedCount());
+        for (DhcpPacketView view : views) {
+            assertTrue(reacquired.contains(view));
+        }
+    }
+
+    public void testForeignView() {
+        DhcpPacketPool pool = new DhcpPacketPool(4, false);
+        DhcpPacketView view = new DhcpPacketPool(4, false).acquire();
+        try {
+            pool.release(view);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testReuse() throws IllegalRawDataException {
+        DhcpPacketPool pool = new DhcpPacketPool(4, false);
+        DhcpPacketView view = pool.acquire().reset(ACK, 0, ACK.limit());
+        assertEquals(0x9EA03D7A, view.getXid());
+        view.release();
+        assertEquals(1, pool.size());
+
+        assertSame(view, pool.acquire());
+        assertEquals(1, pool.getAllocatedCount());
+        assertEquals(0x9EA03D7A, view.reset(ACK, 0, ACK.limit()).getXid());
+    }
+
+    public void testUseAfterRelease() throws IllegalRawDataException {
+        DhcpPacketPool pool = new DhcpPacketPool(4, false);
+        DhcpPacketView view = pool.acquire().reset(ACK, 0, ACK.limit());
+        view.release();
+
+        try {
+            view.getXid();
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            view.release();
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    public void testUseAfterReleaseInDebugMode() throws IllegalRawDataException {
+        DhcpPacketPool pool = new DhcpPacketPool(4, true);
+        DhcpPacketView view = pool.acquire().reset(ACK, 0, ACK.limit());
+        view.release();
+
+        // 반환한 위치를 원인으로 제공한다.
+        try {
+            view.getXid();
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+            assertNotNull(expected.getCause());
+            assertTrue(expected.getCause().getMessage(), expected.getCause().getMessage().startsWith("Released here."));
+        }
+        try {
+            view.reset(ACK, 0, ACK.limit());
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+            assertNotNull(expected.getCause());
+        }
+
+        // 디버그 모드에서는 반환한 객체를 다시 사용하지 않는다.
+        assertEquals(0, pool.size());
+        assertNotSame(view, pool.acquire());
+        assertEquals(2, pool.getAllocatedCount());
+    }
+}
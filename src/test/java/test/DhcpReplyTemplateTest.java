@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 10:34:50
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+import open.commons.core.utils.ByteUtils;
+import open.commons.pcap.dhcp.DhcpOptionCode;
+import open.commons.pcap.dhcp.DhcpReplyTemplate;
+
+/**
+ * {@link DhcpReplyTemplate}가 변경된 부분만으로 갱신한 IPv4/UDP checksum(RFC 1624)이 전체를 다시 계산한 값과 같은지 검증한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class DhcpReplyTemplateTest extends TestCase {
+
+    private static final int IPV4_OFFSET = 14;
+    private static final int UDP_OFFSET = IPV4_OFFSET + 20;
+    private static final int DHCP_OFFSET = UDP_OFFSET + 8;
+
+    public void testChecksumAfterPatch() {
+        // 짝수, 홀수 길이 모두 확인한다. 홀수 길이는 마지막 byte 뒤에 0 을 덧붙여서 계산한다.
+        byte[] raw = ByteUtils.hexBinStringToByteArray(DhcpPacketCodecTest.ACK_HEX);
+        for (int length : new int[] { raw.length, raw.length - 1 }) {
+            DhcpReplyTemplate template = new DhcpReplyTemplate(0x001C42000001L, 0xC0A8FCFE, ByteBuffer.wrap(raw), 0, length);
+            assertChecksums(template.getFrame());
+
+            template.xid(0x12345678);
+            assertChecksums(template.getFrame());
+            template.chaddr(0x0A1B2C3D4E5FL);
+            assertChecksums(template.getFrame());
+            template.yiaddr(0xC0A8FC10);
+            assertChecksums(template.getFrame());
+            template.leaseTime(86400);
+            assertChecksums(template.getFrame());
+            template.optionInt(DhcpOptionCode.SUBNET_MASK, 0xFFFF0000);
+            assertChecksums(template.getFrame());
+            template.destination(0x0A1B2C3D4E5FL, 0xC0A8FC10);
+            assertChecksums(template.getFrame());
+
+            byte[] frame = template.getFrame();
+            ByteBuffer buffer = ByteBuffer.wrap(frame);
+            assertEquals(0x12345678, buffer.getInt(DHCP_OFFSET + 4));
+            assertEquals(0xC0A8FC10, buffer.getInt(DHCP_OFFSET + 16));
+            assertEquals(0xC0A8FC10, buffer.getInt(IPV4_OFFSET + 16));
+        }
+    }
+
+    public void testCopyIsIndependent() {
+        byte[] raw = ByteUtils.hexBinStringToByteArray(DhcpPacketCodecTest.ACK_HEX);
+        DhcpReplyTemplate template = new DhcpReplyTemplate(0x001C42000001L, 0xC0A8FCFE, ByteBuffer.wrap(raw), 0, raw.length);
+        DhcpReplyTemplate copy = template.copy();
+
+        copy.xid(0x01020304).yiaddr(0x0A000001).leaseTime(60);
+        assertChecksums(copy.getFrame());
+        assertChecksums(template.getFrame());
+        assertEquals(0x9EA03D7A, ByteBuffer.wrap(template.getFrame()).getInt(DHCP_OFFSET + 4));
+        assertEquals(0x01020304, ByteBuffer.wrap(copy.getFrame()).getInt(DHCP_OFFSET + 4));
+    }
+
+    /**
+     * IPv4 헤더와 UDP(pseudo header 포함)의 1의 보수 합이 0xFFFF 인지 확인한다.
+     */
+    private static void assertChecksums(byte[] frame) {
+        assertEquals("IPv4 header checksum", 0xFFFF, sum(frame, IPV4_OFFSET, 20, 0));
+
+        int udpLength = ((frame[UDP_OFFSET + 4] & 0xFF) << 8) | (frame[UDP_OFFSET + 5] & 0xFF);
+        int pseudo = sum(frame, IPV4_OFFSET + 12, 8, 0) + 17 + udpLength;
+        assertEquals("UDP checksum", 0xFFFF, sum(frame, UDP_OFFSET, udpLength, pseudo));
+    }
+
+    private static int sum(byte[] data, int offset, int length, int initial) {
+        long sum = initial;
+        for (int i = 0; i < length; i += 2) {
+            int hi = data[offset + i] & 0xFF;
+            int lo = i + 1 < length ? data[offset + i + 1] & 0xFF : 0;
+            sum += (hi << 8) | lo;
+        }
+        while ((sum >>> 16) != 0) {
+            sum = (sum & 0xFFFF) + (sum >>> 16);
+        }
+        return (int) sum;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:59:58
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import junit.framework.TestCase;
+import open.commons.pcap.listener.ListenerRegistry;
+
+/**
+ * {@link ListenerRegistry}에서 이벤트를 전달하는 중에 리스너를 추가/삭제하는 경우를 검증한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ListenerRegistryTest extends TestCase {
+
+    public void testAddRemoveDuringFire() {
+        ListenerRegistry<Consumer<String>> registry = new ListenerRegistry<>();
+        List<String> calls = new ArrayList<>();
+        Consumer<String> c = e -> calls.add("c:" + e);
+        Consumer<String> b = e -> calls.add("b:" + e);
+        AtomicReference<Consumer<String>> a = new AtomicReference<>();
+        a.set(e -> {
+            calls.add("a:" + e);
+            // 전달 중에 자신을 삭제하고 다른 리스너를 추가한다.
+            registry.remove(a.get());
+            registry.add(c);
+        });
+        registry.add(a.get());
+        registry.add(b);
+
+        assertEquals(0, registry.fire("1", Consumer::accept));
+        // 전달 중의 변경은 다음 호출부터 반영된다.
+        assertEquals(Arrays.asList("a:1", "b:1"), calls);
+        assertEquals(Arrays.asList(b, c), registry.snapshot());
+
+        calls.clear();
+        registry.fire("2", Consumer::accept);
+        assertEquals(Arrays.asList("b:2", "c:2"), calls);
+    }
+
+    public void testConcurrentAddRemove() throws InterruptedException {
+        final int threads = 4;
+        final int perThread = 2000;
+        ListenerRegistry<Consumer<Integer>> registry = new ListenerRegistry<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicLong fired = new AtomicLong();
+
+        Thread firer = new Thread(() -> {
+            do {
+                try {
+                    if (registry.fire(1, Consumer::accept) != 0) {
+                        errors.add(new AssertionError("A listener failed."));
+                    }
+                    fired.incrementAndGet();
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            } while (!done.get());
+        });
+        firer.start();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> mutators = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    List<Consumer<Integer>> mine = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        Consumer<Integer> listener = e -> {
+                        };
+                        mine.add(listener);
+                        registry.add(listener);
+                    }
+                    // 절반만 삭제한다.
+                    for (int i = 0; i < perThread; i += 2) {
+                        if (!registry.remove(mine.get(i))) {
+                            errors.add(new AssertionError("The listener was not removed."));
+                        }
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+            thread.start();
+            mutators.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : mutators) {
+            thread.join();
+        }
+        done.set(true);
+        firer.join();
+
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertTrue(fired.get() > 0);
+        assertEquals(threads * perThread / 2, registry.size());
+    }
+
+    public void testFailureCount() {
+        ListenerRegistry<Consumer<String>> registry = new ListenerRegistry<>();
+        List<String> calls = new ArrayList<>();
+        registry.add(e -> {
+            throw new IllegalStateException("fail");
+        });
+        registry.add(calls::add);
+
+        // 예외를 발생시킨 리스너가 있어도 다음 리스너에게 전달한다.
+        assertEquals(1, registry.fire("x", Consumer::accept));
+        assertEquals(Arrays.asList("x"), calls);
+    }
+
+    public void testNullAndDuplicates() {
+        ListenerRegistry<Consumer<String>> registry = new ListenerRegistry<>();
+        List<String> calls = new ArrayList<>();
+        Consumer<String> listener = calls::add;
+
+        registry.add(null);
+        registry.addAll(Arrays.asList(listener, null, listener));
+        assertEquals(2, registry.size());
+
+        registry.fire("x", Consumer::accept);
+        assertEquals(Arrays.asList("x", "x"), calls);
+
+        // 같은 리스너는 하나씩 삭제된다.
+        assertTrue(registry.remove(listener));
+        assertTrue(registry.contains(listener));
+        assertTrue(registry.remove(listener));
+        assertFalse(registry.remove(listener));
+        assertTrue(registry.isEmpty());
+    }
+
+    public void testSnapshotIsUnmodifiable() {
+        ListenerRegistry<Consumer<String>> registry = new ListenerRegistry<>();
+        Consumer<String> listener = e -> {
+        };
+        registry.add(listener);
+
+        List<Consumer<String>> snapshot = registry.snapshot();
+        try {
+            snapshot.clear();
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        // 이후의 변경은 이미 얻은 snapshot 에 반영되지 않는다.
+        registry.clear();
+        assertEquals(1, snapshot.size());
+        assertTrue(registry.isEmpty());
+    }
+}
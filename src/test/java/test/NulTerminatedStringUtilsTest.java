@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:59:47
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import junit.framework.TestCase;
+import open.commons.pcap.raw.NulTerminatedStringUtils;
+
+/**
+ * {@link NulTerminatedStringUtils}의 NUL 처리, 공백 필드, UTF-8 변환 검증.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class NulTerminatedStringUtilsTest extends TestCase {
+
+    public void testBlank() {
+        assertSame(NulTerminatedStringUtils.EMPTY, NulTerminatedStringUtils.decode(new byte[64]));
+        assertSame(NulTerminatedStringUtils.EMPTY, NulTerminatedStringUtils.decode(new byte[0]));
+        // 0x20 이하의 문자만 있는 경우
+        assertSame(NulTerminatedStringUtils.EMPTY, NulTerminatedStringUtils.decode(bytes("  \t\r\n\0boot.img")));
+        assertSame(NulTerminatedStringUtils.EMPTY, NulTerminatedStringUtils.decode(bytes("    ")));
+    }
+
+    public void testInterning() {
+        String first = NulTerminatedStringUtils.decode(bytes("pxe-server\0"));
+        String second = NulTerminatedStringUtils.decode(bytes("pxe-server\0\0\0"));
+        assertEquals("pxe-server", first);
+        assertSame(first, second);
+
+        // direct 버퍼, 다른 위치
+        ByteBuffer direct = ByteBuffer.allocateDirect(32);
+        direct.position(5);
+        direct.put(bytes("pxe-server\0"));
+        assertSame(first, NulTerminatedStringUtils.decode(direct, 5, 27));
+    }
+
+    public void testNulTerminated() {
+        assertEquals("boot.img", NulTerminatedStringUtils.decode(bytes("boot.img\0garbage")));
+        // NUL 이 없는 경우 전체를 사용한다.
+        assertEquals("boot.img", NulTerminatedStringUtils.decode(bytes("boot.img")));
+        // 최대 길이에서 자른다.
+        assertEquals("boot", NulTerminatedStringUtils.decode(bytes("boot.img"), 0, 4));
+        assertEquals("img", NulTerminatedStringUtils.decode(bytes("boot.img\0"), 5, 4));
+        // 공백이 아닌 문자가 있는 경우 앞뒤 공백은 유지한다.
+        assertEquals(" a ", NulTerminatedStringUtils.decode(bytes(" a \0")));
+    }
+
+    public void testUtf8() {
+        String name = "서버-01.예제";
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        byte[] field = new byte[64];
+        System.arraycopy(utf8, 0, field, 0, utf8.length);
+
+        assertEquals(name, NulTerminatedStringUtils.decode(field));
+        // 0x80 이상의 byte 는 공백이 아니다.
+        assertEquals("é", NulTerminatedStringUtils.decode(new byte[] { (byte) 0xC3, (byte) 0xA9, 0 }));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:55:43
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+import open.commons.core.utils.ByteUtils;
+import open.commons.pcap.dhcp.DhcpOptionCode;
+import open.commons.pcap.dhcp.DhcpOptionIndex;
+import open.commons.pcap.dhcp.DhcpPacketWriter;
+import open.commons.pcap.dhcp.RelayAgentInformation;
+import open.commons.pcap.raw.ByteSequenceInterner;
+
+/**
+ * {@link RelayAgentInformation}의 Sub-Option 해석과 Circuit ID, Remote ID 문자열 공유 검증.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class RelayAgentInformationTest extends TestCase {
+
+    private static final byte[] REMOTE_ID = { 0x00, 0x0C, 0x29, (byte) 0xAA, (byte) 0xC4, 0x3B };
+
+    public void testDecode() {
+        ByteBuffer buffer = subOptions(RelayAgentInformation.CIRCUIT_ID, "eth0/1/2".getBytes(), //
+                RelayAgentInformation.REMOTE_ID, REMOTE_ID, //
+                RelayAgentInformation.LINK_SELECTION, new byte[] { (byte) 192, (byte) 168, 1, 0 });
+        RelayAgentInformation info = new RelayAgentInformation(new ByteSequenceInterner(16));
+
+        assertTrue(info.decode(buffer, 0, buffer.limit()));
+        assertFalse(info.isTruncated());
+        assertEquals("eth0/1/2", info.getCircuitId());
+        // 출력할 수 없는 문자가 있는 경우 16진수 문자열
+        assertEquals(ByteUtils.hexBinString("0x", REMOTE_ID), info.getRemoteId());
+        assertTrue(info.hasSubOption(RelayAgentInformation.LINK_SELECTION));
+        assertEquals(2 + 8 + 2 + REMOTE_ID.length + 2, info.getSubOptionOffset(RelayAgentInformation.LINK_SELECTION));
+        assertEquals(4, info.getSubOptionLength(RelayAgentInformation.LINK_SELECTION));
+        assertFalse(info.hasSubOption(RelayAgentInformation.SUBSCRIBER_ID));
+        assertNull(info.getSubOptionAsString(RelayAgentInformation.SUBSCRIBER_ID));
+    }
+
+    public void testDecodeFromIndex() {
+        byte[] value = subOptions(RelayAgentInformation.CIRCUIT_ID, "port-7".getBytes()).array();
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        int length = new DhcpPacketWriter().reset(buffer, 0) //
+                .op(1).htype(1).hlen(6).xid(1) //
+                .optionByte(DhcpOptionCode.MESSAGE_TYPE, 1) //
+                .option(DhcpOptionCode.RELAY_AGENT_INFORMATION, value) //
+                .finish();
+        DhcpOptionIndex options = new DhcpOptionIndex();
+        assertTrue(options.indexMessage(buffer, 0, length));
+
+        RelayAgentInformation info = new RelayAgentInformation();
+        assertTrue(info.decode(options));
+        assertEquals("port-7", info.getCircuitId());
+
+        // Option 82 가 없는 경우 이전 결과를 폐기한다.
+        ByteBuffer other = ByteBuffer.allocate(512);
+        length = new DhcpPacketWriter().reset(other, 0).op(1).htype(1).hlen(6).xid(2).optionByte(DhcpOptionCode.MESSAGE_TYPE, 1).finish();
+        assertTrue(options.indexMessage(other, 0, length));
+        assertFalse(info.decode(options));
+        assertNull(info.getCircuitId());
+    }
+
+    public void testInterning() {
+        ByteSequenceInterner interner = new ByteSequenceInterner(16);
+        RelayAgentInformation info = new RelayAgentInformation(interner);
+
+        // 같은 내용의 서로 다른 버퍼
+        ByteBuffer first = subOptions(RelayAgentInformation.CIRCUIT_ID, "eth0/1/2".getBytes());
+        ByteBuffer second = ByteBuffer.allocate(first.limit() + 3);
+        second.position(3);
+        second.put(first.duplicate());
+
+        assertTrue(info.decode(first, 0, first.limit()));
+        String circuitId = info.getCircuitId();
+        assertTrue(info.decode(second, 3, first.limit()));
+        assertSame(circuitId, info.getCircuitId());
+
+        // 다른 캐시를 사용하는 경우 같은 객체가 아니다.
+        RelayAgentInformation other = new RelayAgentInformation(new ByteSequenceInterner(16));
+        assertTrue(other.decode(first, 0, first.limit()));
+        assertEquals(circuitId, other.getCircuitId());
+        assertNotSame(circuitId, other.getCircuitId());
+    }
+
+    public void testTruncatedSubOption() {
+        RelayAgentInformation info = new RelayAgentInformation(new ByteSequenceInterner(16));
+
+        // Remote ID 의 길이(6)가 영역을 벗어난다.
+        ByteBuffer buffer = subOptions(RelayAgentInformation.CIRCUIT_ID, "eth0".getBytes(), RelayAgentInformation.REMOTE_ID, REMOTE_ID);
+        assertTrue(info.decode(buffer, 0, buffer.limit() - 1));
+        assertTrue(info.isTruncated());
+        assertEquals("eth0", info.getCircuitId());
+        assertFalse(info.hasSubOption(RelayAgentInformation.REMOTE_ID));
+        assertNull(info.getRemoteId());
+
+        // Sub-Option 코드만 있고 길이가 없다.
+        assertTrue(info.decode(buffer, 0, 2 + 4 + 1));
+        assertTrue(info.isTruncated());
+        assertEquals("eth0", info.getCircuitId());
+
+        // 첫번째 Sub-Option 부터 잘린 경우
+        assertFalse(info.decode(buffer, 0, 3));
+        assertTrue(info.isTruncated());
+        assertNull(info.getCircuitId());
+
+        // 다시 해석하면 이전 상태는 폐기된다.
+        assertTrue(info.decode(buffer, 0, buffer.limit()));
+        assertFalse(info.isTruncated());
+        assertEquals(ByteUtils.hexBinString("0x", REMOTE_ID), info.getRemoteId());
+    }
+
+    /**
+     * 주어진 (코드, 값) 쌍으로 Option 82 값(value)을 생성한다.
+     */
+    private static ByteBuffer subOptions(Object... pairs) {
+        ByteBuffer buffer = ByteBuffer.allocate(255);
+        for (int i = 0; i < pairs.length; i += 2) {
+            byte[] value = (byte[]) pairs[i + 1];
+            buffer.put((byte) (int) (Integer) pairs[i]);
+            buffer.put((byte) value.length);
+            buffer.put(value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-pcap".
+ *
+ * Date  : 2026. 10. 17. 오후 11:21:37
+ *
+ * Author: Park_Jun_Hong_(parkjunhong77@gmail.com)
+ * 
+ */
+
+package test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import junit.framework.TestCase;
+import open.commons.pcap.listener.OverflowPolicy;
+import open.commons.pcap.listener.ShardedDispatcher;
+
+/**
+ * {@link ShardedDispatcher}가 같은 key 의 항목을 수신한 순서대로 전달하는지 검증한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 0.2.0
+ * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+ */
+public class ShardedDispatcherTest extends TestCase {
+
+    private static final int LANES = 4;
+    private static final int KEYS = 16;
+    private static final int ITEMS_PER_KEY = 500;
+
+    private ExecutorService executor;
+
+    public void testLanesExceedingPoolSize() {
+        ExecutorService pool = Executors.newFixedThreadPool(LANES - 1);
+        try {
+            new ShardedDispatcher<Integer>(pool, LANES, 16, OverflowPolicy.BLOCK, Integer::intValue, item -> {
+            });
+            fail("The lanes exceed the pool size.");
+        } catch (IllegalArgumentException expected) {
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public void testPerKeyOrdering() throws InterruptedException {
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        // 항목: key * ITEMS_PER_KEY + 순번
+        ShardedDispatcher<Integer> dispatcher = new ShardedDispatcher<>(this.executor, LANES, 8, OverflowPolicy.BLOCK, item -> item / ITEMS_PER_KEY, item -> {
+            // lane 마다 처리 시간을 다르게 하여 lane 간 순서를 섞는다.
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(20_000));
+            received.computeIfAbsent(item / ITEMS_PER_KEY, k -> new CopyOnWriteArrayList<>()).add(item % ITEMS_PER_KEY);
+        });
+        dispatcher.start();
+
+        for (int seq = 0; seq < ITEMS_PER_KEY; seq++) {
+            for (int key = 0; key < KEYS; key++) {
+                assertTrue(dispatcher.dispatch(key * ITEMS_PER_KEY + seq));
+            }
+        }
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(KEYS * ITEMS_PER_KEY, dispatcher.getDeliveredCount());
+        assertEquals(KEYS, received.size());
+        for (Map.Entry<Integer, List<Integer>> entry : received.entrySet()) {
+            List<Integer> seqs = entry.getValue();
+            assertEquals(ITEMS_PER_KEY, seqs.size());
+            for (int i = 0; i < seqs.size(); i++) {
+                assertEquals("key=" + entry.getKey(), i, seqs.get(i).intValue());
+            }
+        }
+    }
+
+    public void testSameKeySameLane() {
+        ShardedDispatcher<Integer> dispatcher = new ShardedDispatcher<>(this.executor, LANES, 8, OverflowPolicy.BLOCK, item -> item / ITEMS_PER_KEY, item -> {
+        });
+        assertEquals(LANES, dispatcher.getLaneCount());
+        for (int key = 0; key < KEYS; key++) {
+            int lane = dispatcher.laneOf(key * ITEMS_PER_KEY);
+            assertTrue(lane >= 0 && lane < LANES);
+            for (int seq = 1; seq < ITEMS_PER_KEY; seq += 97) {
+                assertEquals(lane, dispatcher.laneOf(key * ITEMS_PER_KEY + seq));
+            }
+        }
+    }
+
+    /**
+     * @see junit.framework.TestCase#setUp()
+     */
+    @Override
+    protected void setUp() throws Exception {
+        this.executor = Executors.newFixedThreadPool(LANES);
+    }
+
+    /**
+     * @see junit.framework.TestCase#tearDown()
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        this.executor.shutdownNow();
+    }
+}